@@ -6,9 +6,7 @@ import java.awt.*;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
 import java.io.File; 
-import java.util.Map;
-import java.util.Locale;
-import java.text.NumberFormat;
+import java.time.LocalDate;
 
 
 public class AnalysisView extends JDialog implements ActionListener { 
@@ -16,11 +14,25 @@ public class AnalysisView extends JDialog implements ActionListener {
     private final User currentUser;
     private final int year;
     private final int month;
+    private static final int TREND_YEARS = 10; // 일별 추이 탭에 표시하는 연도 수
     private final TransactionDao transactionDao = new TransactionDao();
+    private MonthSnapshot snapshot; // 이번 달 거래 내역 + 합계 (월별 탭, 비교, Excel 출력에서 공유)
     
     private JButton exportExcelBtn; // Excel 출력 버튼 필드
+    private JButton exportYearExcelBtn; // 연간 내역 Excel 출력 버튼 (DB에서 스트리밍)
     private JButton compareMonthBtn; // 👈 [추가] 지난 달 비교 버튼 필드
 
+    // 탭 내용은 DB 조회가 끝난 뒤 채움 (조회는 EDT 밖에서 실행)
+    private final JPanel monthlyTab = createLoadingPanel();
+    private final JPanel yearlyTab = createLoadingPanel();
+    private final JPanel trendTab = createLoadingPanel();
+    private final LatestRequest monthRequest = new LatestRequest();
+    private final LatestRequest yearRequest = new LatestRequest();
+    private final LatestRequest trendRequest = new LatestRequest();
+    private boolean trendRequested = false; // 일별 추이는 탭을 처음 열 때 조회
+    private final LatestRequest compareRequest = new LatestRequest();
+    private final LatestRequest exportRequest = new LatestRequest();
+
     public AnalysisView(JFrame owner, User user, int year, int month) {
         // 👈 [수정] 제목에서 '월'을 제거하고 '연도'만 표시
         super(owner, String.format("%d년 분석", year), true); 
@@ -36,12 +48,18 @@ public class AnalysisView extends JDialog implements ActionListener {
         JTabbedPane tabbedPane = new JTabbedPane();
 
         // --- 2. [월별 분석] 탭 (기존 내용) ---
-        JPanel monthlyTabPanel = createMonthlyTabPanel();
-        tabbedPane.addTab(String.format("%d월 분석", month), monthlyTabPanel);
+        tabbedPane.addTab(String.format("%d월 분석", month), monthlyTab);
 
         // --- 3. [연간 분석] 탭 (새로운 내용) ---
-        JPanel yearlyTabPanel = createYearlyTabPanel();
-        tabbedPane.addTab(String.format("%d년 전체 분석", year), yearlyTabPanel);
+        tabbedPane.addTab(String.format("%d년 전체 분석", year), yearlyTab);
+
+        // --- 3-1. [일별 추이] 탭 (최근 10년 일별 그래프, 확대/이동 가능) ---
+        tabbedPane.addTab("일별 추이 (10년)", trendTab);
+        tabbedPane.addChangeListener(e -> {
+            if (tabbedPane.getSelectedComponent() == trendTab) {
+                loadTrend();
+            }
+        });
 
         // --- 4. 메인 프레임에 탭 패널 추가 ---
         add(tabbedPane, BorderLayout.CENTER);
@@ -56,29 +74,122 @@ public class AnalysisView extends JDialog implements ActionListener {
         exportExcelBtn = new JButton("월별 내역 Excel로 출력");
         exportExcelBtn.addActionListener(this);
 
+        exportYearExcelBtn = new JButton("연간 내역 Excel로 출력");
+        exportYearExcelBtn.addActionListener(this);
+
         southPanel.add(compareMonthBtn); // 👈 [추가]
         southPanel.add(exportExcelBtn);
+        southPanel.add(exportYearExcelBtn);
         add(southPanel, BorderLayout.SOUTH);
 
+        // 스냅샷이 로드되기 전에는 비교/출력 불가
+        compareMonthBtn.setEnabled(false);
+        exportExcelBtn.setEnabled(false);
+
+        // --- 6. 데이터 비동기 로드 (모달 다이얼로그이므로 setVisible 전에 시작) ---
+        loadData();
+
         setVisible(true);
     }
+
+    /**
+     * 월별/연간 데이터를 비동기로 불러와 각 탭을 채웁니다.
+     */
+    private void loadData() {
+        int userId = currentUser.getUserId();
+
+        // 월 스냅샷 1회로 유형별/카테고리별 합계를 모두 얻음
+        monthRequest.run(transactionDao.getMonthSnapshotAsync(userId, year, month),
+            loaded -> {
+                snapshot = loaded;
+                showTabContent(monthlyTab, createMonthlyTabPanel());
+                compareMonthBtn.setEnabled(true);
+                exportExcelBtn.setEnabled(true);
+            },
+            error -> showTabError(monthlyTab, error));
+
+        yearRequest.run(transactionDao.getYearlySummaryAsync(userId, year),
+            yearlyData -> showTabContent(yearlyTab, createYearlyTabPanel(yearlyData)),
+            error -> showTabError(yearlyTab, error));
+    }
+
+    /**
+     * 일별 추이 탭을 처음 열 때 10년치 일별 합계를 비동기로 불러옵니다. (탭을 열지 않으면 조회하지 않음)
+     */
+    private void loadTrend() {
+        if (trendRequested) {
+            return;
+        }
+        trendRequested = true;
+        int userId = currentUser.getUserId();
+
+        // 10년치 일별 합계도 구간 집계 1회로 조회 (연도별로 나누어 조회하지 않음)
+        LocalDate trendFrom = LocalDate.of(year - TREND_YEARS + 1, 1, 1);
+        LocalDate trendTo = LocalDate.of(year + 1, 1, 1);
+        trendRequest.run(transactionDao.getRangeSummaryAsync(userId, trendFrom, trendTo,
+                RangeSummary.Granularity.DAY, RangeSummary.GroupBy.CATEGORY),
+            summary -> {
+                if (summary == null) {
+                    showTabError(trendTab, new IllegalStateException("구간 합계 조회 실패"));
+                    return;
+                }
+                showTabContent(trendTab, new TrendChartPanel(
+                    String.format("%d ~ %d년 일별 수입/지출 추이", trendFrom.getYear(), year), summary));
+            },
+            error -> showTabError(trendTab, error));
+    }
+
+    /**
+     * 다이얼로그를 닫으면 아직 도착하지 않은 조회 결과는 반영하지 않습니다.
+     */
+    @Override
+    public void dispose() {
+        monthRequest.cancel();
+        yearRequest.cancel();
+        trendRequest.cancel();
+        compareRequest.cancel();
+        exportRequest.cancel();
+        super.dispose();
+    }
+
+    /**
+     * "불러오는 중..." 문구를 표시하는 탭 자리 패널을 생성합니다.
+     */
+    private static JPanel createLoadingPanel() {
+        JPanel panel = new JPanel(new BorderLayout());
+        panel.add(new JLabel("불러오는 중...", SwingConstants.CENTER), BorderLayout.CENTER);
+        return panel;
+    }
+
+    private void showTabContent(JPanel tab, JComponent content) {
+        tab.removeAll();
+        tab.add(content, BorderLayout.CENTER);
+        tab.revalidate();
+        tab.repaint();
+    }
+
+    private void showTabError(JPanel tab, Throwable error) {
+        System.err.println("분석 데이터 로드 중 오류 발생: " + error.getMessage());
+        showTabContent(tab, new JLabel("데이터를 불러오지 못했습니다.", SwingConstants.CENTER));
+    }
     
     /**
      * 👈 [신규] 월별 분석 탭 UI를 생성합니다. (기존 생성자 코드를 분리)
      */
     private JPanel createMonthlyTabPanel() {
-        // 1. 데이터 로드
-        Map<String, Double> monthlySummary = transactionDao.getMonthlySummary(currentUser.getUserId(), year, month);
-        Map<String, Double> expenseCategorySummary = transactionDao.getCategorySummary(currentUser.getUserId(), year, month, "지출");
+        // 1. 로드된 월 스냅샷에서 유형별/카테고리별 합계를 얻음
+        LedgerTotals monthlySummary = snapshot.getTotals();
+        long income = monthlySummary.typeTotal(CategoryRegistry.TYPE_INCOME);
+        long expense = monthlySummary.typeTotal(CategoryRegistry.TYPE_EXPENSE);
         
         // 2. 상단 요약 패널
-        JPanel summaryPanel = createSummaryPanel(monthlySummary);
+        JPanel summaryPanel = createSummaryPanel(income, expense);
         
         // 3. 차트 패널 (Pie, Bar)
         JSplitPane monthlyChartPane = new JSplitPane(
             JSplitPane.HORIZONTAL_SPLIT,
-            new PieChartPanel("지출 카테고리 분석 (원그래프)", expenseCategorySummary, monthlySummary.getOrDefault("지출", 0.0)),
-            new BarChartPanel("수입/지출 비교 (막대 차트)", monthlySummary)
+            createExpensePieChart(monthlySummary, expense),
+            createIncomeExpenseBarChart(income, expense)
         );
         monthlyChartPane.setDividerLocation(480);
         monthlyChartPane.setOneTouchExpandable(true);
@@ -92,39 +203,64 @@ public class AnalysisView extends JDialog implements ActionListener {
         return monthlyTabPanel;
     }
     
+    /**
+     * 지출 카테고리별 합계로 원그래프를 생성합니다. (카테고리 번호 순, ChartReportRenderer와 공유)
+     */
+    static PieChartPanel createExpensePieChart(LedgerTotals totals, long expense) {
+        CategoryRegistry registry = CategoryRegistry.get();
+        int[] count = new int[1];
+        totals.forEachCategory(CategoryRegistry.TYPE_EXPENSE, (categoryId, amount) -> count[0]++);
+
+        String[] labels = new String[count[0]];
+        long[] amounts = new long[count[0]];
+        int[] next = new int[1];
+        totals.forEachCategory(CategoryRegistry.TYPE_EXPENSE, (categoryId, amount) -> {
+            labels[next[0]] = registry.displayName(categoryId);
+            amounts[next[0]++] = amount;
+        });
+        return new PieChartPanel("지출 카테고리 분석 (원그래프)", labels, amounts, expense);
+    }
+
+    /**
+     * 수입/지출 막대 차트를 생성합니다. (ChartReportRenderer와 공유)
+     */
+    static BarChartPanel createIncomeExpenseBarChart(long income, long expense) {
+        return new BarChartPanel("수입/지출 비교 (막대 차트)", income, expense);
+    }
+
+    /**
+     * 연간 월별 수입/지출 선 그래프를 생성합니다. (ChartReportRenderer와 공유)
+     */
+    static YearlyLineChartPanel createYearlyChart(int year, long[][] yearlyData) {
+        return new YearlyLineChartPanel(String.format("%d년 수입/지출 추이 (선 그래프)", year), yearlyData);
+    }
+    
     /**
      * 👈 [신규] 연간 분석 탭 UI를 생성합니다.
      */
-    private JPanel createYearlyTabPanel() {
-        // 1. 연간 데이터 로드 (새 DAO 메서드)
-        Map<String, double[]> yearlyData = transactionDao.getYearlySummary(currentUser.getUserId(), year);
+    private JPanel createYearlyTabPanel(long[][] yearlyData) {
+        // 1. 연간 데이터 (loadData()에서 비동기로 로드됨)
         
         // 2. 연간 차트 패널 (Line) (새 클래스)
         // (주의: YearlyLineChartPanel.java 파일이 프로젝트에 있어야 함)
-        YearlyLineChartPanel yearlyChartPanel = new YearlyLineChartPanel(
-            String.format("%d년 수입/지출 추이 (선 그래프)", year), yearlyData
-        );
+        YearlyLineChartPanel yearlyChartPanel = createYearlyChart(year, yearlyData);
         
         return yearlyChartPanel;
     }
 
     /**
-     * 월별 총액 요약을 표시하는 패널을 생성합니다. (수정 없음)
+     * 월별 총액 요약을 표시하는 패널을 생성합니다. (금액은 Money 최소 단위)
      */
-    private JPanel createSummaryPanel(Map<String, Double> summary) {
+    private JPanel createSummaryPanel(long income, long expense) {
         JPanel panel = new JPanel(new FlowLayout(FlowLayout.CENTER, 40, 10));
         panel.setBackground(new Color(240, 240, 255));
         panel.setPreferredSize(new Dimension(800, 40)); 
 
-        NumberFormat nf = NumberFormat.getNumberInstance(Locale.KOREA);
+        long net = income - expense;
         
-        double income = summary.getOrDefault("수입", 0.0);
-        double expense = summary.getOrDefault("지출", 0.0);
-        double net = income - expense;
-        
-        JLabel incomeLabel = new JLabel("총 수입: " + nf.format(income) + "원");
-        JLabel expenseLabel = new JLabel("총 지출: " + nf.format(expense) + "원");
-        JLabel netLabel = new JLabel("순자산: " + nf.format(net) + "원");
+        JLabel incomeLabel = new JLabel("총 수입: " + Money.format(income) + "원");
+        JLabel expenseLabel = new JLabel("총 지출: " + Money.format(expense) + "원");
+        JLabel netLabel = new JLabel("순자산: " + Money.format(net) + "원");
 
         incomeLabel.setForeground(Color.BLUE);
         expenseLabel.setForeground(Color.RED);
@@ -144,6 +280,8 @@ public class AnalysisView extends JDialog implements ActionListener {
     public void actionPerformed(ActionEvent e) {
         if (e.getSource() == exportExcelBtn) {
             handleExportExcel();
+        } else if (e.getSource() == exportYearExcelBtn) {
+            handleExportYearExcel();
         } else if (e.getSource() == compareMonthBtn) { // 👈 [추가]
             handleCompareMonth();
         }
@@ -153,8 +291,8 @@ public class AnalysisView extends JDialog implements ActionListener {
      * 👈 [신규] 지난 달과 이번 달의 요약을 비교하는 다이얼로그를 엽니다.
      */
     private void handleCompareMonth() {
-        // 1. 현재 월 데이터
-        Map<String, Double> currentSummary = transactionDao.getMonthlySummary(currentUser.getUserId(), year, month);
+        // 1. 현재 월 데이터 (이미 로드된 스냅샷 사용)
+        LedgerTotals currentSummary = snapshot.getTotals();
 
         // 2. 지난 달 계산
         int prevYear = year;
@@ -164,39 +302,56 @@ public class AnalysisView extends JDialog implements ActionListener {
             prevYear--;
         }
 
-        // 3. 지난 달 데이터 로드
-        Map<String, Double> prevSummary = transactionDao.getMonthlySummary(currentUser.getUserId(), prevYear, prevMonth);
-        
-        double currentIncome = currentSummary.getOrDefault("수입", 0.0);
-        double currentExpense = currentSummary.getOrDefault("지출", 0.0);
-        double prevIncome = prevSummary.getOrDefault("수입", 0.0);
-        double prevExpense = prevSummary.getOrDefault("지출", 0.0);
+        // 3. 지난 달 데이터 로드 (비동기, 도착하면 비교 다이얼로그 표시)
+        int comparedYear = prevYear;
+        int comparedMonth = prevMonth;
+        compareMonthBtn.setEnabled(false);
+        compareRequest.run(transactionDao.getMonthlySummaryAsync(currentUser.getUserId(), prevYear, prevMonth),
+            prevSummary -> {
+                compareMonthBtn.setEnabled(true);
+                showCompareDialog(currentSummary, prevSummary, comparedYear, comparedMonth);
+            },
+            error -> {
+                compareMonthBtn.setEnabled(true);
+                JOptionPane.showMessageDialog(this, "지난 달 데이터를 불러오지 못했습니다: " + error.getMessage(),
+                    "오류", JOptionPane.ERROR_MESSAGE);
+            });
+    }
+
+    /**
+     * 이번 달과 지난 달 요약을 비교 다이얼로그로 표시합니다.
+     */
+    private void showCompareDialog(LedgerTotals currentSummary, LedgerTotals prevSummary, int prevYear, int prevMonth) {
+        long currentIncome = currentSummary.typeTotal(CategoryRegistry.TYPE_INCOME);
+        long currentExpense = currentSummary.typeTotal(CategoryRegistry.TYPE_EXPENSE);
+        long prevIncome = prevSummary.typeTotal(CategoryRegistry.TYPE_INCOME);
+        long prevExpense = prevSummary.typeTotal(CategoryRegistry.TYPE_EXPENSE);
 
         // 4. 비교 결과를 HTML로 포맷팅
         String message = String.format(
             "<html><h3>%d년 %d월 (지난달) vs %d년 %d월 (이번달)</h3>" +
             "<hr>" +
             "<b>총 수입:</b><br>" +
-            " - 이번 달: %,.0f 원<br>" +
-            " - 지난 달: %,.0f 원<br>" +
-            " - 차이: <font color='%s'>%,.0f 원</font><br>" +
+            " - 이번 달: %s 원<br>" +
+            " - 지난 달: %s 원<br>" +
+            " - 차이: <font color='%s'>%s 원</font><br>" +
             "<hr>" +
             "<b>총 지출:</b><br>" +
-            " - 이번 달: %,.0f 원<br>" +
-            " - 지난 달: %,.0f 원<br>" +
-            " - 차이: <font color='%s'>%,.0f 원</font><br>" +
+            " - 이번 달: %s 원<br>" +
+            " - 지난 달: %s 원<br>" +
+            " - 차이: <font color='%s'>%s 원</font><br>" +
             "<hr>" +
             "<b>순자산 (수입-지출):</b><br>" +
-            " - 이번 달: %,.0f 원<br>" +
-            " - 지난 달: %,.0f 원</html>",
+            " - 이번 달: %s 원<br>" +
+            " - 지난 달: %s 원</html>",
             prevYear, prevMonth, year, month,
-            currentIncome, prevIncome,
-            (currentIncome >= prevIncome ? "blue" : "red"), (currentIncome - prevIncome),
-            currentExpense, prevExpense,
+            Money.format(currentIncome), Money.format(prevIncome),
+            (currentIncome >= prevIncome ? "blue" : "red"), Money.format(currentIncome - prevIncome),
+            Money.format(currentExpense), Money.format(prevExpense),
             // 지출은 (이번달 - 지난달)이 음수(줄어든 것)일 때 파란색
-            (currentExpense <= prevExpense ? "blue" : "red"), (currentExpense - prevExpense), 
-            (currentIncome - currentExpense),
-            (prevIncome - prevExpense)
+            (currentExpense <= prevExpense ? "blue" : "red"), Money.format(currentExpense - prevExpense), 
+            Money.format(currentIncome - currentExpense),
+            Money.format(prevIncome - prevExpense)
         );
 
         JOptionPane.showMessageDialog(this, message, "월별 비교", JOptionPane.INFORMATION_MESSAGE);
@@ -206,10 +361,8 @@ public class AnalysisView extends JDialog implements ActionListener {
      * 현재 월의 거래 내역을 조회하고 ExcelExporter를 호출합니다. (수정 없음)
      */
     private void handleExportExcel() {
-        // 1. 현재 월의 모든 상세 거래 내역 조회
-        java.util.List<Transaction> transactions = transactionDao.findByMonthAndUser(
-            currentUser.getUserId(), this.year, this.month
-        );
+        // 1. 현재 월의 모든 상세 거래 내역 (이미 로드된 스냅샷 사용)
+        java.util.List<Transaction> transactions = snapshot.getTransactions();
         
         if (transactions.isEmpty()) {
             JOptionPane.showMessageDialog(this, "출력할 거래 내역이 없습니다.", "경고", JOptionPane.WARNING_MESSAGE);
@@ -236,60 +389,99 @@ public class AnalysisView extends JDialog implements ActionListener {
             }
         }
     }
+
+    /**
+     * [신규 추가] 올해 전체 거래 내역을 Excel로 출력합니다.
+     * 스냅샷 대신 DB에서 한 페이지씩 읽어 바로 파일에 쓰므로(ExcelExporter.exportRange) 내역이 많아도 메모리를 적게 씁니다.
+     */
+    private void handleExportYearExcel() {
+        JFileChooser fileChooser = new JFileChooser();
+        fileChooser.setDialogTitle(String.format("%d년 내역 저장", year));
+        fileChooser.setSelectedFile(new File(String.format("가계부_%d년_내역.xlsx", year)));
+        if (fileChooser.showSaveDialog(this) != JFileChooser.APPROVE_OPTION) {
+            return;
+        }
+        String filePath = fileChooser.getSelectedFile().getAbsolutePath();
+        int userId = currentUser.getUserId();
+        LocalDate from = LocalDate.of(year, 1, 1);
+        LocalDate to = from.plusYears(1);
+
+        exportYearExcelBtn.setEnabled(false);
+        exportRequest.run(DbExecutor.supply(() -> new ExcelExporter().exportRange(transactionDao, userId, from, to, filePath)),
+            errorMessage -> {
+                exportYearExcelBtn.setEnabled(true);
+                if (errorMessage == null) {
+                    JOptionPane.showMessageDialog(this, "Excel 파일이 성공적으로 저장되었습니다.", "저장 완료", JOptionPane.INFORMATION_MESSAGE);
+                } else {
+                    JOptionPane.showMessageDialog(this, errorMessage, "오류", JOptionPane.ERROR_MESSAGE);
+                }
+            },
+            error -> {
+                exportYearExcelBtn.setEnabled(true);
+                JOptionPane.showMessageDialog(this, "Excel 파일을 저장하지 못했습니다: " + error.getMessage(),
+                    "오류", JOptionPane.ERROR_MESSAGE);
+            });
+    }
 }
 
-// ---------------------- PieChartPanel 클래스 정의 (수정 없음) ----------------------
+// ---------------------- PieChartPanel 클래스 정의 ----------------------
+
+class PieChartPanel extends CachedChartPanel {
+    // 조각 색 (paint마다 Color.decode 하지 않도록 한 번만 변환)
+    private static final Color[] COLORS = {
+        Color.decode("#FF6347"), Color.decode("#4682B4"), Color.decode("#3CB371"), Color.decode("#FFD700"),
+        Color.decode("#9370DB"), Color.decode("#FFA07A"), Color.decode("#6A5ACD"), Color.decode("#8FBC8F")
+    };
 
-class PieChartPanel extends JPanel {
     private final String title;
-    private final Map<String, Double> data;
-    private final double total;
-    private final String[] colors = {"#FF6347", "#4682B4", "#3CB371", "#FFD700", "#9370DB", "#FFA07A", "#6A5ACD", "#8FBC8F"};
+    private final long[] values;         // 조각 금액 (Money 최소 단위)
+    private final String[] legendLabels; // 범례 문구 ("식비: 12,000원 (35.0%)", values와 같은 순서)
+    private final long total;
 
-    public PieChartPanel(String title, Map<String, Double> data, double total) {
+    public PieChartPanel(String title, String[] labels, long[] values, long total) {
         this.title = title;
-        this.data = data;
+        this.values = values;
         this.total = total;
+        this.legendLabels = new String[values.length];
+        for (int i = 0; i < values.length && total > 0; i++) {
+            double percent = (double) values[i] / total;
+            legendLabels[i] = labels[i] + ": " + Money.format(values[i]) + String.format("원 (%.1f%%)", percent * 100);
+        }
         // TitledBorder 사용 시 import javax.swing.border.TitledBorder 필요
         setBorder(BorderFactory.createTitledBorder(title)); 
     }
 
     @Override
-    protected void paintComponent(Graphics g) {
-        super.paintComponent(g);
-        Graphics2D g2d = (Graphics2D) g;
+    protected void paintChart(Graphics2D g2d, int width, int height) {
         g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
 
-        if (total <= 0 || data.isEmpty()) {
-            g.drawString("지출 내역이 없습니다.", getWidth() / 2 - 50, getHeight() / 2);
+        if (total <= 0 || values.length == 0) {
+            g2d.drawString("지출 내역이 없습니다.", width / 2 - 50, height / 2);
             return;
         }
         
         // 🚨 차트 영역 설정: 범례 공간 확보
         // 이 로직은 JSplitPane 덕분에 부모로부터 충분한 너비를 받으므로 잘 동작합니다.
-        int legendWidth = (int)(getWidth() * 0.45); // 범례 공간 45% 확보
-        int chartAreaWidth = getWidth() - legendWidth;
-        int size = Math.min(chartAreaWidth, getHeight()) - 40; 
+        int legendWidth = (int)(width * 0.45); // 범례 공간 45% 확보
+        int chartAreaWidth = width - legendWidth;
+        int size = Math.min(chartAreaWidth, height) - 40; 
         int x = (chartAreaWidth - size) / 2;
-        int y = getHeight() / 2 - size / 2;
+        int y = height / 2 - size / 2;
 
         double currentAngle = 0;
         int colorIndex = 0;
-        NumberFormat nf = NumberFormat.getNumberInstance(Locale.KOREA);
-        
         // 범례 시작 위치
         int legendX = chartAreaWidth + 10;
         int legendY = 30; 
 
         // 원그래프 그리기 및 범례 표시
-        for (Map.Entry<String, Double> entry : data.entrySet()) {
-            double value = entry.getValue();
-            double percent = value / total;
+        for (int i = 0; i < values.length; i++) {
+            long value = values[i];
+            double percent = (double) value / total;
             int angle = (int) Math.round(percent * 360);
 
             // 원그래프
-            Color color = Color.decode(colors[colorIndex % colors.length]);
-            g2d.setColor(color);
+            g2d.setColor(COLORS[colorIndex % COLORS.length]);
             g2d.fillArc(x, y, size, size, (int) currentAngle, angle);
             
             // 범례 표시
@@ -300,7 +492,7 @@ class PieChartPanel extends JPanel {
             g2d.setColor(Color.BLACK);
             
             // 범례 텍스트
-            g2d.drawString(entry.getKey() + ": " + nf.format(value) + String.format("원 (%.1f%%)", percent * 100), legendX + 15, currentLegendY + 10);
+            g2d.drawString(legendLabels[i], legendX + 15, currentLegendY + 10);
 
             currentAngle += angle;
             colorIndex++;
@@ -308,46 +500,46 @@ class PieChartPanel extends JPanel {
     }
 }
 
-// ---------------------- BarChartPanel 클래스 정의 (수정 없음) ----------------------
+// ---------------------- BarChartPanel 클래스 정의 ----------------------
 
-class BarChartPanel extends JPanel {
+class BarChartPanel extends CachedChartPanel {
     private final String title;
-    private final Map<String, Double> data;
+    private final long income;  // Money 최소 단위
+    private final long expense;
+    private final String incomeStr;  // 막대 위 금액 레이블 (한 번만 포맷)
+    private final String expenseStr;
 
-    public BarChartPanel(String title, Map<String, Double> data) {
+    public BarChartPanel(String title, long income, long expense) {
         this.title = title;
-        this.data = data;
+        this.income = income;
+        this.expense = expense;
+        this.incomeStr = Money.format(income);
+        this.expenseStr = Money.format(expense);
         setBorder(BorderFactory.createTitledBorder(title));
     }
 
     @Override
-    protected void paintComponent(Graphics g) {
-        super.paintComponent(g);
-        Graphics2D g2d = (Graphics2D) g;
+    protected void paintChart(Graphics2D g2d, int width, int height) {
         g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
         
         // Padding 증가 (글씨 잘림 해결)
         int padding = 60; 
         int barWidth = 40;
-        int chartHeight = getHeight() - 2 * padding;
-        int chartWidth = getWidth() - 2 * padding;
+        int chartHeight = height - 2 * padding;
+        int chartWidth = width - 2 * padding;
 
-        double income = data.getOrDefault("수입", 0.0);
-        double expense = data.getOrDefault("지출", 0.0);
-        double max = Math.max(income, expense);
+        long max = Math.max(income, expense);
 
         if (max <= 0) {
-            g.drawString("내역이 없습니다.", getWidth() / 2 - 50, getHeight() / 2);
+            g2d.drawString("내역이 없습니다.", width / 2 - 50, height / 2);
             return;
         }
         
         // 기준선 (X축) 그리기
         g2d.drawLine(padding, padding + chartHeight, padding + chartWidth, padding + chartHeight);
         
-        NumberFormat nf = NumberFormat.getNumberInstance(Locale.KOREA);
-        
         // 수입 막대
-        double incomeRatio = (income / max);
+        double incomeRatio = ((double) income / max);
         int incomeBarHeight = (int) (incomeRatio * chartHeight);
         g2d.setColor(Color.BLUE);
         int incomeX = padding + chartWidth / 4 - barWidth / 2;
@@ -355,12 +547,11 @@ class BarChartPanel extends JPanel {
         g2d.setColor(Color.BLACK);
         
         // 금액 레이블 위치 조정 (상단에 명확히 표시)
-        String incomeStr = nf.format(income);
         g2d.drawString(incomeStr, incomeX + barWidth/2 - g2d.getFontMetrics().stringWidth(incomeStr)/2, padding + chartHeight - incomeBarHeight - 5);
         g2d.drawString("수입", incomeX + barWidth/2 - g2d.getFontMetrics().stringWidth("수입")/2, padding + chartHeight + 15);
 
         // 지출 막대
-        double expenseRatio = (expense / max);
+        double expenseRatio = ((double) expense / max);
         int expenseBarHeight = (int) (expenseRatio * chartHeight);
         g2d.setColor(Color.RED);
         int expenseX = padding + chartWidth * 3 / 4 - barWidth / 2;
@@ -368,7 +559,6 @@ class BarChartPanel extends JPanel {
         g2d.setColor(Color.BLACK);
         
         // 금액 레이블 위치 조정 (상단에 명확히 표시)
-        String expenseStr = nf.format(expense);
         g2d.drawString(expenseStr, expenseX + barWidth/2 - g2d.getFontMetrics().stringWidth(expenseStr)/2, padding + chartHeight - expenseBarHeight - 5);
         g2d.drawString("지출", expenseX + barWidth/2 - g2d.getFontMetrics().stringWidth("지출")/2, padding + chartHeight + 15);
     }
@@ -0,0 +1,139 @@
+import javax.swing.*;
+import javax.swing.border.Border;
+import java.awt.*;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+
+/**
+ * 분석 차트 패널의 공통 부모 클래스입니다. (YearlyLineChartPanel, PieChartPanel, BarChartPanel)
+ * 차트는 화면 밖 이미지(BufferedImage)에 한 번만 그려 두고, paintComponent에서는 그 이미지를 복사만 합니다.
+ * 창 크기 조절 / 분할 창 드래그 / 탭 전환으로 다시 그릴 때 축, 눈금, 레이블, 색을 매번 계산하지 않습니다.
+ *
+ * 이미지는 다음이 바뀔 때만 다시 그립니다.
+ * - 크기 (패널 크기, 화면 배율)
+ * - 테마 (배경색 / 글자색 / 글꼴, Look and Feel 변경)
+ * - 데이터 (하위 클래스가 invalidateChart() 호출)
+ */
+public abstract class CachedChartPanel extends JPanel {
+
+    private BufferedImage image; // 그려 둔 차트 (null이면 다음 paint 때 다시 그림)
+    private int imageWidth;
+    private int imageHeight;
+    private double imageScaleX;
+    private double imageScaleY;
+    private Color imageBackground;
+    private Color imageForeground;
+    private Font imageFont;
+
+    /**
+     * 차트를 그립니다. 좌표는 패널과 같으며(0, 0 ~ width, height) 배경은 이미 칠해져 있습니다.
+     * 이미지를 다시 만들 때만 호출됩니다.
+     */
+    protected abstract void paintChart(Graphics2D g2d, int width, int height);
+
+    /**
+     * 데이터가 바뀌었을 때 호출합니다. 다음 paint 때 차트를 다시 그립니다.
+     */
+    protected void invalidateChart() {
+        if (image != null) {
+            image.flush();
+            image = null;
+        }
+        repaint();
+    }
+
+    /**
+     * 주어진 Graphics(이미지 파일, SVG 등)에 테두리 제목까지 포함한 차트를 바로 그립니다. (캐시 이미지는 사용하지 않음)
+     * 패널을 화면에 띄우지 않으므로 헤드리스 환경(java.awt.headless=true)에서도 사용할 수 있습니다. (ChartReportRenderer)
+     */
+    public void renderTo(Graphics2D g2d, int width, int height) {
+        setSize(width, height);
+        g2d.setColor(getBackground());
+        g2d.fillRect(0, 0, width, height);
+
+        Graphics2D chart = (Graphics2D) g2d.create();
+        try {
+            chart.setColor(getForeground());
+            chart.setFont(getFont());
+            paintChart(chart, width, height);
+        } finally {
+            chart.dispose();
+        }
+
+        Border border = getBorder();
+        if (border != null) {
+            border.paintBorder(this, g2d, 0, 0, width, height);
+        }
+    }
+
+    @Override
+    public void updateUI() {
+        super.updateUI();
+        image = null; // Look and Feel이 바뀌면 기본 글꼴/색도 바뀜
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        int width = getWidth();
+        int height = getHeight();
+        if (width <= 0 || height <= 0) {
+            return;
+        }
+        if (!isOpaque()) {
+            super.paintComponent(g);
+        }
+        Graphics2D g2d = (Graphics2D) g;
+
+        // HiDPI 화면에서는 배율만큼 큰 이미지에 그려야 흐려지지 않음
+        AffineTransform transform = g2d.getTransform();
+        double scaleX = Math.max(1.0, transform.getScaleX());
+        double scaleY = Math.max(1.0, transform.getScaleY());
+
+        if (image == null || width != imageWidth || height != imageHeight
+                || scaleX != imageScaleX || scaleY != imageScaleY
+                || !getBackground().equals(imageBackground) || !getForeground().equals(imageForeground)
+                || !getFont().equals(imageFont)) {
+            rebuildImage(g2d, width, height, scaleX, scaleY);
+        }
+        g2d.drawImage(image, 0, 0, width, height, null);
+    }
+
+    private void rebuildImage(Graphics2D screen, int width, int height, double scaleX, double scaleY) {
+        int pixelWidth = (int) Math.ceil(width * scaleX);
+        int pixelHeight = (int) Math.ceil(height * scaleY);
+        if (image == null || image.getWidth() != pixelWidth || image.getHeight() != pixelHeight) {
+            if (image != null) {
+                image.flush();
+            }
+            image = new BufferedImage(pixelWidth, pixelHeight,
+                isOpaque() ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB);
+        }
+
+        Graphics2D g2d = image.createGraphics();
+        try {
+            g2d.setRenderingHints(screen.getRenderingHints()); // 화면과 같은 글자 안티앨리어싱 등
+            if (isOpaque()) {
+                g2d.setColor(getBackground());
+                g2d.fillRect(0, 0, pixelWidth, pixelHeight);
+            } else {
+                g2d.setComposite(AlphaComposite.Clear);
+                g2d.fillRect(0, 0, pixelWidth, pixelHeight);
+                g2d.setComposite(AlphaComposite.SrcOver);
+            }
+            g2d.scale(scaleX, scaleY);
+            g2d.setColor(getForeground());
+            g2d.setFont(getFont());
+            paintChart(g2d, width, height);
+        } finally {
+            g2d.dispose();
+        }
+
+        imageWidth = width;
+        imageHeight = height;
+        imageScaleX = scaleX;
+        imageScaleY = scaleY;
+        imageBackground = getBackground();
+        imageForeground = getForeground();
+        imageFont = getFont();
+    }
+}
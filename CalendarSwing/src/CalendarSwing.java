@@ -1,34 +1,39 @@
 import java.awt.BorderLayout;
 import java.awt.Color;
+import java.awt.Cursor;
 import java.awt.Dimension;
 import java.awt.Font;
 import java.awt.GridLayout;
-import java.awt.Insets;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
 import java.awt.event.ItemEvent;
 import java.awt.event.ItemListener;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
 import java.time.LocalDate;
 import java.util.Calendar;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Locale;
-import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.function.UnaryOperator;
 import javax.swing.BorderFactory;
 import javax.swing.BoxLayout;
 import javax.swing.JButton;
 import javax.swing.JComboBox;
+import javax.swing.JFileChooser;
 import javax.swing.JFrame;
 import javax.swing.JLabel;
 import javax.swing.JOptionPane;
 import javax.swing.JPanel;
 import javax.swing.JScrollPane;
 import javax.swing.JTable;
+import javax.swing.JTextArea;
 import javax.swing.JTextField;
 import javax.swing.ListSelectionModel;
+import javax.swing.ProgressMonitor;
 import javax.swing.SwingUtilities;
-import javax.swing.SwingConstants;
-import javax.swing.border.LineBorder;
+import javax.swing.SwingWorker;
+import javax.swing.filechooser.FileNameExtensionFilter;
 import javax.swing.table.DefaultTableModel;
 
 public class CalendarSwing extends JFrame implements ItemListener, ActionListener {
@@ -46,12 +51,14 @@ public class CalendarSwing extends JFrame implements ItemListener, ActionListene
     JButton analysisBtn = new JButton("분석");
     JButton calculatorBtn = new JButton("계산기");
     JButton goalBtn = new JButton("목표 관리");	//Goal
+    JButton importBtn = new JButton("CSV 가져오기");
+    JLabel statusLabel = new JLabel(" "); // DB 조회 중 표시
 
     // 중앙 캘린더 패널
     JPanel centerPane = new JPanel(new BorderLayout());
     JPanel titlePane = new JPanel(new GridLayout(1, 7));
     String[] title = {"일", "월", "화", "수", "목", "금", "토"};
-    JPanel dayPane = new JPanel(new GridLayout(0, 7));
+    MonthGridView monthGrid = new MonthGridView(); // 날짜 칸을 직접 그리는 달력 (클릭 시 "yyyy-MM-dd" 명령)
 
     // 달력 데이터
     Calendar date;
@@ -63,7 +70,11 @@ public class CalendarSwing extends JFrame implements ItemListener, ActionListene
     private final TransactionDao transactionDao = new TransactionDao();
     private final GoalDao goalDao = new GoalDao();		//Goal
     private final GoalManager goalManager;				//Goal
-    private List<Transaction> currentMonthTransactions;
+    private MonthSnapshot currentMonth; // 현재 달의 거래 내역 + 일별/카테고리별 합계
+    // DB 조회는 EDT 밖에서 실행하고, 가장 최근 요청의 결과만 화면에 반영
+    private final LatestRequest monthRequest = new LatestRequest();
+    private final LatestRequest detailsRequest = new LatestRequest();
+    private final MonthPrefetcher prefetcher; // 이전/다음 달 미리 읽기
 
     // --- [새로 추가된 오른쪽 상세 패널 컴포넌트] ---
     private JPanel detailsPanel;
@@ -79,11 +90,8 @@ public class CalendarSwing extends JFrame implements ItemListener, ActionListene
     private JButton deleteButton;
 
     // 선택 상태 관리
-    private JButton previouslySelectedDayButton = null;
     private String currentSelectedDate = null;
-    
-    // 카테고리 데이터
-    private final Map<String, String[]> categories = new HashMap<>();
+
 
     /**
      * 생성자: User 객체를 받아 UI를 초기화합니다.
@@ -93,13 +101,12 @@ public class CalendarSwing extends JFrame implements ItemListener, ActionListene
         this.currentUser = user;
         
         this.goalManager = new GoalManager(transactionDao, goalDao);	//Goal
+        this.prefetcher = new MonthPrefetcher(transactionDao, user.getUserId());
 
         date = Calendar.getInstance();
         year = date.get(Calendar.YEAR);
         month = date.get(Calendar.MONTH) + 1;
 
-        initCategories(); // 카테고리 맵 초기화
-
         // --- 1. 상단 패널 (NORTH) ---
         selectPane.setBackground(new Color(150, 200, 200));
         prevBtn.setFont(fnt); selectPane.add(prevBtn);
@@ -116,6 +123,13 @@ public class CalendarSwing extends JFrame implements ItemListener, ActionListene
         goalBtn.addActionListener(this);
         selectPane.add(goalBtn);
         
+        importBtn.setFont(fnt);
+        importBtn.addActionListener(this);
+        selectPane.add(importBtn);
+        
+        statusLabel.setFont(new Font("맑은 고딕", Font.PLAIN, 14));
+        selectPane.add(statusLabel);
+        
         add(BorderLayout.NORTH, selectPane);
 
         // --- 2. 캘린더 패널 (CENTER) ---
@@ -123,7 +137,7 @@ public class CalendarSwing extends JFrame implements ItemListener, ActionListene
         setMonth();
         setCalendarTitle();
         centerPane.add(BorderLayout.NORTH, titlePane);
-        centerPane.add(dayPane);
+        centerPane.add(monthGrid);
         add(centerPane, BorderLayout.CENTER); // 캘린더를 중앙에 배치
 
         // --- 3. 상세 정보 패널 (EAST) ---
@@ -137,6 +151,10 @@ public class CalendarSwing extends JFrame implements ItemListener, ActionListene
         monthCombo.addItemListener(this);
         analysisBtn.addActionListener(this);
         calculatorBtn.addActionListener(this);
+        monthGrid.addActionListener(this);
+        if (TransactionDao.isWriteBehind()) {
+            TransactionDao.setWriteBehindListener(createWriteBehindListener());
+        }
         
         // --- 5. JFrame 설정 ---
         setExtendedState(JFrame.MAXIMIZED_BOTH); // 전체 화면
@@ -149,13 +167,6 @@ public class CalendarSwing extends JFrame implements ItemListener, ActionListene
         loadMonthData();
     }
 
-    /**
-     * 수입/지출별 카테고리 목록을 초기화합니다.
-     */
-    private void initCategories() {
-        categories.put("지출", new String[]{"식비", "교통", "생활/쇼핑", "문화/여가", "건강/의료", "경조사/모임", "교육/자기개발", "기타"});
-        categories.put("수입", new String[]{"근로 소득", "부가 소득", "금융 소득", "기타 소득"});
-    }
     /**
      * 오른쪽 상세 정보 패널 UI를 생성합니다.
      */
@@ -252,11 +263,8 @@ public class CalendarSwing extends JFrame implements ItemListener, ActionListene
         String selectedType = (String) typeCombo.getSelectedItem();
         categoryCombo.removeAllItems();
         if (selectedType != null) {
-            String[] cats = categories.get(selectedType);
-            if (cats != null) {
-                for (String cat : cats) {
-                    categoryCombo.addItem(cat);
-                }
+            for (String cat : CategoryRegistry.get().namesOf(selectedType)) {
+                categoryCombo.addItem(cat);
             }
         }
     }
@@ -265,101 +273,153 @@ public class CalendarSwing extends JFrame implements ItemListener, ActionListene
      * DB에서 로드된 데이터를 반영하여 달력 UI를 갱신
      */
     public void updateCalendarUI() {
-        dayPane.removeAll();
+        // 일별 카테고리 합계는 MonthSnapshot이 이미 계산해 둠 -> 달력 컴포넌트가 그대로 그림
+        monthGrid.setMonth(year, month, currentMonth);
+        monthGrid.setSelectedDay(selectedDay());
+    }
 
-        date.set(year, month - 1, 1);
-        int week = date.get(Calendar.DAY_OF_WEEK);
-        int lastDay = date.getActualMaximum(Calendar.DATE);
+    /**
+     * 선택된 날짜가 현재 달이면 그 일, 아니면 0
+     */
+    private int selectedDay() {
+        MonthSnapshot snapshot = currentMonth;
+        if (currentSelectedDate == null) {
+            return 0;
+        }
+        if (snapshot != null) {
+            return Math.max(0, snapshot.dayInMonth(currentSelectedDate));
+        }
+        return currentSelectedDate.startsWith(String.format("%d-%02d-", year, month))
+            ? Integer.parseInt(currentSelectedDate.substring(8)) : 0;
+    }
 
-        Map<Integer, Map<String, Double>> dailyIncomeMaps = new HashMap<>();
-        Map<Integer, Map<String, Double>> dailyExpenseMaps = new HashMap<>();
+    /**
+     * [신규] 저장된 거래 1건을 현재 달 스냅샷에 반영하고 그 날짜 칸만 다시 그립니다. (DB 재조회 없음)
+     * DailyInputView에서도 호출합니다.
+     */
+    public void transactionAdded(Transaction saved) {
+        if (saved.getTransactionId() == 0) {
+            loadMonthData(() -> updateDetailsPanel(currentSelectedDate)); // ID를 모르면 전체 다시 불러오기
+            return;
+        }
+        applyDayChange(saved.getDate(), snapshot -> snapshot.withAdded(saved));
+    }
 
-        if (currentMonthTransactions != null) {
-            for (Transaction t : currentMonthTransactions) {
-                int dayOfMonth = Integer.parseInt(t.getDate().substring(8));
-                if (t.getType().equals("수입")) {
-                    dailyIncomeMaps.computeIfAbsent(dayOfMonth, k -> new HashMap<>())
-                                 .merge(t.getCategory(), t.getAmount(), Double::sum);
-                } else {
-                    dailyExpenseMaps.computeIfAbsent(dayOfMonth, k -> new HashMap<>())
-                                  .merge(t.getCategory(), t.getAmount(), Double::sum);
-                }
-            }
+    /**
+     * [신규] 삭제된 거래 1건을 현재 달 스냅샷에서 빼고 그 날짜 칸만 다시 그립니다. (DB 재조회 없음)
+     */
+    private void transactionRemoved(int transactionId, String dateString) {
+        applyDayChange(dateString, snapshot -> snapshot.withRemoved(transactionId));
+    }
+
+    /**
+     * 스냅샷을 고친 뒤 바뀐 날의 요약 라벨과 (그 날이 선택되어 있으면) 오른쪽 테이블만 갱신합니다.
+     * 다른 달의 거래면 캐시에만 반영된 상태로 두고, 달을 불러오는 중이면 전체를 다시 불러옵니다.
+     */
+    private void applyDayChange(String dateString, UnaryOperator<MonthSnapshot> change) {
+        MonthSnapshot snapshot = currentMonth;
+        if (snapshot == null || monthRequest.isPending()
+                || snapshot.getYear() != year || snapshot.getMonth() != month) {
+            loadMonthData(() -> updateDetailsPanel(currentSelectedDate));
+            return;
+        }
+        int day = snapshot.dayInMonth(dateString);
+        if (day < 0) {
+            return;
+        }
+        currentMonth = change.apply(snapshot);
+        monthGrid.updateDay(day, currentMonth.getDailyTotals(day));
+        if (dateString.equals(currentSelectedDate)) {
+            updateDetailsPanel(currentSelectedDate);
         }
+    }
 
-        for (int s = 1; s < week; s++) {
-            dayPane.add(new JLabel(" "));
+    /**
+     * DB에서 월별 데이터 로드
+     * 🚨 [수정] DailyInputView가 접근할 수 있도록 public으로 변경
+     */
+    public void loadMonthData() {
+        loadMonthData(null);
+    }
+
+    /**
+     * DB에서 월별 데이터를 비동기로 로드합니다. (EDT를 막지 않음)
+     * 로드가 끝나면 캘린더를 다시 그리고 afterLoad를 실행합니다. 그 사이 다른 달로 이동하면 이 결과는 버려집니다.
+     * 미리 읽어 둔 달(이전/다음 달)이면 DB 조회 없이 바로 표시합니다.
+     */
+    public void loadMonthData(Runnable afterLoad) {
+        CompletableFuture<MonthSnapshot> prefetched = prefetcher.take(this.year, this.month);
+        if (prefetched != null && prefetched.isDone()) {
+            monthRequest.cancel();
+            setLoading(false);
+            showMonth(prefetched.join(), afterLoad);
+            return;
         }
+        setLoading(true);
+        // 미리 읽는 중이면 새로 조회하지 않고 그 결과를 기다림
+        monthRequest.run(
+            (prefetched != null) ? prefetched : transactionDao.getMonthSnapshotAsync(currentUser.getUserId(), this.year, this.month),
+            snapshot -> {
+                setLoading(false);
+                showMonth(snapshot, afterLoad);
+            },
+            error -> {
+                setLoading(false);
+                System.err.println("월별 데이터 로드 중 오류 발생: " + error.getMessage());
+                statusLabel.setText("불러오기 실패");
+            });
+    }
 
-        for (int day = 1; day <= lastDay; day++) {
-            JPanel dayCell = new JPanel(new BorderLayout());
-            dayCell.setBorder(new LineBorder(Color.LIGHT_GRAY, 1));
+    /**
+     * 스냅샷으로 캘린더를 다시 그리고, 이어서 이전/다음 달을 미리 읽습니다.
+     */
+    private void showMonth(MonthSnapshot snapshot, Runnable afterLoad) {
+        this.currentMonth = snapshot;
+        updateCalendarUI();
+        if (afterLoad != null) {
+            afterLoad.run();
+        }
+        prefetcher.prefetchAround(this.year, this.month);
+    }
 
-            JButton dayBtn = new JButton(String.valueOf(day));
-            dayBtn.setFont(new Font("굴림체", Font.BOLD, 14));
-            dayBtn.setPreferredSize(new Dimension(50, 20));
-            dayBtn.setMargin(new Insets(0, 0, 0, 0));
+    @Override
+    public void dispose() {
+        prefetcher.cancelAll();
+        monthRequest.cancel();
+        super.dispose();
+    }
 
-            String dateString = String.format("%d-%02d-%02d", year, month, day);
-            dayBtn.setActionCommand(dateString);
-            dayBtn.addActionListener(this);
-            
-            // [수정] 현재 선택된 날짜와 일치하면 노란색 배경 유지
-            if (dateString.equals(currentSelectedDate)) {
-                dayBtn.setBackground(Color.YELLOW);
-                previouslySelectedDayButton = dayBtn;
+    /**
+     * 지연 저장 상태를 상단 상태 라벨에 표시합니다. (저장 대기 건수, 실패 시 재시도 안내)
+     */
+    private WriteBehindQueue.Listener createWriteBehindListener() {
+        return new WriteBehindQueue.Listener() {
+            @Override
+            public void onCommitted(List<WriteBehindQueue.Pending> committed, List<Integer> ids, int remaining) {
+                SwingUtilities.invokeLater(() -> statusLabel.setText(remaining == 0 ? " " : "저장 대기 " + remaining + "건"));
             }
 
-            date.set(Calendar.DATE, day);
-            int w = date.get(Calendar.DAY_OF_WEEK);
-            if (w == Calendar.SUNDAY) dayBtn.setForeground(Color.red);
-            if (w == Calendar.SATURDAY) dayBtn.setForeground(Color.blue);
-
-            dayCell.add(dayBtn, BorderLayout.NORTH);
-
-            // ... (기존 요약 HTML 코드 - 생략) ...
-            Map<String, Double> incomes = dailyIncomeMaps.get(day);
-            Map<String, Double> expenses = dailyExpenseMaps.get(day);
-            StringBuilder incomeStr = new StringBuilder();
-            StringBuilder expenseStr = new StringBuilder();
-            if (incomes != null && !incomes.isEmpty()) {
-                for (Map.Entry<String, Double> entry : incomes.entrySet()) {
-                    incomeStr.append(String.format(Locale.KOREA, "%s: +%,.0f<br>", 
-                                     entry.getKey(), entry.getValue()));
-                }
-            }
-            if (expenses != null && !expenses.isEmpty()) {
-                for (Map.Entry<String, Double> entry : expenses.entrySet()) {
-                    expenseStr.append(String.format(Locale.KOREA, "%s: -%,.0f<br>", 
-                                      entry.getKey(), entry.getValue()));
+            @Override
+            public void onFailed(WriteBehindQueue.Pending deadLetter, int remaining, int attempt, String message) {
+                if (deadLetter == null) {
+                    SwingUtilities.invokeLater(() -> statusLabel.setText("DB 저장 실패 - 재시도 중 (대기 " + remaining + "건)"));
+                    return;
                 }
+                SwingUtilities.invokeLater(() -> {
+                    statusLabel.setText(remaining == 0 ? " " : "저장 대기 " + remaining + "건");
+                    JOptionPane.showMessageDialog(CalendarSwing.this, message, "거래 저장 실패", JOptionPane.WARNING_MESSAGE);
+                    loadMonthData(); // 저장되지 않은 임시 거래를 화면에서 제거
+                });
             }
-            JLabel summary = new JLabel("", SwingConstants.CENTER); 
-            summary.setFont(new Font("맑은 고딕", Font.PLAIN, 12)); 
-            if (incomeStr.length() > 0 || expenseStr.length() > 0) {
-                summary.setText("<html><font color='blue'>" + incomeStr.toString() + "</font>" + 
-                                "<font color='red'>" + expenseStr.toString() + "</font></html>");
-            }
-            dayCell.add(summary, BorderLayout.CENTER);
-            
-            dayPane.add(dayCell);
-        }
-
-        dayPane.revalidate();
-        dayPane.repaint();
+        };
     }
 
     /**
-     * DB에서 월별 데이터 로드
-     * 🚨 [수정] DailyInputView가 접근할 수 있도록 public으로 변경
+     * 로딩 표시 (상단 상태 라벨 + 대기 커서)
      */
-    public void loadMonthData() {
-        this.currentMonthTransactions = transactionDao.findByMonthAndUser(
-            currentUser.getUserId(),
-            this.year,
-            this.month
-        );
-        updateCalendarUI();
+    private void setLoading(boolean loading) {
+        statusLabel.setText(loading ? "불러오는 중..." : " ");
+        setCursor(loading ? Cursor.getPredefinedCursor(Cursor.WAIT_CURSOR) : Cursor.getDefaultCursor());
     }
 
     /**
@@ -373,16 +433,12 @@ public class CalendarSwing extends JFrame implements ItemListener, ActionListene
         
         // [수정] 날짜 리셋 시 선택된 날짜 및 패널 초기화
         currentSelectedDate = null;
-        previouslySelectedDayButton = null;
+        monthGrid.setSelectedDay(0);
         updateDetailsPanel(null); // 오른쪽 패널 클리어
         
-        // dayPane 갱신 (기존 코드)
-        dayPane.setVisible(false);
-        dayPane.removeAll();
         yearCombo.addItemListener(this);
         monthCombo.addItemListener(this);
         loadMonthData();
-        dayPane.setVisible(true);
     }
     
     // --- [오른쪽 패널을 위한 새 헬퍼 메서드] ---
@@ -392,6 +448,7 @@ public class CalendarSwing extends JFrame implements ItemListener, ActionListene
      * @param dateString "YYYY-MM-DD" 형식의 날짜, null이면 패널 초기화
      */
     private void updateDetailsPanel(String dateString) {
+        detailsRequest.cancel(); // 이전 날짜의 조회 결과는 반영하지 않음
         if (dateString == null) {
             selectedDateLabel.setText("날짜를 선택하세요");
             tableModel.setRowCount(0); // 테이블 비우기
@@ -411,24 +468,37 @@ public class CalendarSwing extends JFrame implements ItemListener, ActionListene
 
         // 2. 테이블 데이터 로드
         tableModel.setRowCount(0); // 테이블 비우기
+        clearInputFields();
 
-        // (주의) TransactionDao에 getTransactionsByDate 메서드가 필요합니다.
-        List<Transaction> txList = transactionDao.getTransactionsByDate(
-            currentUser.getUserId(), dateString);
+        // 현재 달 스냅샷에 있으면 그대로 사용하고, 다른 달이면 DAO에서 비동기로 조회
+        List<Transaction> txList = (currentMonth != null) ? currentMonth.getTransactionsOn(dateString) : null;
+        if (txList != null) {
+            fillDetailsTable(txList);
+            return;
+        }
+        detailsRequest.run(
+            transactionDao.getTransactionsByDateAsync(currentUser.getUserId(), dateString),
+            this::fillDetailsTable,
+            error -> System.err.println("거래 내역 조회 중 오류 발생: " + error.getMessage()));
+    }
 
+    /**
+     * 오른쪽 테이블을 거래 내역으로 채웁니다.
+     */
+    private void fillDetailsTable(List<Transaction> txList) {
+        tableModel.setRowCount(0);
         if (txList != null) {
             for (Transaction t : txList) {
                 Object[] row = {
                     t.getType(),
                     t.getCategory(),
                     t.getContent(),
-                    String.format(Locale.KOREA, "%,.0f", t.getAmount()),
+                    Money.format(t.getAmount()),
                     t.getTransactionId() 
                 };
                 tableModel.addRow(row);
             }
         }
-        clearInputFields();
     }
     
     /**
@@ -458,7 +528,7 @@ public class CalendarSwing extends JFrame implements ItemListener, ActionListene
                  return;
             }
 
-            double amount = Double.parseDouble(amountText);
+            long amount = Money.parseMinor(amountText); // 최소 단위로 정확히 변환
             if (amount <= 0) {
                  JOptionPane.showMessageDialog(this, "금액은 0보다 커야 합니다.");
                  return;
@@ -474,12 +544,17 @@ public class CalendarSwing extends JFrame implements ItemListener, ActionListene
                 content
             );
 
-            // 3. DAO를 통해 DB에 저장 (TransactionDao에 addTransaction 메서드 필요)
-            transactionDao.addTransaction(newTx);
-            
-            // 4. 화면 새로고침
-            updateDetailsPanel(currentSelectedDate); // 오른쪽 테이블 새로고침
-            loadMonthData(); // 캘린더 요약 새로고침
+            // 3. DAO를 통해 DB에 저장 (EDT 밖에서 실행, 저장 중에는 버튼 비활성화)
+            addButton.setEnabled(false);
+            transactionDao.saveTransactionAsync(newTx).whenCompleteAsync((saved, error) -> {
+                addButton.setEnabled(true);
+                if (error != null || saved == null) {
+                    JOptionPane.showMessageDialog(this, "거래 내역 저장에 실패했습니다.", "저장 실패", JOptionPane.ERROR_MESSAGE);
+                    return;
+                }
+                // 4. 화면 갱신 (저장된 거래만 스냅샷에 반영 -> 그 날짜 칸과 오른쪽 테이블만 갱신)
+                transactionAdded(saved);
+            }, DbExecutor.EDT);
 
         } catch (NumberFormatException e) {
             JOptionPane.showMessageDialog(this, "금액은 숫자로만 입력하세요.");
@@ -510,21 +585,94 @@ public class CalendarSwing extends JFrame implements ItemListener, ActionListene
             "정말로 삭제하시겠습니까?", "삭제 확인", JOptionPane.YES_NO_OPTION);
 
         if (confirm == JOptionPane.YES_OPTION) {
-            try {
-                // 3. DAO를 통해 DB에서 삭제 (TransactionDao에 deleteTransactionById 메서드 필요)
-                transactionDao.deleteTransactionById(transactionId);
+            // 3. DAO를 통해 DB에서 삭제 (EDT 밖에서 실행, 삭제 중에는 버튼 비활성화)
+            String deletedDate = currentSelectedDate; // 테이블은 선택된 날짜의 내역
+            deleteButton.setEnabled(false);
+            transactionDao.deleteTransactionByIdAsync(transactionId).whenCompleteAsync((deleted, error) -> {
+                deleteButton.setEnabled(true);
+                if (error != null) {
+                    JOptionPane.showMessageDialog(this, "삭제 중 오류 발생: " + error.getMessage());
+                    return;
+                }
+                // 4. 화면 갱신 (삭제된 거래만 스냅샷에서 빼기, 실패했으면 전체 다시 불러오기)
+                if (Boolean.TRUE.equals(deleted) && deletedDate != null) {
+                    transactionRemoved(transactionId, deletedDate);
+                } else {
+                    loadMonthData(() -> updateDetailsPanel(currentSelectedDate));
+                }
+            }, DbExecutor.EDT);
+        }
+    }
+    
+    /**
+     * [신규] 은행/카드 거래내역 CSV 파일을 가져옵니다.
+     * 파일은 백그라운드 스레드에서 스트리밍으로 읽고, 배치 단위로 커밋하며 진행률을 표시합니다.
+     */
+    private void handleCsvImport() {
+        JFileChooser fileChooser = new JFileChooser();
+        fileChooser.setDialogTitle("거래내역 CSV 가져오기");
+        fileChooser.setFileFilter(new FileNameExtensionFilter("CSV 파일 (*.csv)", "csv"));
+        if (fileChooser.showOpenDialog(this) != JFileChooser.APPROVE_OPTION) {
+            return;
+        }
+        Path file = fileChooser.getSelectedFile().toPath();
 
-                // 4. 화면 새로고침
-                updateDetailsPanel(currentSelectedDate); // 오른쪽 테이블 새로고침
-                loadMonthData(); // 캘린더 요약 새로고침
+        String[] encodings = {"UTF-8", "MS949"};
+        String encoding = (String) JOptionPane.showInputDialog(this,
+            "파일 인코딩을 선택하세요.\n(국내 은행/카드사 내보내기 파일은 보통 MS949입니다)",
+            "인코딩 선택", JOptionPane.QUESTION_MESSAGE, null, encodings, encodings[0]);
+        if (encoding == null) {
+            return;
+        }
+
+        ProgressMonitor monitor = new ProgressMonitor(this, file.getFileName() + " 가져오는 중...", "", 0, 1000);
+        monitor.setMillisToDecideToPopup(0);
+        CsvImporter importer = new CsvImporter(transactionDao);
+        int userId = currentUser.getUserId();
+        importBtn.setEnabled(false);
 
-            } catch (Exception e) {
-                e.printStackTrace();
-                JOptionPane.showMessageDialog(this, "삭제 중 오류 발생: " + e.getMessage());
+        // long[] = {읽은 행, 저장, 거부, 읽은 바이트, 전체 바이트}
+        SwingWorker<CsvImporter.ImportResult, long[]> worker = new SwingWorker<CsvImporter.ImportResult, long[]>() {
+            @Override
+            protected CsvImporter.ImportResult doInBackground() throws Exception {
+                // 취소 버튼은 매 행마다 확인 (취소되면 커밋된 건수까지의 결과를 반환)
+                return importer.importFile(file, Charset.forName(encoding), userId,
+                    (rowsRead, imported, rejected, bytesRead, totalBytes) ->
+                        publish(new long[]{rowsRead, imported, rejected, bytesRead, totalBytes}),
+                    monitor::isCanceled);
             }
-        }
+
+            @Override
+            protected void process(List<long[]> chunks) {
+                if (monitor.isCanceled()) {
+                    return; // 가져오기는 다음 행에서 중단됨
+                }
+                long[] p = chunks.get(chunks.size() - 1);
+                monitor.setProgress(p[4] > 0 ? (int) Math.min(999, p[3] * 1000 / p[4]) : 0);
+                monitor.setNote(String.format("%,d행 처리 (저장 %,d / 거부 %,d)", p[0], p[1], p[2]));
+            }
+
+            @Override
+            protected void done() {
+                monitor.close();
+                importBtn.setEnabled(true);
+                try {
+                    CsvImporter.ImportResult result = get(); // 취소된 경우에도 커밋된 건수가 들어 있음
+                    JTextArea summary = new JTextArea(result.toSummary(), 15, 50);
+                    summary.setEditable(false);
+                    JOptionPane.showMessageDialog(CalendarSwing.this, new JScrollPane(summary),
+                        result.isCancelled() ? "CSV 가져오기 취소됨" : "CSV 가져오기 결과", JOptionPane.INFORMATION_MESSAGE);
+                } catch (InterruptedException | ExecutionException e) {
+                    Throwable cause = (e.getCause() != null) ? e.getCause() : e;
+                    JOptionPane.showMessageDialog(CalendarSwing.this, "CSV 가져오기 중 오류 발생: " + cause.getMessage(),
+                        "가져오기 실패", JOptionPane.ERROR_MESSAGE);
+                }
+                loadMonthData(); // 캘린더 요약 새로고침
+            }
+        };
+        worker.execute();
     }
-    
+
     /**
      * [신규] 오른쪽 하단 입력 필드를 초기화합니다.
      */
@@ -580,7 +728,7 @@ public class CalendarSwing extends JFrame implements ItemListener, ActionListene
             
             // [수정] 월 변경 시 선택 상태 초기화
             currentSelectedDate = null;
-            previouslySelectedDayButton = null;
+            monthGrid.setSelectedDay(0);
             updateDetailsPanel(null); // 오른쪽 패널 클리어
             
             loadMonthData();
@@ -612,6 +760,10 @@ public class CalendarSwing extends JFrame implements ItemListener, ActionListene
         } else if (obj == goalBtn) {
         	new GoalView(this, currentUser, goalManager, year, month).setVisible(true);
             
+        } else if (obj == importBtn) {
+            // CSV 가져오기 버튼 클릭
+            handleCsvImport();
+            
         // --- [ 여기가 핵심 수정 부분 ] ---
         } else if (command != null && command.matches("\\d{4}-\\d{2}-\\d{2}")) {
             // 날짜 버튼 클릭 시
@@ -619,13 +771,8 @@ public class CalendarSwing extends JFrame implements ItemListener, ActionListene
             // 1. 선택된 날짜 저장
             this.currentSelectedDate = command;
 
-            // 2. 버튼 하이라이트 (노란색)
-            JButton clickedButton = (JButton) obj;
-            if (previouslySelectedDayButton != null) {
-                previouslySelectedDayButton.setBackground(null); // 이전 버튼 색상 복원
-            }
-            clickedButton.setBackground(Color.YELLOW);
-            previouslySelectedDayButton = clickedButton;
+            // 2. 날짜 칸 하이라이트 (노란색, 이전 칸과 새 칸만 다시 그림)
+            monthGrid.setSelectedDay(Integer.parseInt(command.substring(8)));
 
             // 3. 오른쪽 패널 데이터 업데이트 (팝업 대신)
             updateDetailsPanel(command);
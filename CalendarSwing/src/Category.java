@@ -0,0 +1,19 @@
+public class Category {
+    private final short categoryId; // PK - 카테고리 번호 (1부터, 0 = 카테고리 없음)
+    private final byte typeCode;    // 유형 번호 (CategoryRegistry.TYPE_INCOME / TYPE_EXPENSE)
+    private final String name;      // 카테고리 이름
+    private final int sortOrder;    // 화면 표시 순서 (기본 카테고리가 앞)
+
+    public Category(short categoryId, byte typeCode, String name, int sortOrder) {
+        this.categoryId = categoryId;
+        this.typeCode = typeCode;
+        this.name = name;
+        this.sortOrder = sortOrder;
+    }
+
+    // Getter 메서드
+    public short getCategoryId() { return categoryId; }
+    public byte getTypeCode() { return typeCode; }
+    public String getName() { return name; }
+    public int getSortOrder() { return sortOrder; }
+}
@@ -0,0 +1,241 @@
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 유형(수입/지출)과 카테고리의 번호 사전입니다. 저장소의 categories 목록을 한 번 읽어 메모리에 두고,
+ * 모든 DAO와 화면(달력, 목표, 입력 창)이 같은 인스턴스를 공유합니다.
+ *
+ * DB에는 유형 번호(TINYINT)와 카테고리 번호(SMALLINT)만 저장되므로 GROUP BY / WHERE / 인덱스가
+ * 문자열 대신 작은 정수로 동작하며, 이름 변환은 이 사전에서 메모리로 처리합니다.
+ * 처음 보는 카테고리(CSV 가져오기 등)는 저장 시 자동으로 등록됩니다.
+ *
+ * 조회는 잠금 없이 불변 스냅샷을 읽고, 등록할 때만 새 스냅샷으로 교체(copy-on-write)합니다.
+ */
+public class CategoryRegistry {
+
+    public static final byte TYPE_INCOME = 0;
+    public static final byte TYPE_EXPENSE = 1;
+    public static final short NO_CATEGORY = 0;
+
+    private static final String[] TYPE_NAMES = {"수입", "지출"};
+
+    // 새 DB에 미리 넣어 두는 기본 카테고리 (화면 표시 순서대로)
+    private static final String[] DEFAULT_INCOME = {"근로 소득", "부가 소득", "금융 소득", "기타 소득"};
+    private static final String[] DEFAULT_EXPENSE = {"식비", "교통", "생활/쇼핑", "문화/여가", "건강/의료", "경조사/모임", "교육/자기개발", "기타"};
+
+    // 기본 카테고리가 아닌 카테고리(자동 등록)의 표시 순서
+    public static final int CUSTOM_SORT_ORDER = 1000;
+
+    private static CategoryRegistry instance;
+
+    /**
+     * 공유 사전을 반환합니다. (선택된 저장소에서 처음 사용할 때 로드)
+     */
+    public static synchronized CategoryRegistry get() {
+        if (instance == null) {
+            instance = new CategoryRegistry(DatabaseManager.store());
+        }
+        return instance;
+    }
+
+    /**
+     * 기본 카테고리 목록 (번호는 저장소가 부여하므로 0)
+     */
+    public static List<Category> defaults() {
+        List<Category> defaults = new ArrayList<>();
+        for (int i = 0; i < DEFAULT_INCOME.length; i++) {
+            defaults.add(new Category(NO_CATEGORY, TYPE_INCOME, DEFAULT_INCOME[i], i));
+        }
+        for (int i = 0; i < DEFAULT_EXPENSE.length; i++) {
+            defaults.add(new Category(NO_CATEGORY, TYPE_EXPENSE, DEFAULT_EXPENSE[i], i));
+        }
+        return defaults;
+    }
+
+    /**
+     * 유형 이름의 번호. "수입"/"지출"이 아니면 -1
+     */
+    public static byte typeCode(String typeName) {
+        for (byte i = 0; i < TYPE_NAMES.length; i++) {
+            if (TYPE_NAMES[i].equals(typeName)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 유형 번호의 이름
+     */
+    public static String typeName(byte typeCode) {
+        return TYPE_NAMES[typeCode];
+    }
+
+    private final LedgerStore store;
+    private volatile Snapshot snapshot; // null = 아직 로드하지 않음 (또는 로드 실패)
+
+    private CategoryRegistry(LedgerStore store) {
+        this.store = store;
+    }
+
+    /**
+     * 카테고리 번호의 이름. 0(카테고리 없음)이나 모르는 번호면 null
+     */
+    public String name(short categoryId) {
+        if (categoryId == NO_CATEGORY) {
+            return null;
+        }
+        Category category = snapshot().get(categoryId);
+        if (category == null) {
+            // 다른 프로세스가 등록한 카테고리일 수 있으므로 한 번 다시 읽음
+            category = reload().get(categoryId);
+        }
+        return (category != null) ? category.getName() : null;
+    }
+
+    /**
+     * 화면에 표시할 카테고리 이름. 0(카테고리 없음)이나 모르는 번호면 빈 문자열 (범례, 달력 칸, 그래프 계열 이름용)
+     */
+    public String displayName(short categoryId) {
+        String name = name(categoryId);
+        return (name != null) ? name : "";
+    }
+
+    /**
+     * 카테고리 번호의 유형 번호 (TYPE_INCOME / TYPE_EXPENSE). 0(카테고리 없음)이나 모르는 번호면 -1
+     */
+    public byte typeOf(short categoryId) {
+        if (categoryId == NO_CATEGORY) {
+            return -1;
+        }
+        Category category = snapshot().get(categoryId);
+        if (category == null) {
+            category = reload().get(categoryId);
+        }
+        return (category != null) ? category.getTypeCode() : -1;
+    }
+
+    /**
+     * 카테고리 이름의 번호를 반환합니다. 없으면 저장소에 등록합니다.
+     * @return 카테고리 번호 (이름이 없으면 NO_CATEGORY, 유형이 잘못되었거나 등록 실패 시 -1)
+     */
+    public short idOf(String typeName, String name) {
+        byte typeCode = typeCode(typeName);
+        if (typeCode < 0) {
+            return -1;
+        }
+        if (name == null || name.isEmpty()) {
+            return NO_CATEGORY;
+        }
+        Short id = snapshot().ids.get(typeCode).get(name);
+        return (id != null) ? id : register(typeCode, name);
+    }
+
+    /**
+     * 카테고리 이름의 번호를 반환합니다. idOf()와 달리 사전에 없어도 등록하지 않습니다. (조회 전용)
+     * @return 카테고리 번호 (이름이 없으면 NO_CATEGORY, 유형이 잘못되었거나 사전에 없으면 -1)
+     */
+    public short findId(String typeName, String name) {
+        byte typeCode = typeCode(typeName);
+        if (typeCode < 0) {
+            return -1;
+        }
+        if (name == null || name.isEmpty()) {
+            return NO_CATEGORY;
+        }
+        Short id = snapshot().ids.get(typeCode).get(name);
+        return (id != null) ? id : -1;
+    }
+
+    /**
+     * 유형의 카테고리 이름 목록 (콤보박스/팝업 메뉴용, 기본 카테고리 순서 다음에 자동 등록된 카테고리)
+     */
+    public String[] namesOf(String typeName) {
+        byte typeCode = typeCode(typeName);
+        List<Category> matches = new ArrayList<>();
+        for (Category category : snapshot().byId) {
+            if (category != null && category.getTypeCode() == typeCode) {
+                matches.add(category);
+            }
+        }
+        matches.sort((a, b) -> a.getSortOrder() != b.getSortOrder()
+            ? Integer.compare(a.getSortOrder(), b.getSortOrder())
+            : Short.compare(a.getCategoryId(), b.getCategoryId()));
+        String[] names = new String[matches.size()];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = matches.get(i).getName();
+        }
+        return names;
+    }
+
+    /**
+     * 카테고리 번호의 상한 (번호로 인덱싱하는 합계 배열의 크기로 사용)
+     */
+    public int capacity() {
+        return snapshot().byId.length;
+    }
+
+    private Snapshot snapshot() {
+        Snapshot current = snapshot;
+        return (current != null) ? current : reload();
+    }
+
+    private synchronized Snapshot reload() {
+        List<Category> categories = store.loadCategories();
+        if (categories == null) {
+            // 로드 실패: 다음 호출에서 다시 시도 (빈 사전은 캐시하지 않음)
+            return (snapshot != null) ? snapshot : new Snapshot(new ArrayList<>());
+        }
+        snapshot = new Snapshot(categories);
+        return snapshot;
+    }
+
+    private synchronized short register(byte typeCode, String name) {
+        Short existing = snapshot().ids.get(typeCode).get(name);
+        if (existing != null) {
+            return existing;
+        }
+        short id = store.insertCategory(typeCode, name);
+        if (id <= 0) {
+            System.err.println("카테고리 등록 실패: " + typeName(typeCode) + " / " + name);
+            return -1;
+        }
+        List<Category> categories = new ArrayList<>();
+        for (Category category : snapshot().byId) {
+            if (category != null) {
+                categories.add(category);
+            }
+        }
+        categories.add(new Category(id, typeCode, name, CUSTOM_SORT_ORDER));
+        snapshot = new Snapshot(categories);
+        return id;
+    }
+
+    /**
+     * 불변 사전 스냅샷 (번호 -> 카테고리, [유형 번호] 이름 -> 번호)
+     * 이름 조회 시 키 문자열을 만들지 않도록 유형별로 맵을 나눕니다.
+     */
+    private static final class Snapshot {
+        final Category[] byId;
+        final List<Map<String, Short>> ids = List.of(new HashMap<>(), new HashMap<>());
+
+        Snapshot(List<Category> categories) {
+            int maxId = 0;
+            for (Category category : categories) {
+                maxId = Math.max(maxId, category.getCategoryId());
+            }
+            Category[] table = new Category[maxId + 1];
+            for (Category category : categories) {
+                table[category.getCategoryId()] = category;
+                ids.get(category.getTypeCode()).put(category.getName(), category.getCategoryId());
+            }
+            this.byId = table;
+        }
+
+        Category get(short categoryId) {
+            return (categoryId > 0 && categoryId < byId.length) ? byId[categoryId] : null;
+        }
+    }
+}
@@ -0,0 +1,253 @@
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import javax.swing.UIManager;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 분석 화면(AnalysisView)의 원그래프 / 막대 차트 / 연간 선 그래프를 화면 없이 이미지 파일로 저장합니다.
+ * (user, year, month) 작업 목록을 고정 크기 작업 스레드 풀에서 병렬로 처리하므로, 여러 사용자의 1년치 보고서를
+ * 다이얼로그를 열지 않고 한 번에 만들 수 있습니다. java.awt.headless=true에서 실행합니다.
+ *
+ * 출력 파일 (outputDir/user_ID/)
+ * - yyyy-MM_expense_pie.png / .svg       : 지출 카테고리 원그래프
+ * - yyyy-MM_income_expense_bar.png / .svg : 수입/지출 막대 차트
+ * - yyyy_yearly_line.png / .svg           : 연간 선 그래프 (같은 사용자/연도는 한 번만 조회하고 한 번만 저장)
+ *
+ * 월 합계는 월별 집계(getMonthlySummary)에서 읽으므로 작업마다 거래 원본을 훑지 않습니다.
+ */
+public class ChartReportRenderer {
+
+    public enum Format {
+        PNG, SVG
+    }
+
+    /**
+     * 보고서 1건 (사용자의 한 달)
+     */
+    public static final class Job {
+        private final int userId;
+        private final int year;
+        private final int month;
+
+        public Job(int userId, int year, int month) {
+            this.userId = userId;
+            this.year = year;
+            this.month = month;
+        }
+
+        public int getUserId() { return userId; }
+        public int getYear() { return year; }
+        public int getMonth() { return month; }
+
+        @Override
+        public String toString() {
+            return String.format("사용자 %d %d-%02d", userId, year, month);
+        }
+    }
+
+    public static final int DEFAULT_WIDTH = 800;
+    public static final int DEFAULT_HEIGHT = 500;
+    // PNG 압축 품질 (기본값(최대 압축)보다 약 20% 빠르고 파일은 조금 커짐, 렌더링 시간의 대부분이 PNG 인코딩)
+    private static final float PNG_COMPRESSION_QUALITY = 0.7f;
+
+    private final TransactionDao transactionDao = new TransactionDao();
+    private final File outputDir;
+    private final Set<Format> formats;
+    private final int threads;
+    private final int width;
+    private final int height;
+
+    // (사용자, 연도) -> 연간 월별 합계 (같은 해의 작업 12건이 한 번만 조회)
+    private final ConcurrentHashMap<Long, CompletableFuture<long[][]>> yearlyData = new ConcurrentHashMap<>();
+    // 작업 스레드마다 재사용하는 PNG 그리기용 이미지
+    private final ThreadLocal<BufferedImage> canvas = new ThreadLocal<>();
+
+    public ChartReportRenderer(File outputDir, Set<Format> formats, int threads) {
+        this(outputDir, formats, threads, DEFAULT_WIDTH, DEFAULT_HEIGHT);
+    }
+
+    public ChartReportRenderer(File outputDir, Set<Format> formats, int threads, int width, int height) {
+        this.outputDir = outputDir;
+        this.formats = formats.isEmpty() ? EnumSet.of(Format.PNG) : EnumSet.copyOf(formats);
+        this.threads = Math.max(1, threads);
+        this.width = width;
+        this.height = height;
+    }
+
+    /**
+     * 작업 목록을 병렬로 처리합니다. 실패한 작업은 System.err에 기록하고 계속 진행합니다.
+     * @return 성공한 작업 수
+     */
+    public int renderAll(List<Job> jobs) {
+        if (!outputDir.isDirectory() && !outputDir.mkdirs()) {
+            System.err.println("출력 폴더를 만들 수 없습니다: " + outputDir);
+            return 0;
+        }
+        // Look and Feel 기본값(글꼴/색)을 작업 스레드들이 동시에 초기화하지 않도록 먼저 로드
+        UIManager.getLookAndFeelDefaults();
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(threads, task -> {
+            Thread thread = new Thread(task, "chart-render-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<Future<Boolean>> results = new ArrayList<>(jobs.size());
+            for (Job job : jobs) {
+                results.add(pool.submit(() -> render(job)));
+            }
+            int succeeded = 0;
+            for (int i = 0; i < results.size(); i++) {
+                try {
+                    if (results.get(i).get()) {
+                        succeeded++;
+                    }
+                } catch (ExecutionException e) {
+                    System.err.println("차트 렌더링 오류 (" + jobs.get(i) + "): " + e.getCause());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    System.err.println("차트 렌더링이 중단되었습니다.");
+                    break;
+                }
+            }
+            return succeeded;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * 작업 1건의 차트를 모두 저장합니다.
+     */
+    private boolean render(Job job) throws IOException {
+        LedgerTotals totals = transactionDao.getMonthlySummary(job.userId, job.year, job.month);
+        if (totals == null) {
+            System.err.println("월 합계를 불러오지 못했습니다: " + job);
+            return false;
+        }
+        File userDir = new File(outputDir, "user_" + job.userId);
+        if (!userDir.isDirectory() && !userDir.mkdirs()) {
+            System.err.println("출력 폴더를 만들 수 없습니다: " + userDir);
+            return false;
+        }
+
+        long income = totals.typeTotal(CategoryRegistry.TYPE_INCOME);
+        long expense = totals.typeTotal(CategoryRegistry.TYPE_EXPENSE);
+        String prefix = String.format("%d-%02d_", job.year, job.month);
+        write(AnalysisView.createExpensePieChart(totals, expense), userDir, prefix + "expense_pie");
+        write(AnalysisView.createIncomeExpenseBarChart(income, expense), userDir, prefix + "income_expense_bar");
+
+        // 연간 그래프는 그 해를 처음 맡은 작업이 조회하고 저장
+        long key = ((long) job.userId << 16) | (job.year & 0xFFFF);
+        CompletableFuture<long[][]> created = new CompletableFuture<>();
+        CompletableFuture<long[][]> existing = yearlyData.putIfAbsent(key, created);
+        if (existing != null) {
+            return existing.join() != null;
+        }
+        long[][] yearly = null;
+        try {
+            yearly = transactionDao.getYearlySummary(job.userId, job.year);
+        } finally {
+            created.complete(yearly); // 같은 해의 다른 작업은 조회 결과만 기다림
+        }
+        if (yearly == null) {
+            System.err.println("연간 합계를 불러오지 못했습니다: 사용자 " + job.userId + " " + job.year);
+            return false;
+        }
+        write(AnalysisView.createYearlyChart(job.year, yearly), userDir, job.year + "_yearly_line");
+        return true;
+    }
+
+    private void write(CachedChartPanel chart, File dir, String baseName) throws IOException {
+        if (formats.contains(Format.PNG)) {
+            BufferedImage image = canvas.get();
+            if (image == null) {
+                image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+                canvas.set(image);
+            }
+            Graphics2D g2d = image.createGraphics();
+            try {
+                g2d.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+                chart.renderTo(g2d, width, height);
+            } finally {
+                g2d.dispose();
+            }
+            writePng(image, new File(dir, baseName + ".png"));
+        }
+        if (formats.contains(Format.SVG)) {
+            SvgGraphics2D svg = new SvgGraphics2D(width, height);
+            try {
+                chart.renderTo(svg, width, height);
+            } finally {
+                svg.dispose();
+            }
+            Files.write(new File(dir, baseName + ".svg").toPath(), svg.toSvg().getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private static void writePng(BufferedImage image, File file) throws IOException {
+        Files.deleteIfExists(file.toPath()); // ImageOutputStream은 기존 파일을 자르지 않음
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("png").next();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(file)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(PNG_COMPRESSION_QUALITY);
+            writer.setOutput(output);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+
+    /**
+     * 연간 보고서 생성 명령:
+     * java -Djava.awt.headless=true ChartReportRenderer 출력폴더 연도 사용자ID[,사용자ID...] [png|svg|both] [스레드 수]
+     */
+    public static void main(String[] args) {
+        if (args.length < 3) {
+            System.err.println("사용법: ChartReportRenderer 출력폴더 연도 사용자ID[,사용자ID...] [png|svg|both] [스레드 수]");
+            System.exit(2);
+        }
+        System.setProperty("java.awt.headless", System.getProperty("java.awt.headless", "true"));
+
+        File outputDir = new File(args[0]);
+        int year = Integer.parseInt(args[1]);
+        List<Job> jobs = new ArrayList<>();
+        for (String userId : args[2].split(",")) {
+            for (int month = 1; month <= 12; month++) {
+                jobs.add(new Job(Integer.parseInt(userId.trim()), year, month));
+            }
+        }
+        String format = (args.length > 3) ? args[3].toLowerCase() : "png";
+        Set<Format> formats = format.equals("both") ? EnumSet.allOf(Format.class)
+            : format.equals("svg") ? EnumSet.of(Format.SVG) : EnumSet.of(Format.PNG);
+        int threads = (args.length > 4) ? Integer.parseInt(args[4]) : Runtime.getRuntime().availableProcessors();
+
+        long started = System.currentTimeMillis();
+        int succeeded = new ChartReportRenderer(outputDir, formats, threads).renderAll(jobs);
+        System.out.println(String.format("차트 보고서 생성 완료: %d/%d건, %dms (%s)",
+            succeeded, jobs.size(), System.currentTimeMillis() - started, outputDir.getAbsolutePath()));
+        System.exit(succeeded == jobs.size() ? 0 : 1);
+    }
+}
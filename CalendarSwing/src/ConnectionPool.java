@@ -0,0 +1,283 @@
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.Statement;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DatabaseManager 뒤에서 MySQL 연결을 재사용하는 커넥션 풀입니다.
+ * - 동시에 빌려줄 수 있는 연결 수를 maxSize로 제한합니다.
+ * - warmUp()으로 시작 시점에 연결을 미리 만들어 둡니다.
+ * - 일정 시간 이상 쉬고 있던 연결은 빌려주기 전에 isValid()로 검사합니다.
+ * - 연결을 얻지 못하면 acquireTimeoutMillis 후 SQLTimeoutException을 던집니다.
+ * - leakThresholdMillis 이상 반환되지 않은 연결은 빌려간 위치와 함께 경고를 출력합니다.
+ * - 연결마다 PreparedStatement를 SQL별로 최대 statementCacheSize개 보관하여 재사용합니다. (StatementCache)
+ *
+ * 빌려준 Connection의 close()는 실제 연결을 닫지 않고 풀에 반환하므로,
+ * DAO는 기존처럼 try-with-resources로 사용하면 됩니다.
+ */
+public class ConnectionPool {
+
+    private final String url;
+    private final String user;
+    private final String password;
+    private final int maxSize;
+    private final long acquireTimeoutMillis;
+    private final long validationIntervalMillis;
+    private final long leakThresholdMillis;
+    private final int statementCacheSize;
+    private final StatementCache.Stats statementStats = new StatementCache.Stats();
+
+    private final Semaphore permits;
+    // 가장 최근에 반환된 연결부터 재사용(LIFO)하여 오래된 연결은 자연스럽게 검사 대상이 됩니다.
+    private final LinkedBlockingDeque<IdleConnection> idle = new LinkedBlockingDeque<>();
+    private final Set<Lease> leased = ConcurrentHashMap.newKeySet();
+    private final ScheduledExecutorService leakDetector;
+    private volatile boolean closed = false;
+
+    public ConnectionPool(String url, String user, String password, int maxSize,
+                          long acquireTimeoutMillis, long validationIntervalMillis, long leakThresholdMillis,
+                          int statementCacheSize) {
+        this.url = url;
+        this.user = user;
+        this.password = password;
+        this.maxSize = maxSize;
+        this.acquireTimeoutMillis = acquireTimeoutMillis;
+        this.validationIntervalMillis = validationIntervalMillis;
+        this.leakThresholdMillis = leakThresholdMillis;
+        this.statementCacheSize = statementCacheSize;
+        this.permits = new Semaphore(maxSize, true);
+
+        this.leakDetector = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "connection-leak-detector");
+            t.setDaemon(true);
+            return t;
+        });
+        long period = Math.max(1000, leakThresholdMillis / 2);
+        leakDetector.scheduleAtFixedRate(this::reportLeaks, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 최대 count개(풀 크기 이내)의 연결을 미리 만들어 유휴 목록에 넣어둡니다.
+     */
+    public void warmUp(int count) {
+        int target = Math.min(count, maxSize);
+        while (idle.size() < target && !closed) {
+            try {
+                idle.offerLast(new IdleConnection(openPhysical()));
+            } catch (SQLException e) {
+                System.err.println("커넥션 풀 워밍업 실패: " + e.getMessage());
+                return;
+            }
+        }
+    }
+
+    /**
+     * 풀에서 연결을 빌립니다. 반환된 Connection의 close()를 호출하면 풀로 돌아갑니다.
+     */
+    public Connection borrow() throws SQLException {
+        if (closed) {
+            throw new SQLException("커넥션 풀이 이미 종료되었습니다.");
+        }
+        try {
+            if (!permits.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new SQLTimeoutException(String.format(
+                    "%dms 안에 DB 연결을 얻지 못했습니다. (사용 중 %d/%d)", acquireTimeoutMillis, leased.size(), maxSize));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("DB 연결 대기 중 인터럽트되었습니다.", e);
+        }
+
+        try {
+            IdleConnection physical = takeValidIdle();
+            Lease lease = (physical != null)
+                ? new Lease(physical.connection, physical.statements)
+                : new Lease(openPhysical());
+            leased.add(lease);
+            return lease.proxy;
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * 풀을 종료하고 유휴 연결을 모두 닫습니다. (사용 중인 연결은 반환될 때 닫힙니다)
+     */
+    public void shutdown() {
+        closed = true;
+        leakDetector.shutdownNow();
+        IdleConnection entry;
+        while ((entry = idle.pollFirst()) != null) {
+            closeQuietly(entry.connection);
+        }
+    }
+
+    public int getActiveCount() { return leased.size(); }
+    public int getIdleCount() { return idle.size(); }
+    public int getMaxSize() { return maxSize; }
+
+    /**
+     * 풀 전체의 PreparedStatement prepare/재사용/execute 횟수
+     */
+    public StatementCache.Stats getStatementStats() { return statementStats; }
+
+    private Connection openPhysical() throws SQLException {
+        return DriverManager.getConnection(url, user, password);
+    }
+
+    /**
+     * 유휴 연결 하나를 꺼냅니다. 검사 주기를 넘긴 연결은 isValid()로 확인 후 죽었으면 버립니다.
+     */
+    private IdleConnection takeValidIdle() {
+        IdleConnection entry;
+        while ((entry = idle.pollFirst()) != null) {
+            boolean stale = System.currentTimeMillis() - entry.lastUsed > validationIntervalMillis;
+            try {
+                if (entry.connection.isClosed() || (stale && !entry.connection.isValid(2))) {
+                    closeQuietly(entry.connection);
+                    continue;
+                }
+                return entry;
+            } catch (SQLException e) {
+                closeQuietly(entry.connection);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 빌려간 연결을 돌려받습니다. 트랜잭션이 열린 채로 반환되면 롤백 후 자동 커밋으로 되돌립니다.
+     */
+    private void giveBack(Lease lease) {
+        leased.remove(lease);
+        Connection physical = lease.physical;
+        try {
+            if (closed || physical.isClosed()) {
+                closeQuietly(physical);
+            } else {
+                lease.statements.releaseAll(); // 닫지 않고 반환된 문장 회수
+                if (!physical.getAutoCommit()) {
+                    physical.rollback();
+                    physical.setAutoCommit(true);
+                }
+                idle.offerFirst(new IdleConnection(physical, lease.statements));
+            }
+        } catch (SQLException e) {
+            closeQuietly(physical);
+        } finally {
+            permits.release();
+        }
+    }
+
+    private void reportLeaks() {
+        long now = System.currentTimeMillis();
+        for (Lease lease : leased) {
+            if (!lease.reported && now - lease.borrowedAt > leakThresholdMillis) {
+                lease.reported = true;
+                System.err.println(String.format("[ConnectionPool] 연결 누수 의심: %s 스레드가 %dms 동안 연결을 반환하지 않았습니다.",
+                    lease.threadName, now - lease.borrowedAt));
+                lease.origin.printStackTrace();
+            }
+        }
+    }
+
+    private static void closeQuietly(Connection conn) {
+        try {
+            conn.close();
+        } catch (SQLException ignored) {
+        }
+    }
+
+    private class IdleConnection {
+        final Connection connection;
+        final StatementCache statements; // 연결과 함께 보관되는 문장 캐시 (연결이 닫히면 함께 버려짐)
+        final long lastUsed = System.currentTimeMillis();
+
+        IdleConnection(Connection connection) {
+            this(connection, new StatementCache(connection, statementCacheSize, statementStats));
+        }
+
+        IdleConnection(Connection connection, StatementCache statements) {
+            this.connection = connection;
+            this.statements = statements;
+        }
+    }
+
+    /**
+     * 빌려준 연결 1건. close() 호출을 가로채 실제 연결 대신 풀에 반환하고,
+     * prepareStatement(sql) / prepareStatement(sql, autoGeneratedKeys)는 연결의 문장 캐시에서 꺼내 줍니다.
+     */
+    private class Lease implements InvocationHandler {
+        final Connection physical;
+        final StatementCache statements;
+        final Connection proxy;
+        final long borrowedAt = System.currentTimeMillis();
+        final String threadName = Thread.currentThread().getName();
+        final Throwable origin = new Throwable("연결을 빌려간 위치");
+        volatile boolean reported = false;
+        private boolean returned = false;
+
+        Lease(Connection physical) {
+            this(physical, new StatementCache(physical, statementCacheSize, statementStats));
+        }
+
+        Lease(Connection physical, StatementCache statements) {
+            this.physical = physical;
+            this.statements = statements;
+            this.proxy = (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(), new Class<?>[]{Connection.class}, this);
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (method.getDeclaringClass() == Object.class) {
+                if (name.equals("equals")) return proxy == args[0];
+                if (name.equals("hashCode")) return System.identityHashCode(proxy);
+                return "PooledConnection@" + Integer.toHexString(System.identityHashCode(proxy));
+            }
+            synchronized (this) {
+                if (name.equals("close")) {
+                    if (!returned) {
+                        returned = true;
+                        giveBack(this);
+                    }
+                    return null;
+                }
+                if (name.equals("isClosed") && returned) {
+                    return true;
+                }
+                if (returned) {
+                    throw new SQLException("이미 풀에 반환된 연결입니다.");
+                }
+            }
+            if (name.equals("prepareStatement") && args[0] instanceof String) {
+                Class<?>[] types = method.getParameterTypes();
+                if (types.length == 1) {
+                    return statements.prepare(this.proxy, (String) args[0], Statement.NO_GENERATED_KEYS);
+                }
+                if (types.length == 2 && types[1] == int.class) {
+                    return statements.prepare(this.proxy, (String) args[0], (Integer) args[1]);
+                }
+            }
+            try {
+                return method.invoke(physical, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
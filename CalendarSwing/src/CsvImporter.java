@@ -0,0 +1,432 @@
+import java.io.BufferedReader;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.BooleanSupplier;
+
+/**
+ * 은행/카드사 거래내역 CSV 파일을 한 줄씩 읽어 transactions 테이블에 저장합니다.
+ * - 파일 전체를 메모리에 올리지 않고 스트리밍으로 처리합니다.
+ * - 헤더 행의 컬럼 이름으로 날짜/구분/금액/카테고리/내용 컬럼을 찾습니다.
+ * - 날짜와 금액을 검증하고, 잘못된 행은 건너뛰고 사유를 기록합니다.
+ * - batchSize 건씩 모아 TransactionDao.addTransactions()로 한 번에 커밋합니다.
+ */
+public class CsvImporter {
+
+    public static final int DEFAULT_BATCH_SIZE = 2000;
+    // 거부 사유는 처음 MAX_REJECTION_SAMPLES 건만 보관 (거대한 파일에서 메모리 보호)
+    private static final int MAX_REJECTION_SAMPLES = 100;
+
+    // 헤더 이름 후보 (소문자로 비교)
+    private static final String[] DATE_HEADERS = {"날짜", "거래일", "거래일자", "거래일시", "이용일", "이용일자", "date"};
+    private static final String[] TYPE_HEADERS = {"구분", "유형", "입출금구분", "거래구분", "type"};
+    private static final String[] AMOUNT_HEADERS = {"금액", "거래금액", "이용금액", "amount"};
+    private static final String[] INCOME_HEADERS = {"입금", "입금액", "맡기신금액", "deposit"};
+    private static final String[] EXPENSE_HEADERS = {"출금", "출금액", "찾으신금액", "withdrawal"};
+    private static final String[] CATEGORY_HEADERS = {"카테고리", "분류", "category"};
+    private static final String[] CONTENT_HEADERS = {"내용", "적요", "메모", "내용/메모", "가맹점", "가맹점명", "이용내역", "content", "memo", "description"};
+
+    private static final String DEFAULT_INCOME_CATEGORY = "기타 소득";
+    private static final String DEFAULT_EXPENSE_CATEGORY = "기타";
+
+    /**
+     * 진행 상황을 전달받는 리스너입니다. (배치 커밋마다 호출)
+     */
+    public interface ProgressListener {
+        void onProgress(long rowsRead, int imported, int rejected, long bytesRead, long totalBytes);
+    }
+
+    /**
+     * 가져오기 결과 요약입니다.
+     */
+    public static class ImportResult {
+        private long rowsRead;
+        private int imported;
+        private int rejected;
+        private boolean cancelled;
+        private long elapsedMillis;
+        private final List<String> rejectionSamples = new ArrayList<>();
+
+        public long getRowsRead() { return rowsRead; }
+        public int getImported() { return imported; }
+        public int getRejected() { return rejected; }
+        public boolean isCancelled() { return cancelled; }
+        public long getElapsedMillis() { return elapsedMillis; }
+        public List<String> getRejectionSamples() { return rejectionSamples; }
+
+        private void reject(long lineNo, String reason) {
+            rejected++;
+            if (rejectionSamples.size() < MAX_REJECTION_SAMPLES) {
+                rejectionSamples.add(lineNo + "행: " + reason);
+            }
+        }
+
+        /**
+         * 결과를 사람이 읽을 수 있는 문자열로 만듭니다.
+         */
+        public String toSummary() {
+            StringBuilder sb = new StringBuilder();
+            sb.append(String.format("읽은 행: %,d / 저장: %,d / 거부: %,d (%.1f초)",
+                rowsRead, imported, rejected, elapsedMillis / 1000.0));
+            if (cancelled) {
+                sb.append("\n(사용자 요청으로 중단되었습니다. 이미 커밋된 행은 저장되어 있습니다.)");
+            }
+            if (!rejectionSamples.isEmpty()) {
+                sb.append("\n\n거부된 행");
+                if (rejected > rejectionSamples.size()) {
+                    sb.append(String.format(" (처음 %d건)", rejectionSamples.size()));
+                }
+                sb.append(":");
+                for (String sample : rejectionSamples) {
+                    sb.append("\n - ").append(sample);
+                }
+            }
+            return sb.toString();
+        }
+    }
+
+    private final TransactionDao transactionDao;
+    private final int batchSize;
+
+    public CsvImporter(TransactionDao transactionDao) {
+        this(transactionDao, DEFAULT_BATCH_SIZE);
+    }
+
+    public CsvImporter(TransactionDao transactionDao, int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize는 1 이상이어야 합니다: " + batchSize);
+        }
+        this.transactionDao = transactionDao;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * CSV 파일을 스트리밍으로 읽어 userId 사용자의 거래 내역으로 저장합니다.
+     * 매 행마다 cancelRequested를 확인하여, 취소되면 아직 커밋하지 않은 배치는 저장하지 않고 바로 중단합니다.
+     * 이때도 예외 없이 그때까지의 결과(isCancelled() = true, 커밋된 건수 포함)를 반환합니다.
+     * @param file CSV 파일 (첫 행은 헤더)
+     * @param charset 파일 인코딩 (예: UTF-8, MS949)
+     * @param userId 저장할 사용자 ID
+     * @param listener 진행 상황 리스너 (null 가능)
+     * @param cancelRequested 취소 여부 (예: ProgressMonitor::isCanceled, null이면 취소하지 않음)
+     */
+    public ImportResult importFile(Path file, Charset charset, int userId, ProgressListener listener,
+                                   BooleanSupplier cancelRequested) throws IOException {
+        long started = System.currentTimeMillis();
+        long totalBytes = Files.size(file);
+        ImportResult result = new ImportResult();
+
+        try (CountingInputStream counter = new CountingInputStream(Files.newInputStream(file));
+             BufferedReader reader = new BufferedReader(new InputStreamReader(counter, charset), 1 << 16)) {
+
+            String headerLine = reader.readLine();
+            if (headerLine == null) {
+                throw new IOException("빈 파일입니다.");
+            }
+            if (!headerLine.isEmpty() && headerLine.charAt(0) == '\uFEFF') {
+                headerLine = headerLine.substring(1); // UTF-8 BOM 제거
+            }
+            ColumnMapping mapping = ColumnMapping.fromHeader(splitLine(headerLine, new ArrayList<>()));
+
+            List<Transaction> batch = new ArrayList<>(batchSize);
+            List<String> fields = new ArrayList<>();
+            long lineNo = 1;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (cancelRequested != null && cancelRequested.getAsBoolean()) {
+                    result.cancelled = true;
+                    break;
+                }
+                lineNo++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                result.rowsRead++;
+
+                Transaction t;
+                try {
+                    t = mapping.toTransaction(splitLine(line, fields), userId);
+                } catch (IllegalArgumentException | DateTimeException e) {
+                    result.reject(lineNo, e.getMessage());
+                    continue;
+                }
+                batch.add(t);
+
+                if (batch.size() >= batchSize) {
+                    flush(batch, lineNo, result);
+                    if (listener != null) {
+                        listener.onProgress(result.rowsRead, result.imported, result.rejected, counter.count, totalBytes);
+                    }
+                }
+            }
+            if (!result.cancelled && !batch.isEmpty()) {
+                flush(batch, lineNo, result);
+            }
+            if (listener != null) {
+                listener.onProgress(result.rowsRead, result.imported, result.rejected, counter.count, totalBytes);
+            }
+        }
+
+        result.elapsedMillis = System.currentTimeMillis() - started;
+        return result;
+    }
+
+    /**
+     * 모아둔 행을 한 번의 DB 트랜잭션으로 저장합니다. 실패하면 배치 전체가 거부됩니다.
+     */
+    private void flush(List<Transaction> batch, long lastLineNo, ImportResult result) {
+        List<Integer> ids = transactionDao.addTransactions(batch);
+        if (ids.size() == batch.size()) {
+            result.imported += batch.size();
+        } else {
+            result.rejected += batch.size();
+            if (result.rejectionSamples.size() < MAX_REJECTION_SAMPLES) {
+                result.rejectionSamples.add(String.format("%d행까지의 %d건: DB 저장 실패 (배치 롤백)", lastLineNo, batch.size()));
+            }
+        }
+        batch.clear();
+    }
+
+    /**
+     * CSV 한 줄을 필드로 나눕니다. 큰따옴표로 감싼 필드와 이스케이프된 큰따옴표("")를 지원합니다.
+     * (필드 안의 줄바꿈은 은행 내보내기 파일에서 쓰이지 않으므로 지원하지 않습니다)
+     */
+    static List<String> splitLine(String line, List<String> out) {
+        out.clear();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"') {
+                    if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        field.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                out.add(field.toString().trim());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        out.add(field.toString().trim());
+        return out;
+    }
+
+    /**
+     * 헤더에서 찾은 컬럼 위치로 CSV 행을 Transaction으로 변환합니다.
+     */
+    static class ColumnMapping {
+        int date = -1;
+        int type = -1;
+        int amount = -1;
+        int income = -1;
+        int expense = -1;
+        int category = -1;
+        int content = -1;
+
+        static ColumnMapping fromHeader(List<String> header) throws IOException {
+            ColumnMapping m = new ColumnMapping();
+            for (int i = 0; i < header.size(); i++) {
+                String name = header.get(i).replace(" ", "").toLowerCase(Locale.ROOT);
+                if (m.date < 0 && matches(name, DATE_HEADERS)) m.date = i;
+                else if (m.type < 0 && matches(name, TYPE_HEADERS)) m.type = i;
+                else if (m.amount < 0 && matches(name, AMOUNT_HEADERS)) m.amount = i;
+                else if (m.income < 0 && matches(name, INCOME_HEADERS)) m.income = i;
+                else if (m.expense < 0 && matches(name, EXPENSE_HEADERS)) m.expense = i;
+                else if (m.category < 0 && matches(name, CATEGORY_HEADERS)) m.category = i;
+                else if (m.content < 0 && matches(name, CONTENT_HEADERS)) m.content = i;
+            }
+            if (m.date < 0) {
+                throw new IOException("날짜 컬럼을 찾을 수 없습니다. 헤더: " + header);
+            }
+            if (m.amount < 0 && m.income < 0 && m.expense < 0) {
+                throw new IOException("금액(또는 입금/출금) 컬럼을 찾을 수 없습니다. 헤더: " + header);
+            }
+            return m;
+        }
+
+        private static boolean matches(String name, String[] candidates) {
+            for (String candidate : candidates) {
+                if (name.equals(candidate)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        Transaction toTransaction(List<String> fields, int userId) {
+            String txDate = parseDate(field(fields, date));
+
+            String txType;
+            long value;
+            if (amount >= 0) {
+                value = parseAmount(field(fields, amount));
+                txType = type >= 0 ? parseType(field(fields, type)) : null;
+                if (txType == null) {
+                    // 구분 컬럼이 없으면 부호로 판단 (음수 = 지출)
+                    txType = value < 0 ? "지출" : "수입";
+                }
+                value = Math.abs(value);
+            } else {
+                String in = field(fields, income);
+                String out = field(fields, expense);
+                if (!in.isEmpty() && parseAmount(in) != 0) {
+                    txType = "수입";
+                    value = Math.abs(parseAmount(in));
+                } else if (!out.isEmpty()) {
+                    txType = "지출";
+                    value = Math.abs(parseAmount(out));
+                } else {
+                    throw new IllegalArgumentException("입금/출금 금액이 모두 비어 있습니다.");
+                }
+            }
+            if (value <= 0) {
+                throw new IllegalArgumentException("금액은 0보다 커야 합니다.");
+            }
+
+            String txCategory = field(fields, category);
+            if (txCategory.isEmpty()) {
+                txCategory = txType.equals("수입") ? DEFAULT_INCOME_CATEGORY : DEFAULT_EXPENSE_CATEGORY;
+            } else if (txCategory.length() > 50) {
+                txCategory = txCategory.substring(0, 50);
+            }
+            String memo = field(fields, content);
+            if (memo.length() > 255) {
+                memo = memo.substring(0, 255);
+            }
+            return new Transaction(userId, txDate, txType, value, txCategory, memo);
+        }
+
+        private static String field(List<String> fields, int index) {
+            return (index >= 0 && index < fields.size()) ? fields.get(index) : "";
+        }
+    }
+
+    /**
+     * "2025-03-07", "2025.03.07", "2025/3/7", "20250307" (뒤에 시간이 붙어도 무시) 형식을 "yyyy-MM-dd"로 변환합니다.
+     */
+    static String parseDate(String text) {
+        if (text.isEmpty()) {
+            throw new IllegalArgumentException("날짜가 비어 있습니다.");
+        }
+        int[] parts = new int[3];
+        int part = 0;
+        int digits = 0;
+        for (int i = 0; i < text.length() && part < 3; i++) {
+            char c = text.charAt(i);
+            if (c >= '0' && c <= '9') {
+                parts[part] = parts[part] * 10 + (c - '0');
+                digits++;
+                // 구분자 없는 yyyyMMdd 형식
+                if ((part == 0 && digits == 4) || (part > 0 && digits == 2)) {
+                    part++;
+                    digits = 0;
+                }
+            } else if (c == '-' || c == '.' || c == '/') {
+                if (digits > 0) {
+                    part++;
+                    digits = 0;
+                }
+            } else if (c == ' ' || c == 'T') {
+                break;
+            } else {
+                throw new IllegalArgumentException("날짜 형식이 올바르지 않습니다: " + text);
+            }
+        }
+        if (digits > 0) {
+            part++;
+        }
+        if (part < 3 || parts[0] < 1000) {
+            throw new IllegalArgumentException("날짜 형식이 올바르지 않습니다: " + text);
+        }
+        // 존재하지 않는 날짜(예: 2월 30일)는 DateTimeException
+        return LocalDate.of(parts[0], parts[1], parts[2]).toString();
+    }
+
+    /**
+     * "12,500", "-3,000원", "₩ 1,000" 같은 금액 문자열을 Money 최소 단위 정수로 변환합니다.
+     */
+    static long parseAmount(String text) {
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if ((c >= '0' && c <= '9') || c == '.' || c == '-') {
+                sb.append(c);
+            } else if (c != ',' && c != '원' && c != '₩' && c != ' ' && c != '+') {
+                throw new IllegalArgumentException("금액 형식이 올바르지 않습니다: " + text);
+            }
+        }
+        if (sb.length() == 0) {
+            throw new IllegalArgumentException("금액이 비어 있습니다.");
+        }
+        try {
+            return Money.parseMinor(sb.toString());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("금액 형식이 올바르지 않습니다: " + text);
+        }
+    }
+
+    /**
+     * 구분 컬럼 값을 "수입"/"지출"로 변환합니다. 알 수 없는 값이면 null (금액 부호로 판단).
+     */
+    static String parseType(String text) {
+        switch (text) {
+            case "수입": case "입금": case "income": case "deposit":
+                return "수입";
+            case "지출": case "출금": case "승인": case "결제": case "expense": case "withdrawal":
+                return "지출";
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * 읽은 바이트 수를 세는 입력 스트림 (진행률 표시용)
+     */
+    private static class CountingInputStream extends FilterInputStream {
+        volatile long count;
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) count++;
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = super.read(b, off, len);
+            if (n > 0) count += n;
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(n);
+            count += skipped;
+            return skipped;
+        }
+    }
+}
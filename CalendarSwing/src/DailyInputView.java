@@ -18,10 +18,6 @@ public class DailyInputView extends JDialog implements ActionListener {
 
     private final TransactionDao transactionDao = new TransactionDao(); 
 
-    // 카테고리 데이터 정의
-    private final String[] EXPENSE_CATEGORIES = {"식비", "교통", "생활/쇼핑", "문화/여가", "건강/의료", "경조사/모임", "교육/자기개발", "기타"};
-    private final String[] INCOME_CATEGORIES = {"근로 소득", "부가 소득", "금융 소득", "기타 소득"};
-
     public DailyInputView(CalendarSwing owner, String date, User user) {
         super(owner, user.getUsername() + "님의 " + date + " 입력", true); 
         this.parent = owner;
@@ -81,7 +77,7 @@ public class DailyInputView extends JDialog implements ActionListener {
     private void showCategoryPopup(JButton sourceButton) {
         JPopupMenu popupMenu = new JPopupMenu();
         String selectedType = (String) typeCombo.getSelectedItem();
-        String[] categories = selectedType.equals("수입") ? INCOME_CATEGORIES : EXPENSE_CATEGORIES;
+        String[] categories = CategoryRegistry.get().namesOf(selectedType); // 공유 카테고리 사전
         
         for (String category : categories) {
             JMenuItem item = new JMenuItem(category);
@@ -131,9 +127,9 @@ public class DailyInputView extends JDialog implements ActionListener {
             return;
         }
 
-        double amount;
+        long amount;
         try {
-            amount = Double.parseDouble(amountText);
+            amount = Money.parseMinor(amountText); // 최소 단위로 정확히 변환
         } catch (NumberFormatException ex) {
             JOptionPane.showMessageDialog(this, "금액은 유효한 숫자 형식이어야 합니다.", "입력 오류", JOptionPane.ERROR_MESSAGE);
             return;
@@ -150,14 +146,18 @@ public class DailyInputView extends JDialog implements ActionListener {
         );
         
         //  [수정] save() -> addTransaction()
-        if (transactionDao.addTransaction(newTransaction)) {
-            JOptionPane.showMessageDialog(this, "거래 내역이 성공적으로 저장되었습니다.", "저장 완료", JOptionPane.INFORMATION_MESSAGE);
-            // [수정] reloadMonthData() -> loadMonthData()
-            parent.loadMonthData(); 
-        } else {
-            JOptionPane.showMessageDialog(this, "DB 저장 중 오류가 발생했습니다.", "저장 실패", JOptionPane.ERROR_MESSAGE);
-        }
-        
-        this.dispose(); // 창 닫기
+        // 저장은 EDT 밖에서 실행하고, 끝날 때까지 저장 버튼을 비활성화
+        saveBtn.setEnabled(false);
+        transactionDao.saveTransactionAsync(newTransaction).whenCompleteAsync((saved, error) -> {
+            if (error == null && saved != null) {
+                JOptionPane.showMessageDialog(this, "거래 내역이 성공적으로 저장되었습니다.", "저장 완료", JOptionPane.INFORMATION_MESSAGE);
+                // [수정] 달 전체를 다시 불러오지 않고 저장된 거래만 반영
+                parent.transactionAdded(saved); 
+            } else {
+                JOptionPane.showMessageDialog(this, "DB 저장 중 오류가 발생했습니다.", "저장 실패", JOptionPane.ERROR_MESSAGE);
+            }
+            
+            this.dispose(); // 창 닫기
+        }, DbExecutor.EDT);
     }
 }
\ No newline at end of file
@@ -1,22 +1,149 @@
 import java.sql.Connection;
-import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
 
 public class DatabaseManager {
     // ⚠️ 안정성 강화: serverTimezone=UTC&useSSL=false 옵션 추가
-    private static final String DB_URL = "jdbc:mysql://localhost:3306/FinanceAppDB?serverTimezone=UTC&useSSL=false&allowPublicKeyRetrieval=true"; 
+    // rewriteBatchedStatements=true: JDBC 배치 INSERT를 다중 행 INSERT 한 번으로 재작성 (일괄 저장 성능)
+    // useServerPrepStmts + cachePrepStmts: 서버 측 prepared statement를 사용하고 드라이버가 연결별로 캐시 (SQL 재파싱 방지)
+    private static final String DB_URL = "jdbc:mysql://localhost:3306/FinanceAppDB?serverTimezone=UTC&useSSL=false&allowPublicKeyRetrieval=true&rewriteBatchedStatements=true"
+            + "&useServerPrepStmts=true&cachePrepStmts=true&prepStmtCacheSize=64&prepStmtCacheSqlLimit=2048";
     private static final String DB_USER = "root";          
     private static final String DB_PASSWORD = "han0226";
+
+    // 커넥션 풀 설정
+    private static final int POOL_MAX_SIZE = 8;                    // 동시에 사용할 수 있는 최대 연결 수
+    private static final int POOL_WARM_SIZE = 2;                   // 시작 시 미리 만들어 둘 연결 수
+    private static final long POOL_ACQUIRE_TIMEOUT_MS = 5000;      // 연결 대기 최대 시간
+    private static final long POOL_VALIDATION_INTERVAL_MS = 30000; // 이 시간 이상 쉰 연결은 검사 후 사용
+    private static final long POOL_LEAK_THRESHOLD_MS = 60000;      // 이 시간 이상 반환되지 않으면 누수 경고
+    private static final int POOL_STATEMENT_CACHE_SIZE = 32;       // 연결마다 재사용할 PreparedStatement 수
+
+    private static ConnectionPool pool;
+
+    // 종료 시 커넥션 풀을 닫기 전에 실행할 작업 (지연 저장 큐 비우기 등, 등록 순서대로 실행)
+    private static final List<Runnable> preShutdownTasks = new ArrayList<>();
+    private static boolean shutdownHookAdded = false;
+
+    // 저장소 선택: -Dledger.store=mysql|memory (또는 환경 변수 LEDGER_STORE), 기본값 mysql
+    public static final String STORE_PROPERTY = "ledger.store";
+    private static final String STORE_ENV = "LEDGER_STORE";
+
+    private static LedgerStore store;
+
+    /**
+     * 설정에 따라 선택된 저장소를 반환합니다. (최초 호출 시 1회 생성, 모든 DAO가 공유)
+     * - mysql  : MySQL 서버 (MySqlLedgerStore)
+     * - memory : 외부 서버 없이 프로세스 안에서 동작하는 메모리 저장소 (InMemoryLedgerStore)
+     */
+    public static synchronized LedgerStore store() {
+        if (store == null) {
+            String name = System.getProperty(STORE_PROPERTY, System.getenv(STORE_ENV));
+            if (name == null || name.trim().isEmpty() || name.trim().equalsIgnoreCase("mysql")) {
+                store = new MySqlLedgerStore();
+            } else if (name.trim().equalsIgnoreCase("memory")) {
+                store = new InMemoryLedgerStore();
+            } else {
+                System.err.println("알 수 없는 저장소 설정 '" + name + "' - MySQL 저장소를 사용합니다. (mysql 또는 memory)");
+                store = new MySqlLedgerStore();
+            }
+        }
+        return store;
+    }
+
+    /**
+     * 선택된 저장소를 초기화합니다. (MySQL이면 커넥션 풀 워밍업 + 테이블 생성, LoginView에서 호출됨)
+     */
+    public static void initializeStore() {
+        store().initialize();
+        CategoryRegistry.get().capacity(); // 카테고리 사전을 미리 로드 (화면에서 DB 조회를 기다리지 않도록)
+    }
+
+    /**
+     * 커넥션 풀을 (필요하면 생성하여) 반환합니다. 드라이버 로딩은 최초 1회만 수행됩니다.
+     */
+    private static synchronized ConnectionPool pool() throws ClassNotFoundException {
+        if (pool == null) {
+            Class.forName("com.mysql.cj.jdbc.Driver");
+            pool = new ConnectionPool(DB_URL, DB_USER, DB_PASSWORD, POOL_MAX_SIZE,
+                POOL_ACQUIRE_TIMEOUT_MS, POOL_VALIDATION_INTERVAL_MS, POOL_LEAK_THRESHOLD_MS, POOL_STATEMENT_CACHE_SIZE);
+            addShutdownHook();
+        }
+        return pool;
+    }
+
+    /**
+     * 앱 종료 시 커넥션 풀을 닫기 전에 실행할 작업을 등록합니다. (지연 저장 큐의 남은 거래 저장 등)
+     * 종료 훅은 하나뿐이므로 등록된 작업이 모두 끝난 뒤에 풀이 닫힙니다.
+     */
+    public static synchronized void addPreShutdownTask(Runnable task) {
+        preShutdownTasks.add(task);
+        addShutdownHook();
+    }
+
+    private static synchronized void addShutdownHook() {
+        if (!shutdownHookAdded) {
+            shutdownHookAdded = true;
+            Runtime.getRuntime().addShutdownHook(new Thread(DatabaseManager::shutdown, "ledger-shutdown"));
+        }
+    }
+
+    /**
+     * 종료 순서: 등록된 작업(DB에 쓰는 작업 포함) -> 커넥션 풀 닫기
+     * 작업이 풀에서 연결을 빌릴 수 있도록 클래스 잠금은 목록을 복사할 때만 잡습니다.
+     */
+    private static void shutdown() {
+        List<Runnable> tasks;
+        synchronized (DatabaseManager.class) {
+            tasks = new ArrayList<>(preShutdownTasks);
+        }
+        for (Runnable task : tasks) {
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                System.err.println("종료 작업 중 오류 발생: " + e.getMessage());
+            }
+        }
+        ConnectionPool current;
+        synchronized (DatabaseManager.class) {
+            current = pool;
+        }
+        if (current != null) {
+            current.shutdown();
+        }
+    }
+
+    /**
+     * 앱 시작 시 커넥션 풀을 만들고 연결을 미리 확보합니다. (LoginView에서 호출됨)
+     */
+    public static void startPool() {
+        try {
+            pool().warmUp(POOL_WARM_SIZE);
+        } catch (ClassNotFoundException e) {
+            System.err.println("MySQL 드라이버(Connector/J)를 찾을 수 없습니다. JAR 파일을 추가했는지 확인하세요.");
+            e.printStackTrace();
+        }
+    }
     
     /**
-     * MySQL DB 연결을 가져옵니다.
+     * 풀 전체의 PreparedStatement prepare/재사용/execute 횟수를 반환합니다. (풀이 아직 없으면 null, 디버깅용)
+     */
+    public static synchronized StatementCache.Stats getStatementStats() {
+        return (pool != null) ? pool.getStatementStats() : null;
+    }
+
+    /**
+     * 커넥션 풀에서 MySQL DB 연결을 빌려옵니다.
+     * 반환된 연결의 close()를 호출하면 실제로 닫히지 않고 풀로 돌아갑니다.
      */
     public static Connection connect() {
         Connection conn = null;
         try {
-            Class.forName("com.mysql.cj.jdbc.Driver"); 
-            conn = DriverManager.getConnection(DB_URL, DB_USER, DB_PASSWORD);
+            conn = pool().borrow();
         } catch (ClassNotFoundException e) {
             System.err.println("MySQL 드라이버(Connector/J)를 찾을 수 없습니다. JAR 파일을 추가했는지 확인하세요.");
             e.printStackTrace();
@@ -37,16 +164,28 @@ public class DatabaseManager {
                 + " created_at DATETIME DEFAULT CURRENT_TIMESTAMP\n"
                 + ");";
 
+        // 카테고리 사전 테이블 (유형 번호: 0 = 수입, 1 = 지출, CategoryRegistry 참고)
+        String sqlCategory = "CREATE TABLE IF NOT EXISTS categories (\n"
+                + " id SMALLINT AUTO_INCREMENT PRIMARY KEY,\n"
+                + " type_code TINYINT NOT NULL,\n"
+                + " name VARCHAR(50) NOT NULL,\n"
+                + " sort_order INT NOT NULL DEFAULT 0,\n"   // 화면 표시 순서
+                + " UNIQUE KEY uk_category (type_code, name)\n"
+                + ");";
+
         // 🚨 transactions 테이블 생성 SQL 추가
         String sqlTransaction = "CREATE TABLE IF NOT EXISTS transactions (\n"
                 + " id INT AUTO_INCREMENT PRIMARY KEY,\n"
                 + " user_id INT NOT NULL,\n"
                 + " date DATE NOT NULL, \n"
-                + " type VARCHAR(10) NOT NULL, \n"
-                + " amount DOUBLE NOT NULL,\n"
-                + " category VARCHAR(50),\n"
+                + " type_code TINYINT NOT NULL, \n"          // 0 = 수입, 1 = 지출
+                + " amount BIGINT NOT NULL,\n"              // Money 최소 단위 (1원 = 100)
+                + " category_id SMALLINT,\n"                 // NULL = 카테고리 없음
                 + " content VARCHAR(255),\n"
-                + " FOREIGN KEY (user_id) REFERENCES users(id)\n"
+                + " FOREIGN KEY (user_id) REFERENCES users(id),\n"
+                + " CONSTRAINT fk_tx_category FOREIGN KEY (category_id) REFERENCES categories(id),\n"
+                + " INDEX idx_tx_user_date (user_id, date),\n"                   // 월/연 범위 조회
+                + " INDEX idx_tx_user_typecode_date_cat (user_id, type_code, date, category_id)\n" // 유형별/카테고리별 합계
                 + ");";
         
         // 🚨 Goal 테이블 생성 SQL 추가
@@ -55,24 +194,198 @@ public class DatabaseManager {
                 + " user_id INT NOT NULL,\n"
                 + " type VARCHAR(10) NOT NULL,\n"       // 수입 또는 지출
                 + " category VARCHAR(50),\n"            // 카테고리 (NULL이면 전체)
-                + " target_amount DOUBLE NOT NULL,\n"   // 목표 금액
+                + " target_amount BIGINT NOT NULL,\n"   // 목표 금액 (Money 최소 단위)
                 + " year INT NOT NULL,\n"               // 목표 연도
                 + " month INT NOT NULL,\n"              // 목표 월
                 + " FOREIGN KEY (user_id) REFERENCES users(id)\n"
                 + ", UNIQUE KEY unique_goal (user_id, year, month, type, category)" // 중복 목표 방지
                 + ");";
 
+        // 월별 집계(rollup) 테이블: 거래 추가/삭제와 같은 트랜잭션에서 갱신됨 (MonthlySummaryRollup 참고)
+        String sqlMonthlySummary = "CREATE TABLE IF NOT EXISTS monthly_summary (\n"
+                + " user_id INT NOT NULL,\n"
+                + " year INT NOT NULL,\n"
+                + " month INT NOT NULL,\n"
+                + " type_code TINYINT NOT NULL,\n"
+                + " category_id SMALLINT NOT NULL DEFAULT 0,\n"  // 카테고리 없음 = 0
+                + " total_amount BIGINT NOT NULL DEFAULT 0,\n"   // Money 최소 단위
+                + " tx_count INT NOT NULL DEFAULT 0,\n"
+                + " PRIMARY KEY (user_id, year, month, type_code, category_id),\n"
+                + " FOREIGN KEY (user_id) REFERENCES users(id)\n"
+                + ");";
+
         try (Connection conn = connect();
              Statement stmt = conn.createStatement()) {
             
             if (conn != null) {
                 stmt.execute(sqlUser);
+                stmt.execute(sqlCategory);    // 카테고리 사전 테이블 생성
+                seedCategories(conn);         // 기본 카테고리 저장 (이미 있으면 무시)
                 stmt.execute(sqlTransaction); // 테이블 생성 실행
                 stmt.execute(sqlGoal);	//목표 테이블 생성 실행
+
+                // 기존 DB: 문자열 type/category 컬럼을 번호 컬럼으로 변환
+                migrateCategoryCodes(conn);
+                // 기존 DB: DOUBLE 금액 컬럼을 BIGINT 최소 단위로 변환
+                migrateMinorAmount(conn, "transactions", "amount");
+                migrateMinorAmount(conn, "goals", "target_amount");
+
+                // 이미 만들어진 transactions 테이블에도 복합 인덱스 추가
+                ensureIndex(conn, "transactions", "idx_tx_user_date", "user_id, date");
+                ensureIndex(conn, "transactions", "idx_tx_user_typecode_date_cat", "user_id, type_code, date, category_id");
+
+                // 문자열 키 / DOUBLE 합계로 만들어진 기존 집계 테이블은 다시 만듦 (아래 rebuildIfEmpty로 재계산)
+                if (columnExists(conn, "monthly_summary", "category")
+                        || "double".equals(columnType(conn, "monthly_summary", "total_amount"))) {
+                    stmt.execute("DROP TABLE monthly_summary");
+                }
+                stmt.execute(sqlMonthlySummary); // 월별 집계 테이블 생성
+                MonthlySummaryRollup.rebuildIfEmpty(conn); // 기존 데이터가 있으면 집계 생성
             }
 
         } catch (SQLException e) {
             System.err.println("테이블 생성 중 오류 발생: " + e.getMessage());
         }
     }
+
+    /**
+     * 기본 카테고리를 저장합니다. (UNIQUE KEY로 이미 있는 카테고리는 무시)
+     */
+    private static void seedCategories(Connection conn) throws SQLException {
+        String sql = "INSERT IGNORE INTO categories (type_code, name, sort_order) VALUES (?, ?, ?)";
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            for (Category category : CategoryRegistry.defaults()) {
+                pstmt.setByte(1, category.getTypeCode());
+                pstmt.setString(2, category.getName());
+                pstmt.setInt(3, category.getSortOrder());
+                pstmt.addBatch();
+            }
+            pstmt.executeBatch();
+        }
+    }
+
+    /**
+     * 문자열 type/category 컬럼을 쓰던 기존 transactions 테이블을 type_code/category_id 컬럼으로 변환합니다.
+     * 단계마다 현재 상태를 확인하므로 중간에 중단되어도 다시 실행하면 이어서 진행합니다. (MySQL DDL은 자동 커밋)
+     */
+    private static void migrateCategoryCodes(Connection conn) throws SQLException {
+        if (!columnExists(conn, "transactions", "type")) {
+            return; // 이미 변환됨 (또는 새 DB)
+        }
+        System.out.println("[DatabaseManager] 거래 내역의 유형/카테고리를 번호로 변환합니다...");
+        String typeCodeExpr = "CASE t.type WHEN '수입' THEN " + CategoryRegistry.TYPE_INCOME
+                            + " ELSE " + CategoryRegistry.TYPE_EXPENSE + " END";
+
+        try (Statement stmt = conn.createStatement()) {
+            // 1. 기존 거래에 쓰인 카테고리를 사전에 등록
+            stmt.executeUpdate("INSERT IGNORE INTO categories (type_code, name, sort_order) "
+                + "SELECT DISTINCT " + typeCodeExpr + ", t.category, " + CategoryRegistry.CUSTOM_SORT_ORDER + " "
+                + "FROM transactions t WHERE t.category IS NOT NULL AND t.category <> ''");
+
+            // 2. 번호 컬럼 추가 후 채우기
+            if (!columnExists(conn, "transactions", "type_code")) {
+                stmt.execute("ALTER TABLE transactions ADD COLUMN type_code TINYINT NULL AFTER date, "
+                    + "ADD COLUMN category_id SMALLINT NULL AFTER amount");
+            }
+            stmt.executeUpdate("UPDATE transactions t "
+                + "LEFT JOIN categories c ON c.type_code = " + typeCodeExpr + " AND c.name = t.category "
+                + "SET t.type_code = " + typeCodeExpr + ", t.category_id = c.id");
+
+            // 3. 제약 조건 추가, 문자열 인덱스/컬럼 제거
+            stmt.execute("ALTER TABLE transactions MODIFY type_code TINYINT NOT NULL");
+            if (!constraintExists(conn, "transactions", "fk_tx_category")) {
+                stmt.execute("ALTER TABLE transactions ADD CONSTRAINT fk_tx_category "
+                    + "FOREIGN KEY (category_id) REFERENCES categories(id)");
+            }
+            if (indexExists(conn, "transactions", "idx_tx_user_type_date_cat")) {
+                stmt.execute("DROP INDEX idx_tx_user_type_date_cat ON transactions");
+            }
+            stmt.execute("ALTER TABLE transactions DROP COLUMN type, DROP COLUMN category");
+        }
+    }
+
+    /**
+     * DOUBLE(원 단위) 금액 컬럼을 BIGINT(Money 최소 단위) 컬럼으로 변환합니다.
+     * 새 컬럼에 값을 채운 뒤 기존 컬럼 삭제와 이름 변경을 한 ALTER 문으로 처리하므로,
+     * 중간에 중단되어도 다시 실행하면 같은 결과가 됩니다. (값을 두 번 곱하지 않음)
+     */
+    private static void migrateMinorAmount(Connection conn, String table, String column) throws SQLException {
+        if (!"double".equals(columnType(conn, table, column))) {
+            return; // 이미 변환됨 (또는 새 DB)
+        }
+        System.out.println("[DatabaseManager] " + table + "." + column + " 금액을 최소 단위 정수로 변환합니다...");
+        String minorColumn = column + "_minor";
+        try (Statement stmt = conn.createStatement()) {
+            if (!columnExists(conn, table, minorColumn)) {
+                stmt.execute("ALTER TABLE " + table + " ADD COLUMN " + minorColumn + " BIGINT NULL AFTER " + column);
+            }
+            stmt.executeUpdate("UPDATE " + table + " SET " + minorColumn + " = ROUND(" + column + " * " + Money.SCALE + ")");
+            stmt.execute("ALTER TABLE " + table + " DROP COLUMN " + column + ", "
+                + "CHANGE COLUMN " + minorColumn + " " + column + " BIGINT NOT NULL");
+        }
+    }
+
+    /**
+     * 컬럼이 있는지 확인합니다.
+     */
+    private static boolean columnExists(Connection conn, String table, String column) throws SQLException {
+        return columnType(conn, table, column) != null;
+    }
+
+    /**
+     * 컬럼의 자료형(소문자, 예: "double", "bigint")을 반환합니다. 컬럼이 없으면 null
+     */
+    private static String columnType(Connection conn, String table, String column) throws SQLException {
+        String sql = "SELECT LOWER(data_type) FROM information_schema.columns "
+                   + "WHERE table_schema = DATABASE() AND table_name = ? AND column_name = ? LIMIT 1";
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.setString(1, table);
+            pstmt.setString(2, column);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                return rs.next() ? rs.getString(1) : null;
+            }
+        }
+    }
+
+    /**
+     * 제약 조건(외래 키 등)이 있는지 확인합니다.
+     */
+    private static boolean constraintExists(Connection conn, String table, String constraintName) throws SQLException {
+        String sql = "SELECT 1 FROM information_schema.table_constraints "
+                   + "WHERE table_schema = DATABASE() AND table_name = ? AND constraint_name = ? LIMIT 1";
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.setString(1, table);
+            pstmt.setString(2, constraintName);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                return rs.next();
+            }
+        }
+    }
+
+    /**
+     * 인덱스가 있는지 확인합니다.
+     */
+    private static boolean indexExists(Connection conn, String table, String indexName) throws SQLException {
+        String sql = "SELECT 1 FROM information_schema.statistics "
+                   + "WHERE table_schema = DATABASE() AND table_name = ? AND index_name = ? LIMIT 1";
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.setString(1, table);
+            pstmt.setString(2, indexName);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                return rs.next();
+            }
+        }
+    }
+
+    /**
+     * 인덱스가 없으면 생성합니다. (MySQL은 CREATE INDEX IF NOT EXISTS를 지원하지 않으므로 information_schema로 확인)
+     */
+    private static void ensureIndex(Connection conn, String table, String indexName, String columns) throws SQLException {
+        if (indexExists(conn, table, indexName)) {
+            return;
+        }
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute("CREATE INDEX " + indexName + " ON " + table + " (" + columns + ")");
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,117 @@
+/**
+ * 달력 날짜 칸의 요약 줄("카테고리: +1,234")을 만드는 포맷터입니다. (MonthGridView 전용, 한 스레드(EDT)에서만 사용)
+ *
+ * 일별 / 카테고리별 합계(MonthSnapshot의 LedgerTotals)를 그대로 읽어 줄을 만들며, String.format 대신
+ * 재사용하는 StringBuilder와 Money.appendTo로 금액을 붙입니다. 결과는 두 단계로 기억해 둡니다.
+ * - 날짜별: 마지막으로 만든 합계 객체와 그 버전이 같으면 아무것도 다시 만들지 않습니다.
+ * - 줄별: (유형, 카테고리, 금액)이 같은 줄은 이전에 만든 문자열을 재사용합니다. (달을 오가도 재사용)
+ * 따라서 한 번 본 달을 다시 그릴 때는 새 객체를 거의 만들지 않습니다.
+ */
+public class DaySummaryFormatter implements LedgerTotals.CategoryVisitor {
+
+    private static final int MAX_DAYS = 31;
+    private static final int LINE_CACHE_SIZE = 1024; // 2의 거듭제곱
+
+    // [일] 요약 줄 (수입 줄 먼저, incomeLines[일]개). 배열은 재사용
+    private final String[][] lines = new String[MAX_DAYS + 1][];
+    private final int[] lineCounts = new int[MAX_DAYS + 1];
+    private final int[] incomeLines = new int[MAX_DAYS + 1];
+
+    // 날짜별 기억: 마지막으로 만든 합계 객체와 버전
+    private final LedgerTotals[] lastTotals = new LedgerTotals[MAX_DAYS + 1];
+    private final int[] lastVersions = new int[MAX_DAYS + 1];
+
+    // 줄별 기억 (direct-mapped): (유형, 카테고리, 금액) -> 문자열
+    private final byte[] cachedTypes = new byte[LINE_CACHE_SIZE];
+    private final short[] cachedCategories = new short[LINE_CACHE_SIZE];
+    private final long[] cachedAmounts = new long[LINE_CACHE_SIZE];
+    private final String[] cachedLines = new String[LINE_CACHE_SIZE];
+
+    private final StringBuilder builder = new StringBuilder(48);
+
+    // forEachCategory 순회 중인 날짜 / 유형 (람다를 만들지 않도록 이 객체를 방문자로 사용)
+    private int visitingDay;
+    private byte visitingType;
+
+    public DaySummaryFormatter() {
+        for (int day = 0; day <= MAX_DAYS; day++) {
+            lines[day] = new String[4];
+        }
+    }
+
+    /**
+     * 날짜의 요약 줄을 합계로 갱신합니다. (합계가 null이면 줄 없음)
+     * @return 줄이 바뀌었으면 true (같은 합계 객체, 같은 버전이면 false)
+     */
+    public boolean update(int day, LedgerTotals dayTotals) {
+        int version = (dayTotals != null) ? dayTotals.version() : 0;
+        if (dayTotals == lastTotals[day] && version == lastVersions[day]) {
+            return false;
+        }
+        lastTotals[day] = dayTotals;
+        lastVersions[day] = version;
+
+        lineCounts[day] = 0;
+        incomeLines[day] = 0;
+        if (dayTotals == null) {
+            return true;
+        }
+        visitingDay = day;
+        visitingType = CategoryRegistry.TYPE_INCOME;
+        dayTotals.forEachCategory(CategoryRegistry.TYPE_INCOME, this);
+        incomeLines[day] = lineCounts[day];
+        visitingType = CategoryRegistry.TYPE_EXPENSE;
+        dayTotals.forEachCategory(CategoryRegistry.TYPE_EXPENSE, this);
+        return true;
+    }
+
+    @Override
+    public void accept(short categoryId, long amount) {
+        String line = line(visitingType, categoryId, amount);
+        int day = visitingDay;
+        if (lineCounts[day] == lines[day].length) {
+            String[] grown = new String[lines[day].length * 2];
+            System.arraycopy(lines[day], 0, grown, 0, lineCounts[day]);
+            lines[day] = grown;
+        }
+        lines[day][lineCounts[day]++] = line;
+    }
+
+    public int lineCount(int day) { return lineCounts[day]; }
+    public int incomeLineCount(int day) { return incomeLines[day]; }
+
+    /**
+     * 날짜의 요약 줄 배열 (앞의 lineCount(day)개만 유효, 수정하지 마세요)
+     */
+    public String[] lines(int day) { return lines[day]; }
+
+    /**
+     * 한 줄을 만듭니다. 같은 (유형, 카테고리, 금액)이면 기억해 둔 문자열을 반환합니다.
+     */
+    private String line(byte typeCode, short categoryId, long amount) {
+        int slot = slotOf(typeCode, categoryId, amount);
+        String cached = cachedLines[slot];
+        if (cached != null && cachedTypes[slot] == typeCode && cachedCategories[slot] == categoryId
+                && cachedAmounts[slot] == amount) {
+            return cached;
+        }
+
+        builder.setLength(0);
+        builder.append(CategoryRegistry.get().displayName(categoryId))
+               .append(": ")
+               .append(typeCode == CategoryRegistry.TYPE_INCOME ? '+' : '-');
+        Money.appendTo(builder, amount);
+        String line = builder.toString();
+
+        cachedTypes[slot] = typeCode;
+        cachedCategories[slot] = categoryId;
+        cachedAmounts[slot] = amount;
+        cachedLines[slot] = line;
+        return line;
+    }
+
+    private static int slotOf(byte typeCode, short categoryId, long amount) {
+        long h = amount * 0x9E3779B97F4A7C15L + (categoryId * 31 + typeCode);
+        return (int) (h ^ (h >>> 32)) & (LINE_CACHE_SIZE - 1);
+    }
+}
@@ -0,0 +1,57 @@
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+import javax.swing.SwingUtilities;
+
+/**
+ * DB 작업을 Swing 이벤트 디스패치 스레드(EDT) 밖에서 실행하기 위한 공용 실행기입니다.
+ * 작업마다 가상 스레드(Java 21)를 사용하므로, 동시 실행 수는 커넥션 풀 크기로만 제한됩니다.
+ */
+public final class DbExecutor {
+
+    private static final ExecutorService EXECUTOR = Executors.newVirtualThreadPerTaskExecutor();
+
+    // 미리 읽기 등 급하지 않은 작업용 스레드 1개. 화면의 실제 조회와 커넥션 풀을 다투지 않도록 차례로 실행합니다.
+    private static final ExecutorService BACKGROUND = Executors.newSingleThreadExecutor(task -> {
+        Thread thread = new Thread(task, "db-background");
+        thread.setDaemon(true);
+        thread.setPriority(Thread.MIN_PRIORITY);
+        return thread;
+    });
+
+    /**
+     * 결과를 EDT에서 처리하기 위한 Executor (thenAcceptAsync(..., DbExecutor.EDT) 등에 사용)
+     */
+    public static final Executor EDT = SwingUtilities::invokeLater;
+
+    private DbExecutor() {
+    }
+
+    /**
+     * DB 작업을 가상 스레드에서 실행하고 결과를 CompletableFuture로 반환합니다.
+     */
+    public static <T> CompletableFuture<T> supply(Supplier<T> task) {
+        return CompletableFuture.supplyAsync(task, EXECUTOR);
+    }
+
+    /**
+     * 급하지 않은 DB 작업을 백그라운드 스레드에서 차례로 실행합니다.
+     * 차례가 오기 전에 반환된 future가 취소되면 작업을 실행하지 않습니다.
+     */
+    public static <T> CompletableFuture<T> supplyInBackground(Supplier<T> task) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        BACKGROUND.execute(() -> {
+            if (future.isDone()) {
+                return; // 이미 취소됨
+            }
+            try {
+                future.complete(task.get());
+            } catch (Throwable t) {
+                future.completeExceptionally(t);
+            }
+        });
+        return future;
+    }
+}
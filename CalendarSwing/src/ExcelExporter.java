@@ -1,14 +1,22 @@
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.Iterator;
 import java.util.List;
-import java.util.Locale;
-import java.text.NumberFormat;
 import javax.swing.JOptionPane;
 import org.apache.poi.ss.usermodel.*;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 
 public class ExcelExporter {
 
+    // 메모리에 두는 행 수 (나머지는 임시 파일로 내려보냄, SXSSF)
+    private static final int ROW_WINDOW = 200;
+    private static final String[] HEADERS = {"날짜", "구분", "카테고리", "금액", "내용/메모"};
+    private static final int AMOUNT_COLUMN = 3;
+    private static final int MAX_COLUMN_CHARS = 60; // 긴 메모 때문에 열이 지나치게 넓어지지 않도록
+
     /**
      * 월별 거래 내역을 MS Excel (.xlsx) 파일로 출력합니다.
      * ⚠️ 이 코드를 실행하려면 Apache POI 라이브러리가 필요합니다.
@@ -19,58 +27,135 @@ public class ExcelExporter {
      * @return 성공 여부
      */
     public boolean exportMonth(List<Transaction> transactions, int year, int month, String filePath) {
-        // 🚨 Apache POI의 Workbook 생성
-        try (Workbook workbook = new XSSFWorkbook();
-             FileOutputStream fileOut = new FileOutputStream(filePath)) {
+        try {
+            writeWorkbook(transactions.iterator(), String.format("%d년 %d월 가계부", year, month), filePath);
+            return true;
+        } catch (IOException e) {
+            deletePartialFile(filePath);
+            JOptionPane.showMessageDialog(null, "파일 저장 중 오류가 발생했습니다: " + e.getMessage(), "오류", JOptionPane.ERROR_MESSAGE);
+            return false;
+        }
+    }
+
+    /**
+     * [신규 추가] [from, to) 구간의 거래 내역을 DB에서 한 페이지씩 읽으면서 바로 .xlsx 파일로 출력합니다.
+     * 전체 내역을 List로 만들지 않고(TransactionCursor), 시트도 ROW_WINDOW행만 메모리에 두므로
+     * 여러 해의 내역도 일정한 힙으로 내보낼 수 있습니다. EDT 밖(DbExecutor)에서 호출하세요.
+     * 실패하면 쓰다 만 파일을 지우고, 다이얼로그 대신 오류 메시지를 반환하므로 호출한 쪽이 EDT에서 표시합니다.
+     * @return 성공 시 null, 실패 시 사용자에게 보여줄 오류 메시지
+     */
+    public String exportRange(TransactionDao transactionDao, int userId, LocalDate from, LocalDate to, String filePath) {
+        TransactionCursor cursor = transactionDao.openCursor(userId, from, to, TransactionFilter.ALL);
+        try {
+            writeWorkbook(cursor, String.format("%s ~ %s 가계부", from, to.minusDays(1)), filePath);
+        } catch (IOException e) {
+            deletePartialFile(filePath);
+            return "파일 저장 중 오류가 발생했습니다: " + e.getMessage();
+        }
+        if (cursor.hasFailed()) {
+            deletePartialFile(filePath);
+            return "거래 내역을 읽는 중 DB 오류가 발생하여 파일을 저장하지 않았습니다.";
+        }
+        return null;
+    }
+
+    /**
+     * 실패한 내보내기가 남긴 파일을 지웁니다. (불완전한 파일이 완성본처럼 남지 않도록)
+     */
+    private static void deletePartialFile(String filePath) {
+        try {
+            Files.deleteIfExists(Paths.get(filePath));
+        } catch (IOException e) {
+            System.err.println("불완전한 Excel 파일을 삭제하지 못했습니다: " + filePath + " (" + e.getMessage() + ")");
+        }
+    }
+
+    /**
+     * 거래 내역을 스트리밍 워크북(SXSSF)에 한 행씩 쓰고 파일로 저장합니다.
+     * - 금액은 문자열이 아닌 숫자 셀로 저장하고 천 단위 구분 서식(공유 스타일 2개)을 적용하므로 Excel에서 합계를 낼 수 있습니다.
+     * - 열 너비는 쓰는 동안 값의 표시 길이로 계산합니다. (autoSizeColumn처럼 모든 셀을 다시 훑지 않음)
+     */
+    private void writeWorkbook(Iterator<Transaction> transactions, String sheetName, String filePath) throws IOException {
+        SXSSFWorkbook workbook = new SXSSFWorkbook(ROW_WINDOW);
+        workbook.setCompressTempFiles(true); // 임시 파일 크기 줄이기 (여러 해의 내역)
+        try (FileOutputStream fileOut = new FileOutputStream(filePath)) {
+            Sheet sheet = workbook.createSheet(sheetName);
 
-            Sheet sheet = workbook.createSheet(String.format("%d년 %d월 가계부", year, month));
-            
             // 1. 헤더 (Header) 생성
-            String[] headers = {"날짜", "구분", "카테고리", "금액", "내용/메모"};
-            Row headerRow = sheet.createRow(0);
-            
-            // 헤더 스타일 설정
             CellStyle headerStyle = workbook.createCellStyle();
             Font headerFont = workbook.createFont();
             headerFont.setBold(true);
             headerStyle.setFont(headerFont);
-            
-            for (int i = 0; i < headers.length; i++) {
+
+            int[] columnChars = new int[HEADERS.length]; // 열별 최대 표시 길이 (한글은 2칸)
+            Row headerRow = sheet.createRow(0);
+            for (int i = 0; i < HEADERS.length; i++) {
                 Cell cell = headerRow.createCell(i);
-                cell.setCellValue(headers[i]);
+                cell.setCellValue(HEADERS[i]);
                 cell.setCellStyle(headerStyle);
+                columnChars[i] = displayWidth(HEADERS[i]);
             }
-            
+            sheet.createFreezePane(0, 1); // 스크롤해도 헤더가 보이도록
+
+            // 금액 서식 (모든 금액 셀이 같은 스타일 객체를 공유, 행마다 만들지 않음)
+            DataFormat format = workbook.createDataFormat();
+            CellStyle wholeAmountStyle = workbook.createCellStyle();
+            wholeAmountStyle.setDataFormat(format.getFormat("#,##0"));
+            CellStyle fractionAmountStyle = workbook.createCellStyle();
+            fractionAmountStyle.setDataFormat(format.getFormat("#,##0.00"));
+
             // 2. 데이터 (Data) 삽입
+            StringBuilder amountText = new StringBuilder(24); // 금액 열 너비 계산용 (재사용)
             int rowNum = 1;
-            NumberFormat nf = NumberFormat.getNumberInstance(Locale.KOREA);
-
-            for (Transaction t : transactions) {
+            while (transactions.hasNext()) {
+                Transaction t = transactions.next();
                 Row row = sheet.createRow(rowNum++);
-                
-                // A열: 날짜
-                row.createCell(0).setCellValue(t.getDate()); 
-                // B열: 구분 (수입/지출)
-                row.createCell(1).setCellValue(t.getType());
-                // C열: 카테고리
-                row.createCell(2).setCellValue(t.getCategory());
-                // D열: 금액 (숫자 형태로 저장, 보기 편하게 포맷팅)
-                row.createCell(3).setCellValue(nf.format(t.getAmount()));
+
+                // A열: 날짜 / B열: 구분 (수입/지출) / C열: 카테고리
+                setText(row, 0, t.getDate(), columnChars);
+                setText(row, 1, t.getType(), columnChars);
+                setText(row, 2, t.getCategory(), columnChars);
+
+                // D열: 금액 (숫자 셀, 원 단위)
+                long amount = t.getAmount();
+                Cell amountCell = row.createCell(AMOUNT_COLUMN);
+                amountCell.setCellValue(Money.toWon(amount));
+                amountCell.setCellStyle(amount % Money.SCALE == 0 ? wholeAmountStyle : fractionAmountStyle);
+                amountText.setLength(0);
+                Money.appendTo(amountText, amount);
+                columnChars[AMOUNT_COLUMN] = Math.max(columnChars[AMOUNT_COLUMN], amountText.length());
+
                 // E열: 내용/메모
-                row.createCell(4).setCellValue(t.getContent());
+                setText(row, 4, t.getContent(), columnChars);
             }
 
-            // 3. 컬럼 폭 자동 조절
-            for (int i = 0; i < headers.length; i++) {
-                sheet.autoSizeColumn(i);
+            // 3. 컬럼 폭 (쓰는 동안 계산한 최대 길이 + 여백, 단위는 1/256 글자)
+            for (int i = 0; i < HEADERS.length; i++) {
+                sheet.setColumnWidth(i, (Math.min(columnChars[i], MAX_COLUMN_CHARS) + 2) * 256);
             }
 
             workbook.write(fileOut);
-            return true;
+        } finally {
+            workbook.dispose(); // 임시 파일 삭제
+            workbook.close();
+        }
+    }
 
-        } catch (IOException e) {
-            JOptionPane.showMessageDialog(null, "파일 저장 중 오류가 발생했습니다: " + e.getMessage(), "오류", JOptionPane.ERROR_MESSAGE);
-            return false;
+    private static void setText(Row row, int column, String value, int[] columnChars) {
+        row.createCell(column).setCellValue(value);
+        if (value != null) {
+            columnChars[column] = Math.max(columnChars[column], displayWidth(value));
+        }
+    }
+
+    /**
+     * Excel 열 너비 기준의 표시 길이 (한글/한자 등 넓은 글자는 2칸)
+     */
+    private static int displayWidth(String text) {
+        int width = 0;
+        for (int i = 0; i < text.length(); i++) {
+            width += (text.charAt(i) >= 0x1100) ? 2 : 1;
         }
+        return width;
     }
-}
\ No newline at end of file
+}
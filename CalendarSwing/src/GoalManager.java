@@ -1,5 +1,6 @@
-import java.util.Map;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * 목표 설정 및 거래 내역 대비 진행 상황을 확인하는 로직을 담당합니다.
@@ -20,7 +21,7 @@ public class GoalManager {
      * [Placeholder] 목표를 설정하고 Goal 객체를 생성합니다.
      * (실제로는 이 메서드가 DB에 Goal 객체를 저장해야 합니다.)
      */
-    public boolean setGoal(int userId, String type, String category, double targetAmount, int year, int month) {
+    public boolean setGoal(int userId, String type, String category, long targetAmount, int year, int month) {
         Goal newGoal = new Goal(userId, type, category, targetAmount, year, month);
         System.out.println("[GoalManager] 목표 설정 완료: " + newGoal.toString());
         // 🚨 이 위치에 GoalDao.saveGoal(newGoal) 로직이 들어가야 합니다.
@@ -32,41 +33,63 @@ public class GoalManager {
     }
 
     /**
-     * 특정 목표에 대한 현재까지의 지출/수입 금액을 계산합니다.
+     * 특정 목표에 대한 현재까지의 지출/수입 금액(Money 최소 단위)을 계산합니다.
      * (TransactionDao의 기존 월별 합계 조회 메서드를 재활용합니다.)
      */
-    public double checkProgress(Goal goal) {
+    public long checkProgress(Goal goal) {
+        LedgerTotals summary = transactionDao.getMonthlySummary(goal.getUserId(), goal.getYear(), goal.getMonth());
+        return progressOf(goal, summary);
+    }
+
+    /**
+     * 카테고리가 없는 목표는 해당 유형의 전체 합계, 있으면 그 카테고리의 합계
+     */
+    private static long progressOf(Goal goal, LedgerTotals totals) {
         if (goal.getCategory() == null) {
-            // 1. 카테고리가 없는 경우: 월별 전체 수입/지출 목표
-            Map<String, Double> summary = transactionDao.getMonthlySummary(
-                goal.getUserId(), goal.getYear(), goal.getMonth()
-            );
-            // 목표 유형(수입/지출)에 해당하는 총액 반환
-            return summary.getOrDefault(goal.getType(), 0.0);
-            
-        } else {
-            // 2. 카테고리가 있는 경우: 카테고리별 목표
-            Map<String, Double> categorySummary = transactionDao.getCategorySummary(
-                goal.getUserId(), goal.getYear(), goal.getMonth(), goal.getType()
-            );
-            // 해당 카테고리에 해당하는 총액 반환
-            return categorySummary.getOrDefault(goal.getCategory(), 0.0);
+            return totals.typeTotal(goal.getType());
         }
+        return totals.categoryTotal(goal.getType(), goal.getCategory());
     }
-    
+
+    /**
+     * 해당 월의 모든 목표를 한 번에 평가합니다.
+     * 목표 조회 1회 + 유형/카테고리별 합계 조회 1회(캐시된 달이면 0회)로,
+     * 목표 개수와 관계없이 쿼리 수가 일정합니다.
+     */
+    public List<GoalProgress> evaluateAll(int userId, int year, int month) {
+        List<Goal> goals = goalDao.getGoalsByMonth(userId, year, month);
+        List<GoalProgress> results = new ArrayList<>(goals.size());
+        if (goals.isEmpty()) {
+            return results;
+        }
+
+        LedgerTotals totals = transactionDao.getMonthlySummary(userId, year, month);
+        for (Goal goal : goals) {
+            long progress = progressOf(goal, totals);
+            results.add(new GoalProgress(goal, progress, getAchievementRate(goal, progress)));
+        }
+        return results;
+    }
+
     /**
      * 목표 대비 현재 달성률을 퍼센트(%)로 반환합니다.
      * (수입 목표는 달성률이 높을수록 좋고, 지출 목표는 낮을수록 좋습니다.)
      */
     public double getAchievementRate(Goal goal) {
-        double progress = checkProgress(goal);
-        
+        return getAchievementRate(goal, checkProgress(goal));
+    }
+
+    /**
+     * 이미 계산된 진행 금액으로 달성률(%)을 계산합니다. (진행 금액을 다시 조회하지 않음)
+     */
+    public double getAchievementRate(Goal goal, long progress) {
         // 목표 금액이 0이거나 음수이면 계산 불가 (또는 100% 반환)
         if (goal.getTargetAmount() <= 0) {
             return 0.0; 
         }
 
-        double rate = (progress / goal.getTargetAmount()) * 100.0;
+        // 두 금액 모두 정확한 최소 단위 정수이므로 비율 계산에서만 double 사용
+        double rate = (progress * 100.0) / goal.getTargetAmount();
         
         if (goal.getType().equals("지출")) {
             // 지출 목표: 달성률 100%는 목표 금액과 같은 지출을 의미. 
@@ -77,4 +100,14 @@ public class GoalManager {
             return rate;
         }
     }
+
+    // --- [비동기 버전] 목표 화면에서 사용 ---
+
+    public CompletableFuture<Boolean> setGoalAsync(int userId, String type, String category, long targetAmount, int year, int month) {
+        return DbExecutor.supply(() -> setGoal(userId, type, category, targetAmount, year, month));
+    }
+
+    public CompletableFuture<List<GoalProgress>> evaluateAllAsync(int userId, int year, int month) {
+        return DbExecutor.supply(() -> evaluateAll(userId, year, month));
+    }
 }
\ No newline at end of file
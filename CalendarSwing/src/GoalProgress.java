@@ -0,0 +1,19 @@
+/**
+ * 목표 1건의 평가 결과 (진행 금액과 달성률)
+ */
+public class GoalProgress {
+    private final Goal goal;
+    private final long progress;   // 현재까지의 수입/지출 금액 (Money 최소 단위)
+    private final double rate;     // 목표 대비 달성률 (%)
+
+    public GoalProgress(Goal goal, long progress, double rate) {
+        this.goal = goal;
+        this.progress = progress;
+        this.rate = rate;
+    }
+
+    // Getter 메서드
+    public Goal getGoal() { return goal; }
+    public long getProgress() { return progress; }
+    public double getRate() { return rate; }
+}
@@ -5,8 +5,6 @@ import java.awt.event.ActionListener;
 import java.util.List;
 import java.text.NumberFormat;
 import java.util.Locale;
-import java.util.Map;     
-import java.util.HashMap;  
 
 public class GoalView extends JDialog implements ActionListener {
 
@@ -22,17 +20,7 @@ public class GoalView extends JDialog implements ActionListener {
     private JTextField amountField;
     private JButton saveBtn;
     private JPanel listPanel; // 목표 목록을 표시할 패널
-
-  
-    private final Map<String, String[]> categories = new HashMap<>();
-
-    /**
-     * 수입/지출별 카테고리 목록을 초기화합니다.
-     */
-    private void initCategories() {
-        categories.put("지출", new String[]{"식비", "교통", "생활/쇼핑", "문화/여가", "건강/의료", "경조사/모임", "교육/자기개발", "기타"});
-        categories.put("수입", new String[]{"근로 소득", "부가 소득", "금융 소득", "기타 소득"});
-    }
+    private final LatestRequest goalRequest = new LatestRequest(); // 목표 현황 조회 (EDT 밖에서 실행)
 
     /**
      * '유형' 콤보박스 선택에 따라 '카테고리' 콤보박스 내용을 업데이트합니다.
@@ -45,11 +33,8 @@ public class GoalView extends JDialog implements ActionListener {
         categoryCombo.addItem("전체"); 
         
         if (selectedType != null) {
-            String[] cats = categories.get(selectedType);
-            if (cats != null) {
-                for (String cat : cats) {
-                    categoryCombo.addItem(cat);
-                }
+            for (String cat : CategoryRegistry.get().namesOf(selectedType)) {
+                categoryCombo.addItem(cat);
             }
         }
     }
@@ -62,8 +47,6 @@ public class GoalView extends JDialog implements ActionListener {
         this.currentYear = year;
         this.currentMonth = month;
         
-        initCategories(); //  생성자에서 카테고리 맵 초기화
-
         setSize(650, 500);
         setLayout(new BorderLayout());
         setLocationRelativeTo(owner);
@@ -119,17 +102,34 @@ public class GoalView extends JDialog implements ActionListener {
 
     private void loadGoalData() {
         listPanel.removeAll(); // 기존 목록 삭제
+        listPanel.add(new JLabel("불러오는 중..."));
+        listPanel.revalidate();
+        listPanel.repaint();
         
-        List<Goal> goals = goalManager.getGoalsByMonth(currentUser.getUserId(), currentYear, currentMonth);
+        // 목표 개수와 관계없이 일정한 쿼리 수로 모든 목표의 진행 금액/달성률을 계산 (비동기)
+        goalRequest.run(goalManager.evaluateAllAsync(currentUser.getUserId(), currentYear, currentMonth),
+            this::showGoalProgress,
+            error -> {
+                System.err.println("목표 현황 조회 중 오류 발생: " + error.getMessage());
+                listPanel.removeAll();
+                listPanel.add(new JLabel("목표 현황을 불러오지 못했습니다."));
+                listPanel.revalidate();
+                listPanel.repaint();
+            });
+    }
+
+    /**
+     * 목표별 진행 현황 목록을 표시합니다.
+     */
+    private void showGoalProgress(List<GoalProgress> results) {
+        listPanel.removeAll();
         
-        if (goals.isEmpty()) {
+        if (results.isEmpty()) {
             listPanel.add(new JLabel("현재 설정된 목표가 없습니다."));
         } else {
-            for (Goal goal : goals) {
+            for (GoalProgress result : results) {
                 // 목표별 현황 표시 컴포넌트 생성
-                double progress = goalManager.checkProgress(goal);
-                double rate = goalManager.getAchievementRate(goal);
-                listPanel.add(createGoalProgressComponent(goal, progress, rate));
+                listPanel.add(createGoalProgressComponent(result.getGoal(), result.getProgress(), result.getRate()));
             }
         }
         
@@ -138,7 +138,7 @@ public class GoalView extends JDialog implements ActionListener {
     }
     
     // 개별 목표의 현황을 표시하는 UI 컴포넌트 생성 메서드
-    private JPanel createGoalProgressComponent(Goal goal, double progress, double rate) {
+    private JPanel createGoalProgressComponent(Goal goal, long progress, double rate) {
         JPanel goalPane = new JPanel(new BorderLayout());
         goalPane.setBorder(BorderFactory.createLineBorder(Color.GRAY));
         
@@ -146,7 +146,7 @@ public class GoalView extends JDialog implements ActionListener {
         
         // 상단 정보
         String catInfo = (goal.getCategory() == null) ? "전체" : goal.getCategory();
-        JLabel infoLabel = new JLabel(String.format(" %s - %s 목표: %,.0f원", goal.getType(), catInfo, goal.getTargetAmount()));
+        JLabel infoLabel = new JLabel(String.format(" %s - %s 목표: %s원", goal.getType(), catInfo, Money.format(goal.getTargetAmount())));
         goalPane.add(infoLabel, BorderLayout.NORTH);
         
         // 진행 상황 표시 (프로그레스 바)
@@ -158,7 +158,7 @@ public class GoalView extends JDialog implements ActionListener {
         
         progressBar.setValue(percentage);
         progressBar.setStringPainted(true);
-        progressBar.setString(String.format("진행: %,.0f원 / 목표: %,.0f원 (%.1f%%)", progress, goal.getTargetAmount(), rate));
+        progressBar.setString(String.format("진행: %s원 / 목표: %s원 (%.1f%%)", Money.format(progress), Money.format(goal.getTargetAmount()), rate));
 
         // 지출 목표 초과 시 색상 변경
         if (goal.getType().equals("지출") && rate > 100.0) {
@@ -181,6 +181,15 @@ public class GoalView extends JDialog implements ActionListener {
             handleSaveGoal();
         }
     }
+
+    /**
+     * 다이얼로그를 닫으면 아직 도착하지 않은 조회 결과는 반영하지 않습니다.
+     */
+    @Override
+    public void dispose() {
+        goalRequest.cancel();
+        super.dispose();
+    }
     
     private void handleSaveGoal() {
         String type = (String) typeCombo.getSelectedItem();
@@ -193,18 +202,24 @@ public class GoalView extends JDialog implements ActionListener {
         }
 
         try {
-            double amount = Double.parseDouble(amountText.replaceAll(",", ""));
+            long amount = Money.parseMinor(amountText); // 쉼표 허용, 최소 단위로 정확히 변환
             
             // "전체" 또는 null/빈 문자열일 경우 모두 null로 처리
             String finalCategory = (category == null || "전체".equals(category) || category.trim().isEmpty()) ? null : category;
             
-            if (goalManager.setGoal(currentUser.getUserId(), type, finalCategory, amount, currentYear, currentMonth)) {
-                JOptionPane.showMessageDialog(this, "목표가 성공적으로 저장되었습니다!", "저장 완료", JOptionPane.INFORMATION_MESSAGE);
-                amountField.setText("");
-                loadGoalData(); // 목록 새로고침
-            } else {
-                JOptionPane.showMessageDialog(this, "목표 저장 실패: 동일한 목표가 이미 존재하거나 DB 오류입니다.", "저장 실패", JOptionPane.ERROR_MESSAGE);
-            }
+            // 저장은 EDT 밖에서 실행하고, 끝날 때까지 저장 버튼을 비활성화
+            saveBtn.setEnabled(false);
+            goalManager.setGoalAsync(currentUser.getUserId(), type, finalCategory, amount, currentYear, currentMonth)
+                .whenCompleteAsync((saved, error) -> {
+                    saveBtn.setEnabled(true);
+                    if (error == null && Boolean.TRUE.equals(saved)) {
+                        JOptionPane.showMessageDialog(this, "목표가 성공적으로 저장되었습니다!", "저장 완료", JOptionPane.INFORMATION_MESSAGE);
+                        amountField.setText("");
+                        loadGoalData(); // 목록 새로고침
+                    } else {
+                        JOptionPane.showMessageDialog(this, "목표 저장 실패: 동일한 목표가 이미 존재하거나 DB 오류입니다.", "저장 실패", JOptionPane.ERROR_MESSAGE);
+                    }
+                }, DbExecutor.EDT);
             
         } catch (NumberFormatException ex) {
             JOptionPane.showMessageDialog(this, "금액은 유효한 숫자 형식이어야 합니다.", "입력 오류", JOptionPane.ERROR_MESSAGE);
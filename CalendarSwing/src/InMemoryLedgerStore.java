@@ -0,0 +1,299 @@
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * 외부 DB 서버 없이 프로세스 안에서 동작하는 메모리 저장소입니다.
+ * 네트워크/디스크 지연이 없어 로컬 실행, 재현 가능한 벤치마크, 테스트에 사용합니다. (종료하면 데이터는 사라짐)
+ *
+ * 사용자별로 날짜("yyyy-MM-dd") 순 TreeMap에 거래를 보관하므로, 월/연 범위 조회는
+ * MySQL의 (user_id, date) 인덱스와 같이 해당 구간만 읽습니다.
+ * 모든 메서드는 이 객체에 동기화되어 있어 여러 스레드(가상 스레드 DbExecutor 등)에서 사용할 수 있습니다.
+ */
+public class InMemoryLedgerStore implements LedgerStore {
+
+    private final Map<String, User> usersByName = new HashMap<>();
+    private final Map<Integer, Transaction> transactionsById = new HashMap<>();
+    // 사용자 ID -> 날짜 -> 그 날의 거래 (ID 오름차순)
+    private final Map<Integer, NavigableMap<String, List<Transaction>>> transactionsByUser = new HashMap<>();
+    private final List<Goal> goals = new ArrayList<>();
+    // 카테고리는 별도 잠금 사용 (CategoryRegistry가 이 저장소의 다른 잠금을 기다리지 않도록)
+    private final List<Category> categories = new ArrayList<>();
+    private final Object categoryLock = new Object();
+
+    private int nextUserId = 1;
+    private int nextTransactionId = 1;
+    private int nextGoalId = 1;
+
+    public InMemoryLedgerStore() {
+        for (Category category : CategoryRegistry.defaults()) {
+            insertCategory(category.getTypeCode(), category.getName(), category.getSortOrder());
+        }
+    }
+
+    @Override
+    public String getName() {
+        return "memory";
+    }
+
+    @Override
+    public void initialize() {
+        System.out.println("[InMemoryLedgerStore] 메모리 저장소를 사용합니다. (종료 시 데이터가 저장되지 않습니다)");
+    }
+
+    @Override
+    public boolean isAvailable() {
+        return true;
+    }
+
+    // --- 사용자 ---
+
+    @Override
+    public synchronized boolean insertUser(String username, String passwordHash) {
+        if (usersByName.containsKey(username)) {
+            System.err.println("DB 회원가입 오류: 아이디 '" + username + "'이(가) 이미 존재합니다.");
+            return false;
+        }
+        usersByName.put(username, new User(nextUserId++, username, passwordHash));
+        return true;
+    }
+
+    @Override
+    public synchronized User findUserByUsername(String username) {
+        return usersByName.get(username);
+    }
+
+    // --- 카테고리 ---
+
+    @Override
+    public List<Category> loadCategories() {
+        synchronized (categoryLock) {
+            return new ArrayList<>(categories);
+        }
+    }
+
+    @Override
+    public short insertCategory(byte typeCode, String name) {
+        return insertCategory(typeCode, name, CategoryRegistry.CUSTOM_SORT_ORDER);
+    }
+
+    private short insertCategory(byte typeCode, String name, int sortOrder) {
+        synchronized (categoryLock) {
+            for (Category category : categories) {
+                if (category.getTypeCode() == typeCode && category.getName().equals(name)) {
+                    return category.getCategoryId();
+                }
+            }
+            if (categories.size() >= Short.MAX_VALUE) {
+                return -1; // SMALLINT 범위 초과
+            }
+            short id = (short) (categories.size() + 1);
+            categories.add(new Category(id, typeCode, name, sortOrder));
+            return id;
+        }
+    }
+
+    // --- 거래 내역 ---
+
+    @Override
+    public synchronized int insertTransaction(Transaction transaction) {
+        if (!isValid(transaction)) {
+            return -1;
+        }
+        return store(transaction).getTransactionId();
+    }
+
+    @Override
+    public synchronized List<Integer> insertTransactions(List<Transaction> transactions) {
+        List<Integer> generatedIds = new ArrayList<>(transactions.size());
+        // 전부 성공 또는 전부 실패: 먼저 모두 검사한 뒤 저장
+        for (Transaction transaction : transactions) {
+            if (!isValid(transaction)) {
+                return generatedIds;
+            }
+        }
+        for (Transaction transaction : transactions) {
+            generatedIds.add(store(transaction).getTransactionId());
+        }
+        return generatedIds;
+    }
+
+    /**
+     * MySQL의 NOT NULL / DATE / 유형 번호 제약과 같은 검사를 하고, 처음 보는 카테고리를 등록합니다.
+     */
+    private boolean isValid(Transaction transaction) {
+        if (transaction.getDate() == null || transaction.getType() == null) {
+            System.err.println("DB 거래 저장 오류: 날짜와 유형은 필수입니다.");
+            return false;
+        }
+        if (CategoryRegistry.get().idOf(transaction.getType(), transaction.getCategory()) < 0) {
+            System.err.println("DB 거래 저장 오류: 유형/카테고리가 올바르지 않습니다: " + transaction.getType() + " / " + transaction.getCategory());
+            return false;
+        }
+        try {
+            // "yyyy-MM-dd" 형식만 허용 (날짜 문자열 순서 = 날짜 순서가 되도록)
+            if (!LocalDate.parse(transaction.getDate()).toString().equals(transaction.getDate())) {
+                throw new DateTimeParseException("yyyy-MM-dd 형식이 아닙니다", transaction.getDate(), 0);
+            }
+        } catch (DateTimeParseException e) {
+            System.err.println("DB 거래 저장 오류: 날짜 형식이 올바르지 않습니다: " + transaction.getDate());
+            return false;
+        }
+        return true;
+    }
+
+    private Transaction store(Transaction transaction) {
+        Transaction saved = new Transaction(nextTransactionId++, transaction.getUserId(), transaction.getDate(),
+            transaction.getType(), transaction.getAmount(), transaction.getCategory(), transaction.getContent());
+        transactionsById.put(saved.getTransactionId(), saved);
+        transactionsByUser.computeIfAbsent(saved.getUserId(), k -> new TreeMap<>())
+                          .computeIfAbsent(saved.getDate(), k -> new ArrayList<>())
+                          .add(saved); // ID가 증가하므로 뒤에 붙이면 ID 순서 유지
+        return saved;
+    }
+
+    @Override
+    public synchronized boolean deleteTransaction(int transactionId) {
+        Transaction removed = transactionsById.remove(transactionId);
+        if (removed == null) {
+            return false;
+        }
+        NavigableMap<String, List<Transaction>> byDate = transactionsByUser.get(removed.getUserId());
+        List<Transaction> day = byDate.get(removed.getDate());
+        day.remove(removed);
+        if (day.isEmpty()) {
+            byDate.remove(removed.getDate());
+        }
+        return true;
+    }
+
+    @Override
+    public synchronized List<Transaction> findMonth(int userId, int year, int month) {
+        List<Transaction> transactions = new ArrayList<>();
+        for (List<Transaction> day : range(userId, LocalDate.of(year, month, 1), LocalDate.of(year, month, 1).plusMonths(1)).values()) {
+            transactions.addAll(day);
+        }
+        return transactions;
+    }
+
+    @Override
+    public synchronized List<Transaction> findPage(int userId, LocalDate from, LocalDate to, TransactionFilter filter,
+                                                   LocalDate afterDate, int afterId, int limit) {
+        List<Transaction> page = new ArrayList<>();
+        NavigableMap<String, List<Transaction>> days = range(userId, from, to);
+        if (afterDate != null) {
+            days = days.tailMap(afterDate.toString(), true);
+        }
+        for (List<Transaction> day : days.values()) {
+            for (Transaction t : day) {
+                boolean afterKey = afterDate == null || !t.getDate().equals(afterDate.toString()) || t.getTransactionId() > afterId;
+                if (afterKey && filter.matches(t)) {
+                    page.add(t);
+                    if (page.size() == limit) {
+                        return page;
+                    }
+                }
+            }
+        }
+        return page;
+    }
+
+    /**
+     * [from, to) 구간의 날짜별 거래를 반환합니다.
+     */
+    private NavigableMap<String, List<Transaction>> range(int userId, LocalDate from, LocalDate to) {
+        NavigableMap<String, List<Transaction>> byDate = transactionsByUser.get(userId);
+        if (byDate == null) {
+            return new TreeMap<>();
+        }
+        return byDate.subMap(from.toString(), true, to.toString(), false);
+    }
+
+    // --- 집계 (메모리에서 해당 구간만 합산) ---
+
+    @Override
+    public synchronized LedgerTotals getTypeCategoryTotals(int userId, int year, int month) {
+        LedgerTotals totals = new LedgerTotals();
+        CategoryRegistry registry = CategoryRegistry.get();
+        for (Transaction t : findMonth(userId, year, month)) {
+            totals.add(CategoryRegistry.typeCode(t.getType()), registry.findId(t.getType(), t.getCategory()), t.getAmount());
+        }
+        return totals;
+    }
+
+    @Override
+    public synchronized long[][] getYearlyTotals(int userId, int year) {
+        long[][] yearlyData = new long[2][12];
+        for (List<Transaction> day : range(userId, LocalDate.of(year, 1, 1), LocalDate.of(year + 1, 1, 1)).values()) {
+            for (Transaction t : day) {
+                byte typeCode = CategoryRegistry.typeCode(t.getType());
+                if (typeCode >= 0) {
+                    yearlyData[typeCode][Integer.parseInt(t.getDate().substring(5, 7)) - 1] += t.getAmount();
+                }
+            }
+        }
+        return yearlyData;
+    }
+
+    @Override
+    public synchronized boolean sumByDay(int userId, LocalDate from, LocalDate to, boolean byCategory, AmountSink sink) {
+        return sumRange(userId, from, to, byCategory, false, sink);
+    }
+
+    @Override
+    public synchronized boolean sumByMonth(int userId, LocalDate from, LocalDate to, boolean byCategory, AmountSink sink) {
+        return sumRange(userId, from, to, byCategory, true, sink);
+    }
+
+    private boolean sumRange(int userId, LocalDate from, LocalDate to, boolean byCategory, boolean monthly, AmountSink sink) {
+        CategoryRegistry registry = CategoryRegistry.get();
+        for (Map.Entry<String, List<Transaction>> day : range(userId, from, to).entrySet()) {
+            LocalDate date = LocalDate.parse(day.getKey());
+            long epochDay = (monthly ? date.withDayOfMonth(1) : date).toEpochDay();
+            for (Transaction t : day.getValue()) {
+                short categoryId = byCategory ? registry.findId(t.getType(), t.getCategory()) : CategoryRegistry.NO_CATEGORY;
+                sink.add(epochDay, CategoryRegistry.typeCode(t.getType()), categoryId, t.getAmount());
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int rebuildSummaries(Integer userId) {
+        return 0; // 월별 합계는 조회할 때마다 거래에서 바로 계산하므로 따로 저장된 집계가 없음
+    }
+
+    // --- 목표 ---
+
+    @Override
+    public synchronized boolean insertGoal(Goal goal) {
+        // MySQL의 UNIQUE KEY (user_id, year, month, type, category)와 같은 검사
+        // (MySQL UNIQUE KEY는 NULL끼리 중복으로 보지 않으므로 카테고리가 없는 목표는 검사하지 않음)
+        for (Goal g : goals) {
+            if (goal.getCategory() != null && g.getUserId() == goal.getUserId() && g.getYear() == goal.getYear() && g.getMonth() == goal.getMonth()
+                    && g.getType().equals(goal.getType()) && goal.getCategory().equals(g.getCategory())) {
+                System.err.println("DB 목표 저장 오류: 동일한 목표가 이미 존재합니다. " + goal);
+                return false;
+            }
+        }
+        goals.add(new Goal(nextGoalId++, goal.getUserId(), goal.getType(), goal.getCategory(),
+            goal.getTargetAmount(), goal.getYear(), goal.getMonth()));
+        return true;
+    }
+
+    @Override
+    public synchronized List<Goal> findGoals(int userId, int year, int month) {
+        List<Goal> result = new ArrayList<>();
+        for (Goal g : goals) {
+            if (g.getUserId() == userId && g.getYear() == year && g.getMonth() == month) {
+                result.add(g);
+            }
+        }
+        return result;
+    }
+}
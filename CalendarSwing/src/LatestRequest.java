@@ -0,0 +1,53 @@
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
+
+/**
+ * 화면 하나에서 "가장 최근 요청의 결과만" 반영하기 위한 도우미입니다. (EDT에서만 사용)
+ * 새 요청을 시작하거나 cancel()을 호출하면 이전 요청은 취소되어, 사용자가 다른 달로 이동한 뒤
+ * 늦게 도착한 이전 달의 결과가 화면을 덮어쓰지 않습니다.
+ */
+public class LatestRequest {
+
+    private CompletableFuture<?> current;
+
+    /**
+     * 이전 요청을 취소하고 future의 결과를 EDT에서 onSuccess(실패 시 onError)로 전달합니다.
+     */
+    public <T> void run(CompletableFuture<T> future, Consumer<T> onSuccess, Consumer<Throwable> onError) {
+        cancel();
+        current = future;
+        future.whenCompleteAsync((result, error) -> {
+            if (current != future) {
+                return; // 이미 새 요청으로 대체됨 (낡은 결과)
+            }
+            current = null;
+            if (error == null) {
+                onSuccess.accept(result);
+                return;
+            }
+            Throwable cause = (error instanceof CompletionException && error.getCause() != null) ? error.getCause() : error;
+            if (!(cause instanceof CancellationException)) {
+                onError.accept(cause);
+            }
+        }, DbExecutor.EDT);
+    }
+
+    /**
+     * 진행 중인 요청을 취소합니다. (결과가 도착해도 반영하지 않음)
+     */
+    public void cancel() {
+        if (current != null) {
+            current.cancel(false);
+            current = null;
+        }
+    }
+
+    /**
+     * 결과를 기다리는 요청이 있는지 확인합니다.
+     */
+    public boolean isPending() {
+        return current != null;
+    }
+}
@@ -0,0 +1,138 @@
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 가계부 데이터 저장소 인터페이스입니다. (사용자, 거래 내역, 월별 집계, 목표)
+ * TransactionDao / GoalDao / UserDao는 화면에서 사용하는 기존 메서드를 그대로 유지하고,
+ * 실제 저장/조회는 DatabaseManager.store()가 반환하는 구현체에 맡깁니다.
+ *
+ * 구현체:
+ * - MySqlLedgerStore    : MySQL (기본값)
+ * - InMemoryLedgerStore : 외부 서버 없이 프로세스 안에서 동작하는 메모리 저장소 (로컬 실행, 벤치마크용)
+ *
+ * 오류 처리는 기존 DAO와 같이 예외를 던지지 않고 false / -1 / null / 빈 컬렉션으로 알립니다.
+ */
+public interface LedgerStore {
+
+    /**
+     * 기간 합계 행을 받는 콜백 (RangeSummary::add)
+     * epochDay는 일별 합계면 그 날, 월별 합계면 그 달 1일. 카테고리로 묶지 않으면 categoryId는 0
+     */
+    interface AmountSink {
+        void add(long epochDay, byte typeCode, short categoryId, long amount);
+    }
+
+    /**
+     * 저장소 이름 (로그 출력용)
+     */
+    String getName();
+
+    /**
+     * 저장소를 사용할 준비를 합니다. (테이블 생성 등, 앱 시작 시 1회)
+     */
+    void initialize();
+
+    /**
+     * 저장소에 지금 접근할 수 있는지 확인합니다. (DB 연결 확인, WriteBehindQueue가 일시 장애와 잘못된 거래를 구분할 때 사용)
+     */
+    boolean isAvailable();
+
+    // --- 사용자 ---
+
+    /**
+     * 사용자를 저장합니다. 아이디가 이미 존재하면 false
+     */
+    boolean insertUser(String username, String passwordHash);
+
+    /**
+     * 아이디로 사용자를 조회합니다. (비밀번호 해시 포함, 없으면 null)
+     */
+    User findUserByUsername(String username);
+
+    // --- 카테고리 (CategoryRegistry가 사용) ---
+
+    /**
+     * 모든 카테고리를 반환합니다. 오류 시 null
+     */
+    List<Category> loadCategories();
+
+    /**
+     * 카테고리를 등록하고 번호를 반환합니다. (이미 있으면 기존 번호, 실패 시 -1)
+     */
+    short insertCategory(byte typeCode, String name);
+
+    // --- 거래 내역 ---
+
+    /**
+     * 거래 1건을 저장하고 월별 집계를 함께 갱신합니다. 처음 보는 카테고리는 CategoryRegistry에 등록됩니다.
+     * @return 생성된 거래 ID (ID를 받지 못했으면 0, 실패 시 -1)
+     */
+    int insertTransaction(Transaction transaction);
+
+    /**
+     * 여러 거래를 한 번에 (전부 성공 또는 전부 실패) 저장합니다.
+     * @return 저장 순서대로 생성된 거래 ID 리스트 (실패 시 빈 리스트)
+     */
+    List<Integer> insertTransactions(List<Transaction> transactions);
+
+    /**
+     * 거래 1건을 삭제하고 월별 집계를 함께 갱신합니다. 해당 ID가 없으면 false
+     */
+    boolean deleteTransaction(int transactionId);
+
+    /**
+     * 한 달치 거래 내역을 (날짜, ID) 순으로 반환합니다. 오류 시 null
+     */
+    List<Transaction> findMonth(int userId, int year, int month);
+
+    /**
+     * [from, to) 구간에서 조건에 맞는 거래를 (afterDate, afterId) 다음부터 (날짜, ID) 순으로 최대 limit건 반환합니다.
+     * (keyset pagination, TransactionCursor가 사용. 첫 페이지는 afterDate = null) 오류 시 null
+     */
+    List<Transaction> findPage(int userId, LocalDate from, LocalDate to, TransactionFilter filter,
+                               LocalDate afterDate, int afterId, int limit);
+
+    // --- 집계 ---
+
+    /**
+     * 한 달의 유형별 x 카테고리별 합계를 반환합니다. (Money 최소 단위, 오류 시 빈 합계)
+     */
+    LedgerTotals getTypeCategoryTotals(int userId, int year, int month);
+
+    /**
+     * 한 해의 월별 수입/지출 합계를 반환합니다. (Money 최소 단위)
+     * @return [유형 번호(CategoryRegistry.TYPE_INCOME / TYPE_EXPENSE)][월 - 1] 배열
+     */
+    long[][] getYearlyTotals(int userId, int year);
+
+    /**
+     * [from, to) 구간의 일별 x 유형별 (byCategory면 x 카테고리별) 합계를 한 번의 집계 조회로 sink에 전달합니다.
+     * @return 성공 여부 (오류 시 false)
+     */
+    boolean sumByDay(int userId, LocalDate from, LocalDate to, boolean byCategory, AmountSink sink);
+
+    /**
+     * [from, to) 구간(둘 다 매월 1일)의 월별 x 유형별 (byCategory면 x 카테고리별) 합계를 월별 집계에서 sink에 전달합니다.
+     * @return 성공 여부 (오류 시 false)
+     */
+    boolean sumByMonth(int userId, LocalDate from, LocalDate to, boolean byCategory, AmountSink sink);
+
+    /**
+     * 거래 원본에서 월별 집계를 다시 계산합니다. (MonthlySummaryRollup 재계산 명령, 집계를 따로 저장하지 않는 저장소는 할 일 없음)
+     * @param userId 특정 사용자만 다시 계산하려면 사용자 ID, 전체는 null
+     * @return 다시 계산된 집계 행 수 (실패 시 -1)
+     */
+    int rebuildSummaries(Integer userId);
+
+    // --- 목표 ---
+
+    /**
+     * 목표를 저장합니다. 같은 (사용자, 연, 월, 유형, 카테고리) 목표가 이미 있으면 false
+     */
+    boolean insertGoal(Goal goal);
+
+    /**
+     * 특정 월의 모든 목표를 조회합니다.
+     */
+    List<Goal> findGoals(int userId, int year, int month);
+}
@@ -0,0 +1,122 @@
+import java.util.Arrays;
+
+/**
+ * 유형별 / 유형 x 카테고리별 합계입니다. (금액은 Money 최소 단위 long)
+ * 카테고리 번호(CategoryRegistry)로 인덱싱하는 기본형 배열에 합산하므로
+ * Map&lt;String, Double&gt;처럼 항목마다 박싱하거나 부동소수 오차가 쌓이지 않습니다.
+ *
+ * 저장소/스냅샷이 add()로 채운 뒤에는 읽기 전용으로 사용합니다.
+ */
+public class LedgerTotals {
+
+    /**
+     * 카테고리별 합계를 받는 콜백 (박싱 없이 순회)
+     */
+    public interface CategoryVisitor {
+        void accept(short categoryId, long amount);
+    }
+
+    private final long[] typeTotals = new long[2];         // [유형 번호]
+    private final long[][] categoryTotals = new long[2][]; // [유형 번호][카테고리 번호], 처음 add 시 생성
+    private int version; // add()마다 증가 (DaySummaryFormatter가 바뀌었는지 확인)
+
+    /**
+     * 합계에 금액을 더합니다. (categoryId 0 = 카테고리 없음)
+     * categoryId가 음수(사전에 없는 카테고리, CategoryRegistry.findId)이면 유형 합계에만 더하고
+     * 카테고리별 합계에는 넣지 않습니다. (RangeSummary.add와 같은 규칙)
+     */
+    public void add(byte typeCode, short categoryId, long amount) {
+        if (typeCode < 0 || typeCode >= typeTotals.length) {
+            return;
+        }
+        typeTotals[typeCode] += amount;
+        version++;
+        if (categoryId < 0) {
+            return;
+        }
+        long[] byCategory = categoryTotals[typeCode];
+        if (byCategory == null) {
+            byCategory = new long[Math.max(categoryId + 1, CategoryRegistry.get().capacity())];
+            categoryTotals[typeCode] = byCategory;
+        } else if (categoryId >= byCategory.length) {
+            byCategory = Arrays.copyOf(byCategory, categoryId + 1);
+            categoryTotals[typeCode] = byCategory;
+        }
+        byCategory[categoryId] += amount;
+    }
+
+    /**
+     * 유형의 전체 합계
+     */
+    public long typeTotal(byte typeCode) {
+        return (typeCode >= 0 && typeCode < typeTotals.length) ? typeTotals[typeCode] : 0;
+    }
+
+    /**
+     * 유형 이름("수입"/"지출")의 전체 합계
+     */
+    public long typeTotal(String typeName) {
+        return typeTotal(CategoryRegistry.typeCode(typeName));
+    }
+
+    /**
+     * 유형 x 카테고리 번호의 합계
+     */
+    public long categoryTotal(byte typeCode, short categoryId) {
+        if (typeCode < 0 || typeCode >= categoryTotals.length) {
+            return 0;
+        }
+        long[] byCategory = categoryTotals[typeCode];
+        return (byCategory != null && categoryId >= 0 && categoryId < byCategory.length) ? byCategory[categoryId] : 0;
+    }
+
+    /**
+     * 유형 이름 x 카테고리 이름의 합계 (사전에 없는 카테고리면 0, 등록하지 않음)
+     */
+    public long categoryTotal(String typeName, String category) {
+        short categoryId = CategoryRegistry.get().findId(typeName, category);
+        return (categoryId < 0) ? 0 : categoryTotal(CategoryRegistry.typeCode(typeName), categoryId);
+    }
+
+    /**
+     * 유형의 카테고리별 합계를 카테고리 번호 순으로 순회합니다. (합계가 0인 카테고리는 제외)
+     */
+    public void forEachCategory(byte typeCode, CategoryVisitor visitor) {
+        if (typeCode < 0 || typeCode >= categoryTotals.length || categoryTotals[typeCode] == null) {
+            return;
+        }
+        long[] byCategory = categoryTotals[typeCode];
+        for (short id = 0; id < byCategory.length; id++) {
+            if (byCategory[id] != 0) {
+                visitor.accept(id, byCategory[id]);
+            }
+        }
+    }
+
+    /**
+     * 합계가 바뀔 때마다 증가하는 번호
+     */
+    public int version() {
+        return version;
+    }
+
+    /**
+     * 같은 합계를 가진 복사본 (스냅샷을 고쳐 새 스냅샷을 만들 때 사용)
+     */
+    public LedgerTotals copy() {
+        LedgerTotals copy = new LedgerTotals();
+        copy.version = version;
+        for (int type = 0; type < typeTotals.length; type++) {
+            copy.typeTotals[type] = typeTotals[type];
+            copy.categoryTotals[type] = (categoryTotals[type] != null) ? categoryTotals[type].clone() : null;
+        }
+        return copy;
+    }
+
+    /**
+     * 더해진 금액이 하나도 없으면 true
+     */
+    public boolean isEmpty() {
+        return version == 0;
+    }
+}
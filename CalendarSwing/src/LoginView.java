@@ -49,8 +49,8 @@ public class LoginView extends JDialog implements ActionListener {
     }
     
     public User showDialog() {
-        // ✅ DB 테이블 생성 및 초기화 로직 (오류 방지)
-        DatabaseManager.createTables(); 
+        // ✅ 저장소 초기화 (MySQL: 커넥션 풀 워밍업 + DB 테이블 생성, memory: 준비만)
+        DatabaseManager.initializeStore();
         this.setVisible(true);
         return loggedInUser;
     }
@@ -0,0 +1,75 @@
+/**
+ * Largest-Triangle-Three-Buckets(LTTB) 다운샘플링입니다. (TrendChartPanel)
+ * 등간격 시계열(x = 배열 번호)에서 threshold개의 점을 골라, 선 그래프의 모양(봉우리/골짜기)을 최대한 유지합니다.
+ * 첫 점과 마지막 점은 항상 포함하고, 나머지 구간마다 앞에서 고른 점 / 다음 구간 평균과 만드는 삼각형이
+ * 가장 큰 점을 고릅니다. 결과는 원본 배열 번호이므로 호출한 쪽에서 좌표로 바꿉니다.
+ */
+public final class Lttb {
+
+    private Lttb() {
+    }
+
+    /**
+     * values[start, end)를 threshold개 이하의 점으로 줄입니다.
+     * @param out 고른 배열 번호를 담을 버퍼 (길이 min(end - start, threshold) 이상, 오름차순으로 채움)
+     * @return out에 채운 점 개수
+     */
+    public static int downsample(long[] values, int start, int end, int threshold, int[] out) {
+        int length = end - start;
+        if (length <= 0) {
+            return 0;
+        }
+        if (threshold >= length || threshold < 3) {
+            for (int i = 0; i < length; i++) {
+                out[i] = start + i;
+            }
+            return length;
+        }
+
+        // 첫 점과 마지막 점을 뺀 나머지를 threshold - 2개 구간으로 나눔
+        double every = (double) (length - 2) / (threshold - 2);
+        int count = 0;
+        int a = start; // 앞에서 고른 점
+        out[count++] = a;
+
+        for (int i = 0; i < threshold - 2; i++) {
+            // 다음 구간의 평균 (삼각형의 세 번째 꼭짓점)
+            int nextStart = start + (int) Math.floor((i + 1) * every) + 1;
+            int nextEnd = Math.min(start + (int) Math.floor((i + 2) * every) + 1, end);
+            double avgX = 0;
+            double avgY = 0;
+            int nextLength = nextEnd - nextStart;
+            if (nextLength > 0) {
+                for (int j = nextStart; j < nextEnd; j++) {
+                    avgX += j;
+                    avgY += values[j];
+                }
+                avgX /= nextLength;
+                avgY /= nextLength;
+            } else {
+                avgX = end - 1;
+                avgY = values[end - 1];
+            }
+
+            // 이번 구간에서 삼각형 넓이가 가장 큰 점
+            int rangeStart = start + (int) Math.floor(i * every) + 1;
+            int rangeEnd = Math.min(start + (int) Math.floor((i + 1) * every) + 1, end - 1);
+            double ax = a;
+            double ay = values[a];
+            double maxArea = -1;
+            int chosen = rangeStart;
+            for (int j = rangeStart; j < rangeEnd; j++) {
+                double area = Math.abs((ax - avgX) * (values[j] - ay) - (ax - j) * (avgY - ay));
+                if (area > maxArea) {
+                    maxArea = area;
+                    chosen = j;
+                }
+            }
+            out[count++] = chosen;
+            a = chosen;
+        }
+
+        out[count++] = end - 1;
+        return count;
+    }
+}
@@ -0,0 +1,109 @@
+import java.math.BigDecimal;
+
+/**
+ * 금액 변환 / 표시 유틸리티입니다. 원 단위 금액은 최소 단위(1원 = SCALE) long 정수로 다루므로 합산에 오차가 없습니다.
+ * DB에는 BIGINT 최소 단위로 저장되며, Transaction / Goal / 집계(LedgerTotals)는
+ * 객체를 만들지 않도록 같은 단위의 long 값을 그대로 사용합니다. 이 클래스는 그 long 값의
+ * 입력(parseMinor)과 표시(format)를 담당합니다.
+ */
+public final class Money {
+
+    // 최소 단위: 1원 = 100 (소수점 둘째 자리까지 정확히 표현, 10의 거듭제곱이어야 함)
+    public static final long SCALE = 100;
+
+    // 원 미만 자릿수 (SCALE = 10^FRACTION_DIGITS)
+    private static final int FRACTION_DIGITS = Long.toString(SCALE).length() - 1;
+
+    private Money() {
+    }
+
+    /**
+     * "12,500", "1000.5" 같은 금액 문자열을 최소 단위 값으로 변환합니다. (쉼표/공백 허용, 소수점 FRACTION_DIGITS 자리까지)
+     * @throws NumberFormatException 숫자가 아니거나, 소수 자릿수가 많거나, 범위를 넘는 경우
+     */
+    public static long parseMinor(String text) {
+        if (text == null) {
+            throw new NumberFormatException("금액이 비어 있습니다.");
+        }
+        String digits = text.replace(",", "").trim();
+        if (digits.isEmpty()) {
+            throw new NumberFormatException("금액이 비어 있습니다.");
+        }
+        try {
+            // BigDecimal로 변환하여 "0.1" 같은 값도 이진 부동소수 오차 없이 정확히 변환
+            return new BigDecimal(digits).movePointRight(FRACTION_DIGITS).longValueExact();
+        } catch (ArithmeticException e) {
+            throw new NumberFormatException("금액 형식이 올바르지 않습니다: " + text);
+        }
+    }
+
+    /**
+     * 기존 double 원 단위 값을 최소 단위로 변환합니다. (반올림)
+     */
+    public static long toMinor(double won) {
+        return Math.round(won * SCALE);
+    }
+
+    /**
+     * 최소 단위 값을 원 단위 double로 변환합니다. (차트 좌표, 비율 계산 등 표시용으로만 사용)
+     */
+    public static double toWon(long minor) {
+        return (double) minor / SCALE;
+    }
+
+    /**
+     * 최소 단위 값을 "1,234" 또는 "1,234.5" 형태로 표시합니다. (원 미만이 0이면 소수점 생략)
+     */
+    public static String format(long minor) {
+        StringBuilder sb = new StringBuilder(24);
+        appendTo(sb, minor);
+        return sb.toString();
+    }
+
+    /**
+     * format()과 같은 형태로 StringBuilder에 바로 붙입니다. (중간 문자열을 만들지 않음)
+     * 세 자리씩 나누어 직접 붙이므로 NumberFormat / String.format 없이 호출마다 새 객체를 만들지 않습니다.
+     */
+    public static StringBuilder appendTo(StringBuilder sb, long minor) {
+        if (minor < 0) {
+            sb.append('-');
+            if (minor == Long.MIN_VALUE) {
+                // 부호를 뒤집을 수 없는 유일한 값
+                return sb.append(new BigDecimal(minor).negate().movePointLeft(FRACTION_DIGITS).toPlainString());
+            }
+            minor = -minor;
+        }
+        long won = minor / SCALE;
+        long fraction = minor % SCALE;
+
+        // 가장 높은 세 자리 묶음부터: 1234567 -> "1" ",234" ",567"
+        long unit = 1;
+        while (won / unit >= 1000) {
+            unit *= 1000;
+        }
+        sb.append(won / unit);
+        while (unit > 1) {
+            won %= unit;
+            unit /= 1000;
+            int group = (int) (won / unit);
+            sb.append(',');
+            if (group < 100) {
+                sb.append('0');
+            }
+            if (group < 10) {
+                sb.append('0');
+            }
+            sb.append(group);
+        }
+
+        // 원 미만: 높은 자리부터 붙이고 남은 값이 0이 되면 멈춤 (5 -> ".05", 50 -> ".5")
+        if (fraction != 0) {
+            sb.append('.');
+            for (long digit = SCALE / 10; fraction != 0; digit /= 10) {
+                sb.append((char) ('0' + fraction / digit));
+                fraction %= digit;
+            }
+        }
+        return sb;
+    }
+}
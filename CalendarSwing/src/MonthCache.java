@@ -0,0 +1,193 @@
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * (userId, year, month) 단위로 한 달치 거래 내역을 보관하는 LRU 캐시입니다.
+ * TransactionDao 앞에서 동작하며, 모든 화면(달력/분석/목표)이 같은 인스턴스를 공유합니다.
+ *
+ * 캐시된 리스트는 수정 불가 리스트이며, 추가/삭제 시에는 새 리스트로 교체(copy-on-write)하므로
+ * 이미 반환된 리스트를 읽고 있는 화면에 영향을 주지 않습니다.
+ */
+public class MonthCache {
+
+    private final int maxMonths;
+    private final LinkedHashMap<Key, List<Transaction>> months;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    // 추가/삭제/무효화가 일어날 때마다 증가합니다. 조회 도중 쓰기가 끼어든 결과를 캐시하지 않기 위해 사용합니다.
+    private long writeVersion = 0;
+
+    public MonthCache(int maxMonths) {
+        this.maxMonths = maxMonths;
+        // accessOrder = true: 최근에 조회한 달이 뒤로 이동하고, 가장 오래 안 쓴 달부터 제거됩니다.
+        this.months = new LinkedHashMap<Key, List<Transaction>>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, List<Transaction>> eldest) {
+                return size() > MonthCache.this.maxMonths;
+            }
+        };
+    }
+
+    /**
+     * 캐시된 한 달치 거래 내역을 반환합니다. 없으면 null (miss로 집계)
+     */
+    public synchronized List<Transaction> get(int userId, int year, int month) {
+        List<Transaction> cached = months.get(new Key(userId, year, month));
+        if (cached != null) {
+            hits.incrementAndGet();
+        } else {
+            misses.incrementAndGet();
+        }
+        return cached;
+    }
+
+    /**
+     * DB 조회를 시작하기 전에 호출하여 현재 쓰기 버전을 얻습니다. (put()에 전달)
+     */
+    public synchronized long beginLoad() {
+        return writeVersion;
+    }
+
+    /**
+     * beginLoad() 이후 추가/삭제/무효화가 없었으면 true (그 사이 만든 결과를 그대로 써도 되는지 확인)
+     */
+    public synchronized boolean isCurrent(long loadVersion) {
+        return loadVersion == writeVersion;
+    }
+
+    /**
+     * DB에서 읽어온 한 달치 거래 내역을 저장하고, 수정 불가 리스트로 반환합니다.
+     * 조회하는 동안(loadVersion 이후) 쓰기가 있었다면 결과가 낡았을 수 있으므로 캐시하지 않습니다.
+     */
+    public synchronized List<Transaction> put(int userId, int year, int month, List<Transaction> transactions, long loadVersion) {
+        List<Transaction> frozen = Collections.unmodifiableList(new ArrayList<>(transactions));
+        if (loadVersion == writeVersion) {
+            months.put(new Key(userId, year, month), frozen);
+        }
+        return frozen;
+    }
+
+    /**
+     * 새로 저장된 거래 1건을 해당 월 캐시에 반영합니다. (캐시에 없는 달이면 아무것도 하지 않음)
+     * 월 조회 결과와 같은 (날짜, ID) 순서를 유지합니다. 같은 ID가 이미 있으면(저장 직후 다시 조회된 달) 추가하지 않습니다.
+     */
+    public synchronized void patchAdd(Transaction transaction) {
+        writeVersion++;
+        Key key = Key.of(transaction);
+        List<Transaction> cached = months.get(key);
+        if (cached == null) {
+            return;
+        }
+        List<Transaction> updated = new ArrayList<>(cached.size() + 1);
+        boolean inserted = false;
+        for (Transaction t : cached) {
+            if (t.getTransactionId() == transaction.getTransactionId()) {
+                return;
+            }
+            if (!inserted && t.getDate().compareTo(transaction.getDate()) > 0) {
+                updated.add(transaction);
+                inserted = true;
+            }
+            updated.add(t);
+        }
+        if (!inserted) {
+            updated.add(transaction);
+        }
+        months.put(key, Collections.unmodifiableList(updated));
+    }
+
+    /**
+     * 삭제된 거래를 캐시에서 제거합니다. ID만 알고 있으므로 캐시된 달을 모두 확인합니다.
+     */
+    public synchronized void patchRemove(int transactionId) {
+        writeVersion++;
+        for (Map.Entry<Key, List<Transaction>> entry : months.entrySet()) {
+            List<Transaction> cached = entry.getValue();
+            for (int i = 0; i < cached.size(); i++) {
+                if (cached.get(i).getTransactionId() == transactionId) {
+                    List<Transaction> updated = new ArrayList<>(cached);
+                    updated.remove(i);
+                    entry.setValue(Collections.unmodifiableList(updated));
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * 특정 달의 캐시를 무효화합니다.
+     */
+    public synchronized void invalidate(int userId, int year, int month) {
+        writeVersion++;
+        months.remove(new Key(userId, year, month));
+    }
+
+    /**
+     * 특정 사용자의 캐시를 모두 무효화합니다.
+     */
+    public synchronized void invalidateUser(int userId) {
+        writeVersion++;
+        Iterator<Key> it = months.keySet().iterator();
+        while (it.hasNext()) {
+            if (it.next().userId == userId) {
+                it.remove();
+            }
+        }
+    }
+
+    public synchronized void clear() {
+        writeVersion++;
+        months.clear();
+    }
+
+    public synchronized int size() { return months.size(); }
+    public long getHitCount() { return hits.get(); }
+    public long getMissCount() { return misses.get(); }
+
+    /**
+     * 캐시 적중률 등 통계를 문자열로 반환합니다. (디버깅용)
+     */
+    public String getStats() {
+        long h = hits.get();
+        long m = misses.get();
+        double rate = (h + m) == 0 ? 0.0 : (h * 100.0) / (h + m);
+        return String.format("MonthCache: %d/%d개월, hit %d, miss %d (적중률 %.1f%%)", size(), maxMonths, h, m, rate);
+    }
+
+    private static final class Key {
+        final int userId;
+        final int year;
+        final int month;
+
+        Key(int userId, int year, int month) {
+            this.userId = userId;
+            this.year = year;
+            this.month = month;
+        }
+
+        // 거래 날짜("yyyy-MM-dd")에서 키를 만듭니다.
+        static Key of(Transaction t) {
+            String date = t.getDate();
+            return new Key(t.getUserId(), Integer.parseInt(date.substring(0, 4)), Integer.parseInt(date.substring(5, 7)));
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key k = (Key) o;
+            return userId == k.userId && year == k.year && month == k.month;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(userId, year, month);
+        }
+    }
+}
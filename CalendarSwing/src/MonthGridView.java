@@ -0,0 +1,251 @@
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.time.LocalDate;
+import javax.swing.JComponent;
+
+/**
+ * 한 달 달력을 직접 그리는 경량 컴포넌트입니다. (CalendarSwing 중앙)
+ * 날짜 칸마다 JPanel / JButton / HTML JLabel을 만들지 않고, 날짜 숫자 / 주말 색 / 선택 표시 / 카테고리별 합계를
+ * paintComponent에서 한 번에 그립니다. 달을 바꿔도 컴포넌트를 새로 만들지 않고 요약 줄 배열만 다시 채웁니다.
+ * 요약 줄은 DaySummaryFormatter가 합계에서 바로 만들고 기억해 두므로, 같은 달을 다시 그릴 때는 문자열을 새로 만들지 않습니다.
+ *
+ * 클릭한 위치로 날짜를 찾아(hit-test) ActionListener에 "yyyy-MM-dd" 명령으로 전달하므로,
+ * 기존 날짜 버튼과 같은 방식(actionPerformed)으로 처리할 수 있습니다.
+ */
+public class MonthGridView extends JComponent {
+
+    private static final Font DAY_FONT = new Font("굴림체", Font.BOLD, 14);
+    private static final Font SUMMARY_FONT = new Font("맑은 고딕", Font.PLAIN, 12);
+    private static final Color GRID_COLOR = Color.LIGHT_GRAY;
+    private static final Color SELECTED_COLOR = Color.YELLOW;
+    private static final Color INCOME_COLOR = Color.BLUE;
+    private static final Color EXPENSE_COLOR = Color.RED;
+    private static final int HEADER_HEIGHT = 22; // 날짜 숫자 줄 높이
+    private static final int MAX_DAYS = 31;
+    private static final String[] DAY_LABELS = new String[MAX_DAYS + 1]; // [일] -> "일" (칠할 때마다 만들지 않음)
+
+    static {
+        for (int day = 1; day <= MAX_DAYS; day++) {
+            DAY_LABELS[day] = Integer.toString(day);
+        }
+    }
+
+    private int year;
+    private int month;
+    private int lastDay;     // 0이면 아직 달이 설정되지 않음
+    private int firstColumn; // 1일의 요일 칸 (0 = 일요일)
+    private int selectedDay; // 0 = 선택 없음
+
+    private final DaySummaryFormatter formatter = new DaySummaryFormatter(); // 날짜별 요약 줄 (EDT에서만 사용)
+
+    private int pressedDay;
+
+    public MonthGridView() {
+        setOpaque(true);
+        setPreferredSize(new Dimension(770, 540));
+        MouseAdapter mouse = new MouseAdapter() {
+            @Override
+            public void mousePressed(MouseEvent e) {
+                pressedDay = (e.getButton() == MouseEvent.BUTTON1) ? dayAt(e.getX(), e.getY()) : 0;
+            }
+
+            @Override
+            public void mouseReleased(MouseEvent e) {
+                int day = dayAt(e.getX(), e.getY());
+                if (day > 0 && day == pressedDay) {
+                    fireDaySelected(day);
+                }
+                pressedDay = 0;
+            }
+        };
+        addMouseListener(mouse);
+    }
+
+    /**
+     * 표시할 달과 합계를 설정하고 전체를 다시 그립니다. (snapshot이 null이면 날짜만 표시)
+     */
+    public void setMonth(int year, int month, MonthSnapshot snapshot) {
+        this.year = year;
+        this.month = month;
+        this.lastDay = LocalDate.of(year, month, 1).lengthOfMonth();
+        this.firstColumn = LocalDate.of(year, month, 1).getDayOfWeek().getValue() % 7; // 일요일(7) -> 0
+        for (int day = 1; day <= MAX_DAYS; day++) {
+            formatter.update(day, (snapshot != null && day <= lastDay) ? snapshot.getDailyTotals(day) : null);
+        }
+        repaint();
+    }
+
+    /**
+     * 한 날의 합계만 바꾸고 그 칸만 다시 그립니다. (거래 추가/삭제 시)
+     */
+    public void updateDay(int day, LedgerTotals dayTotals) {
+        if (day < 1 || day > lastDay) {
+            return;
+        }
+        if (formatter.update(day, dayTotals)) {
+            repaint(cellBounds(day));
+        }
+    }
+
+    /**
+     * 선택 표시를 옮깁니다. (0 = 선택 해제) 이전 칸과 새 칸만 다시 그립니다.
+     */
+    public void setSelectedDay(int day) {
+        if (day == selectedDay) {
+            return;
+        }
+        int previous = selectedDay;
+        selectedDay = day;
+        if (previous >= 1 && previous <= lastDay) {
+            repaint(cellBounds(previous));
+        }
+        if (day >= 1 && day <= lastDay) {
+            repaint(cellBounds(day));
+        }
+    }
+
+    public int getSelectedDay() {
+        return selectedDay;
+    }
+
+    public void addActionListener(ActionListener listener) {
+        listenerList.add(ActionListener.class, listener);
+    }
+
+    public void removeActionListener(ActionListener listener) {
+        listenerList.remove(ActionListener.class, listener);
+    }
+
+    /**
+     * 컴포넌트 좌표의 날짜를 반환합니다. (날짜 칸이 아니면 0)
+     */
+    public int dayAt(int x, int y) {
+        int width = getWidth();
+        int height = getHeight();
+        if (lastDay == 0 || width <= 0 || height <= 0 || x < 0 || y < 0 || x >= width || y >= height) {
+            return 0;
+        }
+        int rows = rowCount();
+        int column = 0;
+        while ((column + 1) * width / 7 <= x) { // paintComponent와 같은 경계로 계산
+            column++;
+        }
+        int row = 0;
+        while ((row + 1) * height / rows <= y) {
+            row++;
+        }
+        int day = row * 7 + column - firstColumn + 1;
+        return (day >= 1 && day <= lastDay) ? day : 0;
+    }
+
+    /**
+     * 날짜 칸의 영역
+     */
+    public Rectangle cellBounds(int day) {
+        int rows = rowCount();
+        int index = firstColumn + day - 1;
+        int column = index % 7;
+        int row = index / 7;
+        int x0 = column * getWidth() / 7;
+        int x1 = (column + 1) * getWidth() / 7;
+        int y0 = row * getHeight() / rows;
+        int y1 = (row + 1) * getHeight() / rows;
+        return new Rectangle(x0, y0, x1 - x0, y1 - y0);
+    }
+
+    private int rowCount() {
+        return Math.max(1, (firstColumn + lastDay + 6) / 7);
+    }
+
+    private void fireDaySelected(int day) {
+        String command = String.format("%d-%02d-%02d", year, month, day);
+        ActionEvent event = new ActionEvent(this, ActionEvent.ACTION_PERFORMED, command);
+        for (ActionListener listener : listenerList.getListeners(ActionListener.class)) {
+            listener.actionPerformed(event);
+        }
+    }
+
+    @Override
+    protected void paintComponent(Graphics g) {
+        Rectangle clip = g.getClipBounds();
+        if (clip == null) {
+            clip = new Rectangle(0, 0, getWidth(), getHeight());
+        }
+        g.setColor(getBackground());
+        g.fillRect(clip.x, clip.y, clip.width, clip.height);
+        if (lastDay == 0) {
+            return;
+        }
+
+        Graphics2D g2d = (Graphics2D) g;
+        g2d.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+        FontMetrics dayMetrics = g2d.getFontMetrics(DAY_FONT);
+        FontMetrics summaryMetrics = g2d.getFontMetrics(SUMMARY_FONT);
+
+        int width = getWidth();
+        int height = getHeight();
+        int rows = rowCount();
+        for (int day = 1; day <= lastDay; day++) {
+            int index = firstColumn + day - 1;
+            int column = index % 7;
+            int row = index / 7;
+            int x0 = column * width / 7;
+            int y0 = row * height / rows;
+            int cellWidth = (column + 1) * width / 7 - x0;
+            int cellHeight = (row + 1) * height / rows - y0;
+            if (!clip.intersects(x0, y0, cellWidth, cellHeight)) {
+                continue; // 다시 그릴 영역 밖의 칸
+            }
+            paintCell(g2d, clip, day, column, x0, y0, cellWidth, cellHeight, dayMetrics, summaryMetrics);
+        }
+    }
+
+    private void paintCell(Graphics2D g2d, Rectangle clip, int day, int column, int x0, int y0, int cellWidth, int cellHeight,
+                           FontMetrics dayMetrics, FontMetrics summaryMetrics) {
+        g2d.setColor(GRID_COLOR);
+        g2d.drawRect(x0, y0, cellWidth - 1, cellHeight - 1);
+
+        // 날짜 숫자 줄 (선택된 날은 노란색)
+        if (day == selectedDay) {
+            g2d.setColor(SELECTED_COLOR);
+            g2d.fillRect(x0 + 1, y0 + 1, cellWidth - 2, HEADER_HEIGHT);
+        }
+        g2d.setColor(column == 0 ? Color.RED : column == 6 ? Color.BLUE : Color.BLACK);
+        g2d.setFont(DAY_FONT);
+        String number = DAY_LABELS[day];
+        g2d.drawString(number, x0 + (cellWidth - dayMetrics.stringWidth(number)) / 2,
+            y0 + 1 + (HEADER_HEIGHT - dayMetrics.getHeight()) / 2 + dayMetrics.getAscent());
+
+        // 카테고리별 합계 (남은 영역 가운데, 칸을 넘는 줄은 잘림)
+        int count = formatter.lineCount(day);
+        if (count == 0) {
+            return;
+        }
+        int top = y0 + 1 + HEADER_HEIGHT;
+        int areaHeight = cellHeight - HEADER_HEIGHT - 2;
+        int lineHeight = summaryMetrics.getHeight();
+        int y = top + Math.max(0, (areaHeight - count * lineHeight) / 2) + summaryMetrics.getAscent();
+
+        // 칸 밖으로 넘치는 줄은 clip으로 자르고, 다 그린 뒤 원래 clip으로 되돌림 (칸마다 Graphics를 만들지 않음)
+        g2d.clipRect(x0 + 1, top, cellWidth - 2, areaHeight);
+        g2d.setFont(SUMMARY_FONT);
+        String[] dayLines = formatter.lines(day);
+        int incomeCount = formatter.incomeLineCount(day);
+        for (int i = 0; i < count && y - summaryMetrics.getAscent() < top + areaHeight; i++) {
+            g2d.setColor(i < incomeCount ? INCOME_COLOR : EXPENSE_COLOR);
+            g2d.drawString(dayLines[i], x0 + (cellWidth - summaryMetrics.stringWidth(dayLines[i])) / 2, y);
+            y += lineHeight;
+        }
+        g2d.setClip(clip);
+    }
+}
@@ -0,0 +1,108 @@
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 달력에 표시 중인 달의 이전/다음 달을 백그라운드에서 미리 읽어 두는 도우미입니다. (EDT에서만 사용)
+ * ◀/▶로 이동하면 미리 만들어 둔 스냅샷을 바로 사용하므로 DB 조회를 기다리지 않습니다.
+ *
+ * 미리 읽기는 DbExecutor의 백그라운드 스레드에서 차례로 실행되며, 보관하는 달은 표시 중인 달의 앞뒤뿐입니다.
+ * 콤보박스로 멀리 이동하면 더 이상 이웃이 아닌 달의 미리 읽기는 취소됩니다. (차례가 오기 전이면 실행하지 않음)
+ * 미리 읽은 뒤 거래가 추가/삭제되었다면 그 결과는 버리고 다시 조회합니다.
+ */
+public class MonthPrefetcher {
+
+    private final TransactionDao transactionDao;
+    private final int userId;
+    private final Map<Integer, Prefetch> prefetches = new HashMap<>(); // 월 번호(year * 12 + month - 1) -> 미리 읽기
+
+    public MonthPrefetcher(TransactionDao transactionDao, int userId) {
+        this.transactionDao = transactionDao;
+        this.userId = userId;
+    }
+
+    /**
+     * 이동한 달의 미리 읽기를 꺼냅니다. 이 달의 이웃이 아닌 달의 미리 읽기는 취소합니다.
+     * @return 미리 읽는 중이거나 읽어 둔 스냅샷 (없거나 낡았으면 null)
+     */
+    public CompletableFuture<MonthSnapshot> take(int year, int month) {
+        int index = monthIndex(year, month);
+        Prefetch taken = prefetches.remove(index);
+        cancelFarFrom(index);
+        if (taken == null) {
+            return null;
+        }
+        if (!taken.isUsable()) {
+            taken.future.cancel(false);
+            return null;
+        }
+        return taken.future;
+    }
+
+    /**
+     * 표시 중인 달의 이전/다음 달을 미리 읽기 시작합니다. (이미 읽어 둔 최신 결과가 있으면 그대로 둠)
+     */
+    public void prefetchAround(int year, int month) {
+        int index = monthIndex(year, month);
+        cancelFarFrom(index);
+        schedule(index - 1);
+        schedule(index + 1);
+    }
+
+    /**
+     * 모든 미리 읽기를 취소합니다. (화면 종료 시)
+     */
+    public void cancelAll() {
+        for (Prefetch prefetch : prefetches.values()) {
+            prefetch.future.cancel(false);
+        }
+        prefetches.clear();
+    }
+
+    private void schedule(int index) {
+        Prefetch existing = prefetches.get(index);
+        if (existing != null && existing.isUsable()) {
+            return;
+        }
+        if (existing != null) {
+            existing.future.cancel(false);
+        }
+        int year = Math.floorDiv(index, 12);
+        int month = Math.floorMod(index, 12) + 1;
+        long version = TransactionDao.getMonthCache().beginLoad();
+        CompletableFuture<MonthSnapshot> future =
+            DbExecutor.supplyInBackground(() -> transactionDao.getMonthSnapshot(userId, year, month));
+        prefetches.put(index, new Prefetch(future, version));
+    }
+
+    private void cancelFarFrom(int index) {
+        Iterator<Map.Entry<Integer, Prefetch>> it = prefetches.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<Integer, Prefetch> entry = it.next();
+            if (Math.abs(entry.getKey() - index) > 1) {
+                entry.getValue().future.cancel(false);
+                it.remove();
+            }
+        }
+    }
+
+    private static int monthIndex(int year, int month) {
+        return year * 12 + month - 1;
+    }
+
+    private static final class Prefetch {
+        final CompletableFuture<MonthSnapshot> future;
+        final long version; // 미리 읽기를 시작할 때의 캐시 쓰기 버전
+
+        Prefetch(CompletableFuture<MonthSnapshot> future, long version) {
+            this.future = future;
+            this.version = version;
+        }
+
+        // 실패/취소되지 않았고, 시작한 뒤로 거래가 바뀌지 않았으면 사용 가능
+        boolean isUsable() {
+            return !future.isCompletedExceptionally() && TransactionDao.getMonthCache().isCurrent(version);
+        }
+    }
+}
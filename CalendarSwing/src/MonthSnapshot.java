@@ -0,0 +1,224 @@
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 한 달치 거래 내역과 그 집계(일별 합계, 유형별 합계, 카테고리별 합계)를 한 번에 담는 스냅샷입니다.
+ * 거래 내역을 한 번만 훑어서 모든 집계를 만들므로, 달을 열 때 여러 번 조회할 필요가 없습니다.
+ * (달력, 분석 화면, 목표 화면이 같은 스냅샷을 사용할 수 있습니다)
+ * 합계는 Money 최소 단위 long 배열(LedgerTotals)에 쌓으므로 항목마다 박싱하지 않습니다.
+ *
+ * 스냅샷은 바꾸지 않습니다. 거래 1건이 추가/삭제되면 withAdded() / withRemoved()로
+ * 그 날의 합계만 다시 계산한 새 스냅샷을 만듭니다. (나머지 날의 합계는 공유)
+ */
+public class MonthSnapshot {
+
+    private final int year;
+    private final int month;
+    private final int lastDay;
+    private final List<Transaction> transactions;
+
+    // 인덱스 = 일(1 ~ lastDay), 0번은 사용하지 않음
+    private final long[][] dailyTotals;          // [유형 번호][일]
+    private final LedgerTotals[] dailyByCategory; // [일], 내역이 없는 날은 null
+
+    private final LedgerTotals totals; // 한 달 유형별 / 카테고리별 합계
+
+    private MonthSnapshot(int year, int month, List<Transaction> transactions) {
+        this.year = year;
+        this.month = month;
+        this.lastDay = YearMonth.of(year, month).lengthOfMonth();
+        this.transactions = Collections.unmodifiableList(transactions);
+        this.dailyTotals = new long[2][lastDay + 1];
+        this.dailyByCategory = new LedgerTotals[lastDay + 1];
+        this.totals = new LedgerTotals();
+    }
+
+    // base를 고쳐 만드는 새 스냅샷 (합계는 복사, 바뀌지 않는 날의 LedgerTotals는 공유)
+    private MonthSnapshot(MonthSnapshot base, List<Transaction> transactions) {
+        this.year = base.year;
+        this.month = base.month;
+        this.lastDay = base.lastDay;
+        this.transactions = Collections.unmodifiableList(transactions);
+        this.dailyTotals = new long[][]{base.dailyTotals[0].clone(), base.dailyTotals[1].clone()};
+        this.dailyByCategory = base.dailyByCategory.clone();
+        this.totals = base.totals.copy();
+    }
+
+    /**
+     * 한 달치 거래 내역(같은 사용자, 같은 달)을 한 번 훑어 스냅샷을 만듭니다.
+     */
+    public static MonthSnapshot of(int year, int month, List<Transaction> transactions) {
+        MonthSnapshot snapshot = new MonthSnapshot(year, month, transactions);
+        CategoryRegistry registry = CategoryRegistry.get();
+        for (Transaction t : transactions) {
+            snapshot.accumulate(t, registry);
+        }
+        return snapshot;
+    }
+
+    /**
+     * 거래 1건을 더한 새 스냅샷을 반환합니다. 그 날의 합계만 다시 계산합니다.
+     * 다른 달의 거래이거나 이미 있는 ID면 이 스냅샷을 그대로 반환합니다.
+     */
+    public MonthSnapshot withAdded(Transaction added) {
+        int day = dayInMonth(added.getDate());
+        if (day < 0) {
+            return this;
+        }
+        List<Transaction> updated = new ArrayList<>(transactions.size() + 1);
+        boolean inserted = false;
+        for (Transaction t : transactions) {
+            if (added.getTransactionId() != 0 && t.getTransactionId() == added.getTransactionId()) {
+                return this;
+            }
+            if (!inserted && t.getDate().compareTo(added.getDate()) > 0) {
+                updated.add(added); // (날짜, ID) 순서 유지
+                inserted = true;
+            }
+            updated.add(t);
+        }
+        if (!inserted) {
+            updated.add(added);
+        }
+        return changed(updated, day, added, 1);
+    }
+
+    /**
+     * 거래 1건을 뺀 새 스냅샷을 반환합니다. 그 날의 합계만 다시 계산합니다. (없는 ID면 이 스냅샷 그대로)
+     */
+    public MonthSnapshot withRemoved(int transactionId) {
+        for (int i = 0; i < transactions.size(); i++) {
+            Transaction removed = transactions.get(i);
+            if (removed.getTransactionId() == transactionId) {
+                List<Transaction> updated = new ArrayList<>(transactions);
+                updated.remove(i);
+                return changed(updated, dayOf(removed.getDate()), removed, -1);
+            }
+        }
+        return this;
+    }
+
+    private MonthSnapshot changed(List<Transaction> updated, int day, Transaction t, int sign) {
+        MonthSnapshot snapshot = new MonthSnapshot(this, updated);
+        CategoryRegistry registry = CategoryRegistry.get();
+        byte typeCode = CategoryRegistry.typeCode(t.getType());
+        if (typeCode >= 0) {
+            snapshot.totals.add(typeCode, registry.findId(t.getType(), t.getCategory()), sign * t.getAmount());
+        }
+        snapshot.recomputeDay(day, registry);
+        return snapshot;
+    }
+
+    /**
+     * 한 날의 일별 합계를 그 날의 거래로 다시 계산합니다.
+     */
+    private void recomputeDay(int day, CategoryRegistry registry) {
+        dailyTotals[CategoryRegistry.TYPE_INCOME][day] = 0;
+        dailyTotals[CategoryRegistry.TYPE_EXPENSE][day] = 0;
+        LedgerTotals dayTotals = null;
+        for (Transaction t : transactions) {
+            byte typeCode = CategoryRegistry.typeCode(t.getType());
+            if (typeCode < 0 || dayOf(t.getDate()) != day) {
+                continue;
+            }
+            if (dayTotals == null) {
+                dayTotals = new LedgerTotals();
+            }
+            dailyTotals[typeCode][day] += t.getAmount();
+            dayTotals.add(typeCode, registry.findId(t.getType(), t.getCategory()), t.getAmount());
+        }
+        dailyByCategory[day] = dayTotals;
+    }
+
+    /**
+     * "yyyy-MM-dd" 날짜가 이 달이면 일(1 ~ lastDay)을, 아니면 -1을 반환합니다.
+     */
+    public int dayInMonth(String date) {
+        if (date == null || date.length() != 10) {
+            return -1;
+        }
+        int y = Integer.parseInt(date.substring(0, 4));
+        int m = (date.charAt(5) - '0') * 10 + (date.charAt(6) - '0');
+        return (y == year && m == month) ? dayOf(date) : -1;
+    }
+
+    // "yyyy-MM-dd"의 dd
+    private static int dayOf(String date) {
+        return (date.charAt(8) - '0') * 10 + (date.charAt(9) - '0');
+    }
+
+    private void accumulate(Transaction t, CategoryRegistry registry) {
+        int day = dayOf(t.getDate());
+        byte typeCode = CategoryRegistry.typeCode(t.getType());
+        if (typeCode < 0) {
+            return;
+        }
+        short categoryId = registry.findId(t.getType(), t.getCategory()); // 조회 전용 (사전에 없으면 -1, 유형 합계에만 포함)
+
+        dailyTotals[typeCode][day] += t.getAmount();
+        LedgerTotals dayTotals = dailyByCategory[day];
+        if (dayTotals == null) {
+            dayTotals = new LedgerTotals();
+            dailyByCategory[day] = dayTotals;
+        }
+        dayTotals.add(typeCode, categoryId, t.getAmount());
+        totals.add(typeCode, categoryId, t.getAmount());
+    }
+
+    public int getYear() { return year; }
+    public int getMonth() { return month; }
+    public int getLastDay() { return lastDay; }
+
+    /**
+     * 한 달치 거래 내역 (날짜, ID 순, 수정 불가)
+     */
+    public List<Transaction> getTransactions() { return transactions; }
+
+    /**
+     * 특정 일의 거래 내역을 반환합니다. (ID 오름차순)
+     */
+    public List<Transaction> getTransactionsOn(int day) {
+        List<Transaction> result = new ArrayList<>();
+        for (Transaction t : transactions) {
+            if (dayOf(t.getDate()) == day) {
+                result.add(t);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 해당 월이면 "yyyy-MM-dd" 날짜의 거래 내역을, 다른 달이면 null을 반환합니다.
+     */
+    public List<Transaction> getTransactionsOn(String date) {
+        String prefix = String.format("%d-%02d-", year, month);
+        if (date == null || date.length() != 10 || !date.startsWith(prefix)) {
+            return null;
+        }
+        return getTransactionsOn(Integer.parseInt(date.substring(8)));
+    }
+
+    // 일별 합계 (최소 단위)
+    public long getDailyIncome(int day) { return dailyTotals[CategoryRegistry.TYPE_INCOME][day]; }
+    public long getDailyExpense(int day) { return dailyTotals[CategoryRegistry.TYPE_EXPENSE][day]; }
+
+    /**
+     * 특정 일의 유형별 / 카테고리별 합계를 반환합니다. (내역이 없으면 null, 수정하지 마세요)
+     */
+    public LedgerTotals getDailyTotals(int day) {
+        return dailyByCategory[day];
+    }
+
+    /**
+     * 한 달의 유형별 / 카테고리별 합계. getMonthlySummary()와 같은 형태입니다. (수정하지 마세요)
+     */
+    public LedgerTotals getTotals() {
+        return totals;
+    }
+
+    public long getTypeTotal(String type) {
+        return totals.typeTotal(type);
+    }
+}
@@ -0,0 +1,201 @@
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * monthly_summary 집계 테이블을 관리합니다.
+ * (user_id, year, month, type_code, category_id) 별 합계와 건수를 미리 저장해 두어,
+ * 월별/카테고리별/연간 합계를 transactions 원본 행을 훑지 않고 읽을 수 있습니다.
+ *
+ * MySqlLedgerStore는 거래를 추가/삭제할 때 같은 DB 트랜잭션 안에서 applyDelta()를 호출하여
+ * 집계 테이블을 함께 갱신합니다. 기존 데이터는 rebuild() (LedgerStore.rebuildSummaries)로 다시 계산합니다.
+ * (PRIMARY KEY에 NULL을 넣을 수 없으므로 카테고리가 없는 거래는 category_id 0으로 저장합니다)
+ */
+public class MonthlySummaryRollup {
+
+    private static final String UPSERT_SQL =
+        "INSERT INTO monthly_summary (user_id, year, month, type_code, category_id, total_amount, tx_count) "
+      + "VALUES (?, ?, ?, ?, ?, ?, ?) "
+      + "ON DUPLICATE KEY UPDATE total_amount = total_amount + VALUES(total_amount), "
+      + "tx_count = tx_count + VALUES(tx_count)";
+
+    // 삭제로 건수가 0이 된 행은 남기지 않음 (합계가 0인 빈 행이 쌓이는 것 방지)
+    private static final String PRUNE_SQL =
+        "DELETE FROM monthly_summary WHERE user_id = ? AND year = ? AND month = ? AND type_code = ? AND category_id = ? AND tx_count <= 0";
+
+    /**
+     * 거래 1건의 증감을 집계 테이블에 반영합니다. 호출자의 트랜잭션 안에서 실행됩니다.
+     * @param sign 추가면 +1, 삭제면 -1
+     */
+    public static void applyDelta(Connection conn, Transaction t, int sign) throws SQLException {
+        Delta delta = new Delta();
+        delta.add(t, sign);
+        delta.apply(conn);
+    }
+
+    /**
+     * 여러 거래의 증감을 (user, year, month, type, category) 단위로 먼저 합친 뒤 한 번에 반영합니다.
+     */
+    public static void applyDelta(Connection conn, List<Transaction> transactions, int sign) throws SQLException {
+        Delta delta = new Delta();
+        for (Transaction t : transactions) {
+            delta.add(t, sign);
+        }
+        delta.apply(conn);
+    }
+
+    /**
+     * transactions 원본에서 집계 테이블을 다시 계산합니다. (주어진 연결에서 한 트랜잭션)
+     * @param userId 특정 사용자만 다시 계산하려면 사용자 ID, 전체는 null
+     * @return 다시 계산된 집계 행 수
+     */
+    static int rebuild(Connection conn, Integer userId) throws SQLException {
+        String where = (userId == null) ? "" : " WHERE user_id = ?";
+        String deleteSql = "DELETE FROM monthly_summary" + where;
+        String insertSql = "INSERT INTO monthly_summary (user_id, year, month, type_code, category_id, total_amount, tx_count) "
+                         + "SELECT user_id, YEAR(date), MONTH(date), type_code, COALESCE(category_id, 0), SUM(amount), COUNT(*) "
+                         + "FROM transactions" + where + " "
+                         + "GROUP BY user_id, YEAR(date), MONTH(date), type_code, COALESCE(category_id, 0)";
+
+        conn.setAutoCommit(false);
+        try (PreparedStatement delete = conn.prepareStatement(deleteSql);
+             PreparedStatement insert = conn.prepareStatement(insertSql)) {
+            if (userId != null) {
+                delete.setInt(1, userId);
+                insert.setInt(1, userId);
+            }
+            delete.executeUpdate();
+            int rows = insert.executeUpdate();
+            conn.commit();
+            return rows;
+        } catch (SQLException e) {
+            conn.rollback();
+            throw e;
+        } finally {
+            conn.setAutoCommit(true);
+        }
+    }
+
+    /**
+     * 집계 테이블이 비어 있는데 거래 내역이 있으면 (기존 DB에 테이블을 처음 추가한 경우) 전체를 다시 계산합니다.
+     * 호출자의 연결을 그대로 사용합니다. (풀에서 연결을 하나 더 빌리지 않음)
+     */
+    static void rebuildIfEmpty(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(
+                 "SELECT (SELECT COUNT(*) FROM (SELECT 1 FROM monthly_summary LIMIT 1) s), "
+               + "(SELECT COUNT(*) FROM (SELECT 1 FROM transactions LIMIT 1) t)")) {
+            if (rs.next() && rs.getInt(1) == 0 && rs.getInt(2) > 0) {
+                System.out.println("[MonthlySummaryRollup] 기존 거래 내역으로 월별 집계를 생성합니다...");
+                rebuild(conn, null);
+            }
+        }
+    }
+
+    /**
+     * 집계 재계산 명령: java MonthlySummaryRollup [userId]
+     * 설정된 저장소(-Dledger.store)를 사용합니다. (메모리 저장소는 집계를 따로 저장하지 않으므로 할 일 없음)
+     */
+    public static void main(String[] args) {
+        Integer userId = (args.length > 0) ? Integer.valueOf(args[0]) : null;
+        LedgerStore store = DatabaseManager.store();
+        store.initialize();
+        long started = System.currentTimeMillis();
+        int rows = store.rebuildSummaries(userId);
+        if (rows < 0) {
+            System.exit(1);
+        }
+        System.out.println(String.format("월별 집계 재계산 완료 (%s, %s): %d행, %dms", store.getName(),
+            userId == null ? "전체 사용자" : "사용자 " + userId, rows, System.currentTimeMillis() - started));
+        System.exit(0);
+    }
+
+    /**
+     * 집계 키별 증감을 모읍니다.
+     */
+    private static class Delta {
+        private final Map<Key, long[]> totals = new LinkedHashMap<>(); // {금액 증감(최소 단위), 건수 증감}
+
+        void add(Transaction t, int sign) {
+            String date = t.getDate();
+            // 저장 시 이미 등록된 카테고리이므로 사전 조회만 일어남
+            Key key = new Key(t.getUserId(), Integer.parseInt(date.substring(0, 4)), Integer.parseInt(date.substring(5, 7)),
+                CategoryRegistry.typeCode(t.getType()), CategoryRegistry.get().idOf(t.getType(), t.getCategory()));
+            long[] acc = totals.computeIfAbsent(key, k -> new long[2]);
+            acc[0] += sign * t.getAmount();
+            acc[1] += sign;
+        }
+
+        void apply(Connection conn) throws SQLException {
+            boolean anyRemoved = false;
+            try (PreparedStatement upsert = conn.prepareStatement(UPSERT_SQL)) {
+                for (Map.Entry<Key, long[]> entry : totals.entrySet()) {
+                    Key k = entry.getKey();
+                    upsert.setInt(1, k.userId);
+                    upsert.setInt(2, k.year);
+                    upsert.setInt(3, k.month);
+                    upsert.setByte(4, k.typeCode);
+                    upsert.setShort(5, k.categoryId);
+                    upsert.setLong(6, entry.getValue()[0]);
+                    upsert.setInt(7, (int) entry.getValue()[1]);
+                    upsert.addBatch();
+                    anyRemoved |= entry.getValue()[1] < 0;
+                }
+                upsert.executeBatch();
+            }
+            if (!anyRemoved) {
+                return;
+            }
+            try (PreparedStatement prune = conn.prepareStatement(PRUNE_SQL)) {
+                for (Map.Entry<Key, long[]> entry : totals.entrySet()) {
+                    if (entry.getValue()[1] < 0) {
+                        Key k = entry.getKey();
+                        prune.setInt(1, k.userId);
+                        prune.setInt(2, k.year);
+                        prune.setInt(3, k.month);
+                        prune.setByte(4, k.typeCode);
+                        prune.setShort(5, k.categoryId);
+                        prune.addBatch();
+                    }
+                }
+                prune.executeBatch();
+            }
+        }
+    }
+
+    private static final class Key {
+        final int userId;
+        final int year;
+        final int month;
+        final byte typeCode;
+        final short categoryId;
+
+        Key(int userId, int year, int month, byte typeCode, short categoryId) {
+            this.userId = userId;
+            this.year = year;
+            this.month = month;
+            this.typeCode = typeCode;
+            this.categoryId = categoryId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key k = (Key) o;
+            return userId == k.userId && year == k.year && month == k.month
+                && typeCode == k.typeCode && categoryId == k.categoryId;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(userId, year, month, typeCode, categoryId);
+        }
+    }
+}
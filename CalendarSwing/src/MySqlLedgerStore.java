@@ -0,0 +1,634 @@
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * MySQL 저장소 (기본값). 연결은 DatabaseManager의 커넥션 풀에서 빌려옵니다.
+ * 거래 추가/삭제 시 monthly_summary 집계 테이블을 같은 DB 트랜잭션에서 함께 갱신합니다.
+ * 유형/카테고리는 번호(type_code, category_id)로 저장하고, 이름 변환은 CategoryRegistry가 담당합니다.
+ */
+public class MySqlLedgerStore implements LedgerStore {
+
+    // 일괄 저장 시 한 번에 전송할 최대 행 수
+    private static final int BATCH_CHUNK_SIZE = 1000;
+
+    private static final String INSERT_TRANSACTION_SQL =
+        "INSERT INTO transactions (user_id, date, type_code, amount, category_id, content) VALUES (?, ?, ?, ?, ?, ?)";
+
+    private static final String SELECT_TRANSACTION_COLUMNS = "SELECT id, user_id, date, type_code, amount, category_id, content ";
+
+    @Override
+    public String getName() {
+        return "mysql";
+    }
+
+    @Override
+    public void initialize() {
+        DatabaseManager.startPool();
+        DatabaseManager.createTables();
+    }
+
+    @Override
+    public boolean isAvailable() {
+        try (Connection conn = DatabaseManager.connect()) {
+            return conn != null && conn.isValid(2);
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 해당 월의 첫날(포함)을 반환합니다. 월 범위 조회는 [monthStart, nextMonthStart) 반열린 구간을 사용합니다.
+     * (date LIKE 'YYYY-MM-%' 나 YEAR(date) = ? 는 인덱스를 사용할 수 없어 전체 행을 스캔합니다)
+     */
+    private static java.sql.Date monthStart(int year, int month) {
+        return java.sql.Date.valueOf(LocalDate.of(year, month, 1));
+    }
+
+    /**
+     * 다음 달의 첫날(미포함)을 반환합니다.
+     */
+    private static java.sql.Date nextMonthStart(int year, int month) {
+        return java.sql.Date.valueOf(LocalDate.of(year, month, 1).plusMonths(1));
+    }
+
+    // --- 사용자 ---
+
+    @Override
+    public boolean insertUser(String username, String passwordHash) {
+        String sql = "INSERT INTO users (username, password_hash) VALUES (?, ?)";
+
+        try (Connection conn = DatabaseManager.connect();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+
+            pstmt.setString(1, username);
+            pstmt.setString(2, passwordHash);
+            pstmt.executeUpdate();
+            return true;
+
+        } catch (SQLException e) {
+            if (e.getSQLState().equals("23000")) {
+                 System.err.println("DB 회원가입 오류: 아이디 '" + username + "'이(가) 이미 존재합니다.");
+            } else {
+                 System.err.println("DB 회원가입 오류: " + e.getMessage());
+            }
+            return false;
+        }
+    }
+
+    @Override
+    public User findUserByUsername(String username) {
+        String sql = "SELECT id, username, password_hash FROM users WHERE username = ?";
+
+        try (Connection conn = DatabaseManager.connect();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+
+            pstmt.setString(1, username);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                if (rs.next()) {
+                    return new User(rs.getInt("id"), rs.getString("username"), rs.getString("password_hash"));
+                }
+            }
+        } catch (SQLException e) {
+            System.err.println("DB 인증 오류: " + e.getMessage());
+        }
+        return null;
+    }
+
+    // --- 카테고리 ---
+
+    @Override
+    public List<Category> loadCategories() {
+        List<Category> categories = new ArrayList<>();
+        String sql = "SELECT id, type_code, name, sort_order FROM categories";
+
+        try (Connection conn = DatabaseManager.connect();
+             PreparedStatement pstmt = conn.prepareStatement(sql);
+             ResultSet rs = pstmt.executeQuery()) {
+
+            while (rs.next()) {
+                categories.add(new Category(rs.getShort("id"), rs.getByte("type_code"),
+                    rs.getString("name"), rs.getInt("sort_order")));
+            }
+        } catch (SQLException e) {
+            System.err.println("카테고리 조회 중 DB 오류 발생: " + e.getMessage());
+            return null;
+        }
+        return categories;
+    }
+
+    @Override
+    public short insertCategory(byte typeCode, String name) {
+        // 다른 사용자가 동시에 같은 카테고리를 등록해도 UNIQUE KEY로 한 번만 저장되고, 같은 번호를 받음
+        String insertSql = "INSERT IGNORE INTO categories (type_code, name, sort_order) VALUES (?, ?, ?)";
+        String selectSql = "SELECT id FROM categories WHERE type_code = ? AND name = ?";
+
+        try (Connection conn = DatabaseManager.connect();
+             PreparedStatement insert = conn.prepareStatement(insertSql);
+             PreparedStatement select = conn.prepareStatement(selectSql)) {
+
+            insert.setByte(1, typeCode);
+            insert.setString(2, name);
+            insert.setInt(3, CategoryRegistry.CUSTOM_SORT_ORDER);
+            insert.executeUpdate();
+
+            select.setByte(1, typeCode);
+            select.setString(2, name);
+            try (ResultSet rs = select.executeQuery()) {
+                if (rs.next()) {
+                    return rs.getShort("id");
+                }
+            }
+        } catch (SQLException e) {
+            System.err.println("카테고리 등록 중 DB 오류 발생: " + e.getMessage());
+        }
+        return -1;
+    }
+
+    // --- 거래 내역 ---
+
+    @Override
+    public int insertTransaction(Transaction transaction) {
+        CategoryRegistry registry = CategoryRegistry.get();
+        byte typeCode = CategoryRegistry.typeCode(transaction.getType());
+        short categoryId = registry.idOf(transaction.getType(), transaction.getCategory());
+        if (typeCode < 0 || categoryId < 0) {
+            System.err.println("DB 거래 저장 오류: 유형/카테고리가 올바르지 않습니다: " + transaction.getType() + " / " + transaction.getCategory());
+            return -1;
+        }
+
+        try (Connection conn = DatabaseManager.connect();
+             PreparedStatement pstmt = conn.prepareStatement(INSERT_TRANSACTION_SQL, Statement.RETURN_GENERATED_KEYS)) {
+
+            bindTransaction(pstmt, transaction, typeCode, categoryId);
+
+            int generatedId = 0;
+            conn.setAutoCommit(false);
+            try {
+                pstmt.executeUpdate();
+                try (ResultSet keys = pstmt.getGeneratedKeys()) {
+                    if (keys.next()) {
+                        generatedId = keys.getInt(1);
+                    }
+                }
+                MonthlySummaryRollup.applyDelta(conn, transaction, +1);
+                conn.commit();
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(true);
+            }
+            return generatedId;
+
+        } catch (SQLException e) {
+            System.err.println("DB 거래 저장 오류: " + e.getMessage());
+            return -1;
+        }
+    }
+
+    /**
+     * JDBC 배치를 사용하며, DB_URL의 rewriteBatchedStatements=true 옵션 덕분에
+     * 드라이버가 배치를 다중 행 INSERT로 재작성하여 전송합니다.
+     */
+    @Override
+    public List<Integer> insertTransactions(List<Transaction> transactions) {
+        List<Integer> generatedIds = new ArrayList<>(transactions.size());
+        if (transactions.isEmpty()) {
+            return generatedIds;
+        }
+
+        // 유형/카테고리 번호를 먼저 확정 (새 카테고리 등록은 DB 트랜잭션 밖에서)
+        CategoryRegistry registry = CategoryRegistry.get();
+        byte[] typeCodes = new byte[transactions.size()];
+        short[] categoryIds = new short[transactions.size()];
+        for (int i = 0; i < transactions.size(); i++) {
+            Transaction transaction = transactions.get(i);
+            typeCodes[i] = CategoryRegistry.typeCode(transaction.getType());
+            categoryIds[i] = registry.idOf(transaction.getType(), transaction.getCategory());
+            if (typeCodes[i] < 0 || categoryIds[i] < 0) {
+                System.err.println("DB 거래 일괄 저장 오류: 유형/카테고리가 올바르지 않습니다: "
+                    + transaction.getType() + " / " + transaction.getCategory());
+                return generatedIds;
+            }
+        }
+
+        try (Connection conn = DatabaseManager.connect();
+             PreparedStatement pstmt = conn.prepareStatement(INSERT_TRANSACTION_SQL, Statement.RETURN_GENERATED_KEYS)) {
+
+            conn.setAutoCommit(false);
+            try {
+                int pending = 0;
+                for (int i = 0; i < transactions.size(); i++) {
+                    bindTransaction(pstmt, transactions.get(i), typeCodes[i], categoryIds[i]);
+                    pstmt.addBatch();
+
+                    // 배치가 너무 커지지 않도록 BATCH_CHUNK_SIZE 단위로 전송 (커밋은 마지막에 한 번)
+                    if (++pending == BATCH_CHUNK_SIZE) {
+                        executeBatch(pstmt, generatedIds);
+                        pending = 0;
+                    }
+                }
+                if (pending > 0) {
+                    executeBatch(pstmt, generatedIds);
+                }
+                // 월별 집계는 키별로 합친 뒤 같은 트랜잭션에서 반영
+                MonthlySummaryRollup.applyDelta(conn, transactions, +1);
+                conn.commit();
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(true);
+            }
+            return generatedIds;
+
+        } catch (SQLException e) {
+            System.err.println("DB 거래 일괄 저장 오류: " + e.getMessage());
+            generatedIds.clear();
+            return generatedIds;
+        }
+    }
+
+    private static void bindTransaction(PreparedStatement pstmt, Transaction transaction, byte typeCode, short categoryId) throws SQLException {
+        pstmt.setInt(1, transaction.getUserId());
+        pstmt.setString(2, transaction.getDate());
+        pstmt.setByte(3, typeCode);
+        pstmt.setLong(4, transaction.getAmount());
+        if (categoryId == CategoryRegistry.NO_CATEGORY) {
+            pstmt.setNull(5, Types.SMALLINT);
+        } else {
+            pstmt.setShort(5, categoryId);
+        }
+        pstmt.setString(6, transaction.getContent());
+    }
+
+    /**
+     * 누적된 배치를 실행하고 생성된 ID를 리스트에 추가합니다.
+     */
+    private static void executeBatch(PreparedStatement pstmt, List<Integer> generatedIds) throws SQLException {
+        pstmt.executeBatch();
+        try (ResultSet keys = pstmt.getGeneratedKeys()) {
+            while (keys.next()) {
+                generatedIds.add(keys.getInt(1));
+            }
+        }
+        pstmt.clearBatch();
+    }
+
+    @Override
+    public boolean deleteTransaction(int transactionId) {
+        String selectSql = SELECT_TRANSACTION_COLUMNS + "FROM transactions WHERE id = ? FOR UPDATE";
+        String sql = "DELETE FROM transactions WHERE id = ?";
+
+        try (Connection conn = DatabaseManager.connect();
+             PreparedStatement select = conn.prepareStatement(selectSql);
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+
+            conn.setAutoCommit(false);
+            try {
+                // 월별 집계에서 뺄 금액/카테고리를 알기 위해 삭제할 행을 먼저 읽음 (행 잠금)
+                Transaction deleted = null;
+                select.setInt(1, transactionId);
+                try (ResultSet rs = select.executeQuery()) {
+                    if (rs.next()) {
+                        deleted = readTransaction(rs);
+                    }
+                }
+                if (deleted == null) {
+                    conn.rollback();
+                    return false;
+                }
+
+                pstmt.setInt(1, transactionId);
+                int affectedRows = pstmt.executeUpdate();
+                MonthlySummaryRollup.applyDelta(conn, deleted, -1);
+                conn.commit();
+                return affectedRows > 0;
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(true);
+            }
+
+        } catch (SQLException e) {
+            System.err.println("DB 거래 삭제 오류: " + e.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    public List<Transaction> findMonth(int userId, int year, int month) {
+        List<Transaction> transactions = new ArrayList<>();
+        String sql = SELECT_TRANSACTION_COLUMNS
+                   + "FROM transactions "
+                   + "WHERE user_id = ? AND date >= ? AND date < ? "
+                   + "ORDER BY date ASC, id ASC";
+
+        try (Connection conn = DatabaseManager.connect();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+
+            pstmt.setInt(1, userId);
+            pstmt.setDate(2, monthStart(year, month));
+            pstmt.setDate(3, nextMonthStart(year, month));
+
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    transactions.add(readTransaction(rs));
+                }
+            }
+        } catch (SQLException e) {
+            System.err.println("월별 거래 조회 중 DB 오류 발생: " + e.getMessage());
+            return null;
+        }
+        return transactions;
+    }
+
+    @Override
+    public List<Transaction> findPage(int userId, LocalDate from, LocalDate to, TransactionFilter filter,
+                                      LocalDate afterDate, int afterId, int limit) {
+        List<Transaction> transactions = new ArrayList<>(Math.min(limit, BATCH_CHUNK_SIZE));
+        byte typeCode = -1;
+        short categoryId = 0; // 유형 없이 카테고리만 지정하면 0 (이름으로 조회)
+        if (filter.getType() != null) {
+            typeCode = CategoryRegistry.typeCode(filter.getType());
+            if (typeCode < 0) {
+                return transactions; // 없는 유형
+            }
+            if (filter.getCategory() != null) {
+                categoryId = CategoryRegistry.get().findId(filter.getType(), filter.getCategory());
+                if (categoryId <= 0) {
+                    return transactions; // 사전에 없는 카테고리 = 해당 거래 없음
+                }
+            }
+        }
+
+        // (user_id, date) 인덱스의 마지막 열은 PK(id)이므로 (date, id) 순서 그대로 이어서 읽음
+        StringBuilder sql = new StringBuilder(SELECT_TRANSACTION_COLUMNS)
+            .append("FROM transactions WHERE user_id = ? AND date >= ? AND date < ? ");
+        if (afterDate != null) {
+            sql.append("AND (date > ? OR (date = ? AND id > ?)) ");
+        }
+        if (typeCode >= 0) {
+            sql.append("AND type_code = ? ");
+        }
+        if (filter.getCategory() != null) {
+            // 유형 없이 카테고리만 지정하면 수입/지출 양쪽의 같은 이름을 찾음
+            sql.append(categoryId > 0 ? "AND category_id = ? " : "AND category_id IN (SELECT id FROM categories WHERE name = ?) ");
+        }
+        if (filter.hasAmountRange()) {
+            sql.append("AND amount BETWEEN ? AND ? ");
+        }
+        sql.append("ORDER BY date ASC, id ASC LIMIT ?");
+
+        try (Connection conn = DatabaseManager.connect();
+             PreparedStatement pstmt = conn.prepareStatement(sql.toString())) {
+
+            int i = 1;
+            pstmt.setInt(i++, userId);
+            pstmt.setDate(i++, java.sql.Date.valueOf(from));
+            pstmt.setDate(i++, java.sql.Date.valueOf(to));
+            if (afterDate != null) {
+                pstmt.setDate(i++, java.sql.Date.valueOf(afterDate));
+                pstmt.setDate(i++, java.sql.Date.valueOf(afterDate));
+                pstmt.setInt(i++, afterId);
+            }
+            if (typeCode >= 0) {
+                pstmt.setByte(i++, typeCode);
+            }
+            if (filter.getCategory() != null) {
+                if (categoryId > 0) {
+                    pstmt.setShort(i++, categoryId);
+                } else {
+                    pstmt.setString(i++, filter.getCategory());
+                }
+            }
+            if (filter.hasAmountRange()) {
+                pstmt.setLong(i++, filter.getMinAmount());
+                pstmt.setLong(i++, filter.getMaxAmount());
+            }
+            pstmt.setInt(i, limit);
+
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    transactions.add(readTransaction(rs));
+                }
+            }
+        } catch (SQLException e) {
+            System.err.println("거래 내역 페이지 조회 중 DB 오류 발생: " + e.getMessage());
+            return null;
+        }
+        return transactions;
+    }
+
+    private static Transaction readTransaction(ResultSet rs) throws SQLException {
+        return new Transaction(
+            rs.getInt("id"),
+            rs.getInt("user_id"),
+            rs.getString("date"),
+            CategoryRegistry.typeName(rs.getByte("type_code")),
+            rs.getLong("amount"),
+            CategoryRegistry.get().name(rs.getShort("category_id")), // NULL -> 0 -> null
+            rs.getString("content")
+        );
+    }
+
+    // --- 집계 (monthly_summary 테이블에서 읽음, 원본 거래 행을 훑지 않음) ---
+
+    @Override
+    public LedgerTotals getTypeCategoryTotals(int userId, int year, int month) {
+        LedgerTotals totals = new LedgerTotals();
+        // 카테고리 0 = 카테고리 없음
+        String sql = "SELECT type_code, category_id, total_amount "
+                   + "FROM monthly_summary "
+                   + "WHERE user_id = ? AND year = ? AND month = ?";
+
+        try (Connection conn = DatabaseManager.connect();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+
+            pstmt.setInt(1, userId);
+            pstmt.setInt(2, year);
+            pstmt.setInt(3, month);
+
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    totals.add(rs.getByte("type_code"), rs.getShort("category_id"), rs.getLong("total_amount"));
+                }
+            }
+        } catch (SQLException e) {
+            System.err.println("유형/카테고리 요약 조회 중 DB 오류 발생: " + e.getMessage());
+        }
+        return totals;
+    }
+
+    @Override
+    public long[][] getYearlyTotals(int userId, int year) {
+        // [유형 번호][월 - 1], 0으로 초기화
+        long[][] yearlyData = new long[2][12];
+
+        // 월별 집계 테이블에서 최대 12개월 x 유형 x 카테고리 행만 읽어 합산
+        String sql = "SELECT month, type_code, SUM(total_amount) as total_amount "
+                   + "FROM monthly_summary "
+                   + "WHERE user_id = ? AND year = ? "
+                   + "GROUP BY month, type_code";
+
+        try (Connection conn = DatabaseManager.connect();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+
+            pstmt.setInt(1, userId);
+            pstmt.setInt(2, year);
+
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    int month = rs.getInt("month"); // 1~12
+                    byte typeCode = rs.getByte("type_code");
+
+                    if (typeCode >= 0 && typeCode < yearlyData.length) {
+                        // 월(1~12)을 배열 인덱스(0~11)로 변환
+                        yearlyData[typeCode][month - 1] = rs.getLong("total_amount");
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            System.err.println("연간 요약 조회 중 DB 오류 발생: " + e.getMessage());
+        }
+        return yearlyData;
+    }
+
+    @Override
+    public boolean sumByDay(int userId, LocalDate from, LocalDate to, boolean byCategory, AmountSink sink) {
+        // (user_id, date) 인덱스 범위만 읽고 DB에서 일별로 묶음 (결과 행 수 = 일 수 x 유형 x 카테고리)
+        String categoryColumn = byCategory ? "COALESCE(category_id, 0)" : "0";
+        String sql = "SELECT date, type_code, " + categoryColumn + " AS category_id, SUM(amount) AS total_amount "
+                   + "FROM transactions "
+                   + "WHERE user_id = ? AND date >= ? AND date < ? "
+                   + "GROUP BY date, type_code" + (byCategory ? ", " + categoryColumn : "");
+
+        try (Connection conn = DatabaseManager.connect();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+
+            pstmt.setInt(1, userId);
+            pstmt.setDate(2, java.sql.Date.valueOf(from));
+            pstmt.setDate(3, java.sql.Date.valueOf(to));
+
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    sink.add(rs.getObject("date", LocalDate.class).toEpochDay(), rs.getByte("type_code"),
+                        rs.getShort("category_id"), rs.getLong("total_amount"));
+                }
+            }
+            return true;
+        } catch (SQLException e) {
+            System.err.println("기간별 합계 조회 중 DB 오류 발생: " + e.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    public boolean sumByMonth(int userId, LocalDate from, LocalDate to, boolean byCategory, AmountSink sink) {
+        // 월별 집계 테이블에서 (year, month) 범위만 읽음. year 조건으로 PRIMARY KEY 범위를 좁히고 월 번호로 정확히 자름
+        String sql = "SELECT year, month, type_code, " + (byCategory ? "category_id" : "0 AS category_id")
+                   + ", SUM(total_amount) AS total_amount "
+                   + "FROM monthly_summary "
+                   + "WHERE user_id = ? AND year BETWEEN ? AND ? AND year * 12 + month >= ? AND year * 12 + month < ? "
+                   + "GROUP BY year, month, type_code" + (byCategory ? ", category_id" : "");
+
+        try (Connection conn = DatabaseManager.connect();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+
+            pstmt.setInt(1, userId);
+            pstmt.setInt(2, from.getYear());
+            pstmt.setInt(3, to.getYear());
+            pstmt.setInt(4, from.getYear() * 12 + from.getMonthValue());
+            pstmt.setInt(5, to.getYear() * 12 + to.getMonthValue());
+
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    long epochDay = LocalDate.of(rs.getInt("year"), rs.getInt("month"), 1).toEpochDay();
+                    sink.add(epochDay, rs.getByte("type_code"), rs.getShort("category_id"), rs.getLong("total_amount"));
+                }
+            }
+            return true;
+        } catch (SQLException e) {
+            System.err.println("월별 기간 합계 조회 중 DB 오류 발생: " + e.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    public int rebuildSummaries(Integer userId) {
+        try (Connection conn = DatabaseManager.connect()) {
+            return (conn != null) ? MonthlySummaryRollup.rebuild(conn, userId) : -1;
+        } catch (SQLException e) {
+            System.err.println("월별 집계 재계산 중 DB 오류 발생: " + e.getMessage());
+            return -1;
+        }
+    }
+
+    // --- 목표 ---
+
+    @Override
+    public boolean insertGoal(Goal goal) {
+        String sql = "INSERT INTO goals (user_id, type, category, target_amount, year, month) VALUES (?, ?, ?, ?, ?, ?)";
+        try (Connection conn = DatabaseManager.connect();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+
+            pstmt.setInt(1, goal.getUserId());
+            pstmt.setString(2, goal.getType());
+            // 카테고리가 null이면 DB에도 NULL로 저장
+            pstmt.setString(3, goal.getCategory());
+            pstmt.setLong(4, goal.getTargetAmount());
+            pstmt.setInt(5, goal.getYear());
+            pstmt.setInt(6, goal.getMonth());
+
+            return pstmt.executeUpdate() > 0;
+
+        } catch (SQLException e) {
+            // UNIQUE KEY 제약 조건 위반 시 (동일한 목표가 이미 존재)
+            if (e.getSQLState().equals("23000")) {
+                System.err.println("DB 목표 저장 오류: 동일한 목표가 이미 존재합니다. " + e.getMessage());
+                return false;
+            }
+            System.err.println("DB 목표 저장 오류: " + e.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    public List<Goal> findGoals(int userId, int year, int month) {
+        List<Goal> goals = new ArrayList<>();
+        String sql = "SELECT id, user_id, type, category, target_amount, year, month FROM goals WHERE user_id = ? AND year = ? AND month = ?";
+
+        try (Connection conn = DatabaseManager.connect();
+             PreparedStatement pstmt = conn.prepareStatement(sql)) {
+
+            pstmt.setInt(1, userId);
+            pstmt.setInt(2, year);
+            pstmt.setInt(3, month);
+
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    goals.add(new Goal(
+                        rs.getInt("id"),
+                        rs.getInt("user_id"),
+                        rs.getString("type"),
+                        rs.getString("category"),
+                        rs.getLong("target_amount"),
+                        rs.getInt("year"),
+                        rs.getInt("month")
+                    ));
+                }
+            }
+        } catch (SQLException e) {
+            System.err.println("월별 목표 조회 중 DB 오류 발생: " + e.getMessage());
+        }
+        return goals;
+    }
+}
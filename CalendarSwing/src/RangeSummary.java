@@ -0,0 +1,165 @@
+import java.time.LocalDate;
+import java.util.Arrays;
+
+/**
+ * 임의 구간 [from, to)의 기간 단위(일/주/월/분기/연)별 수입/지출 합계입니다. (TransactionDao.getRangeSummary)
+ * 결과는 구간 번호로 인덱싱하는 기본형 배열(Money 최소 단위 long)이며, 카테고리별로 묶으면
+ * 카테고리 번호(CategoryRegistry) x 구간 배열이 추가됩니다. 여러 해의 추이 차트를 한 번의 조회로 그릴 수 있습니다.
+ *
+ * 구간 0은 from이 속한 기간입니다. (주 단위는 월요일 시작이므로 첫 구간의 시작일이 from보다 빠를 수 있음)
+ */
+public class RangeSummary {
+
+    /**
+     * 합계를 나누는 기간 단위. 날짜를 1970년 기준 일련번호(ordinal)로 바꾸어 구간 번호를 계산합니다.
+     */
+    public enum Granularity {
+        DAY, WEEK, MONTH, QUARTER, YEAR;
+
+        /**
+         * epoch day가 속한 기간의 일련번호
+         */
+        long ordinalOf(long epochDay) {
+            switch (this) {
+                case DAY:
+                    return epochDay;
+                case WEEK:
+                    return Math.floorDiv(epochDay + 3, 7); // 1970-01-01은 목요일 -> 월요일(1969-12-29) 기준
+                default:
+                    LocalDate date = LocalDate.ofEpochDay(epochDay);
+                    if (this == YEAR) {
+                        return date.getYear();
+                    }
+                    long monthOrdinal = date.getYear() * 12L + date.getMonthValue() - 1;
+                    return (this == MONTH) ? monthOrdinal : Math.floorDiv(monthOrdinal, 3);
+            }
+        }
+
+        /**
+         * 일련번호 기간의 시작일
+         */
+        LocalDate startOf(long ordinal) {
+            switch (this) {
+                case DAY:
+                    return LocalDate.ofEpochDay(ordinal);
+                case WEEK:
+                    return LocalDate.ofEpochDay(ordinal * 7 - 3);
+                case MONTH:
+                    return LocalDate.of((int) Math.floorDiv(ordinal, 12), Math.floorMod(ordinal, 12) + 1, 1);
+                case QUARTER:
+                    return LocalDate.of((int) Math.floorDiv(ordinal, 4), Math.floorMod(ordinal, 4) * 3 + 1, 1);
+                default:
+                    return LocalDate.of((int) ordinal, 1, 1);
+            }
+        }
+
+        /**
+         * 월 단위 합계를 그대로 묶을 수 있는 단위인지 (월별 집계 테이블 사용 가능 여부)
+         */
+        boolean isMonthAligned() {
+            return this == MONTH || this == QUARTER || this == YEAR;
+        }
+    }
+
+    /**
+     * 합계를 나누는 기준 (유형별만, 또는 유형 + 카테고리별)
+     */
+    public enum GroupBy {
+        TYPE, CATEGORY
+    }
+
+    private final Granularity granularity;
+    private final GroupBy groupBy;
+    private final LocalDate from;
+    private final LocalDate to;
+    private final long firstOrdinal;
+    private final int bucketCount;
+
+    private final long[][] typeTotals;     // [유형 번호][구간]
+    private long[][] categoryTotals;       // [카테고리 번호][구간], CATEGORY일 때만 (행은 처음 더할 때 생성)
+
+    public RangeSummary(LocalDate from, LocalDate to, Granularity granularity, GroupBy groupBy) {
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("구간이 비어 있습니다: " + from + " ~ " + to);
+        }
+        this.granularity = granularity;
+        this.groupBy = groupBy;
+        this.from = from;
+        this.to = to;
+        this.firstOrdinal = granularity.ordinalOf(from.toEpochDay());
+        this.bucketCount = Math.toIntExact(granularity.ordinalOf(to.toEpochDay() - 1) - firstOrdinal + 1);
+        this.typeTotals = new long[2][bucketCount];
+        if (groupBy == GroupBy.CATEGORY) {
+            this.categoryTotals = new long[CategoryRegistry.get().capacity()][];
+        }
+    }
+
+    /**
+     * 합계에 금액을 더합니다. (LedgerStore.AmountSink, 구간 밖의 날짜는 무시)
+     */
+    public void add(long epochDay, byte typeCode, short categoryId, long amount) {
+        if (typeCode < 0 || typeCode >= typeTotals.length) {
+            return;
+        }
+        long bucket = granularity.ordinalOf(epochDay) - firstOrdinal;
+        if (bucket < 0 || bucket >= bucketCount) {
+            return;
+        }
+        typeTotals[typeCode][(int) bucket] += amount;
+
+        if (categoryTotals != null && categoryId >= 0) {
+            if (categoryId >= categoryTotals.length) {
+                categoryTotals = Arrays.copyOf(categoryTotals, categoryId + 1);
+            }
+            long[] series = categoryTotals[categoryId];
+            if (series == null) {
+                series = new long[bucketCount];
+                categoryTotals[categoryId] = series;
+            }
+            series[(int) bucket] += amount;
+        }
+    }
+
+    public Granularity getGranularity() { return granularity; }
+    public GroupBy getGroupBy() { return groupBy; }
+    public LocalDate getFrom() { return from; }
+    public LocalDate getTo() { return to; }
+    public int bucketCount() { return bucketCount; }
+
+    /**
+     * 구간의 시작일
+     */
+    public LocalDate bucketStart(int bucket) {
+        return granularity.startOf(firstOrdinal + bucket);
+    }
+
+    /**
+     * 유형의 구간별 합계 배열 (길이 bucketCount, 수정하지 마세요)
+     */
+    public long[] typeSeries(byte typeCode) {
+        return typeTotals[typeCode];
+    }
+
+    public long typeTotal(byte typeCode, int bucket) {
+        return typeTotals[typeCode][bucket];
+    }
+
+    /**
+     * 카테고리의 구간별 합계 배열 (CATEGORY로 묶지 않았거나 내역이 없으면 null, 수정하지 마세요)
+     */
+    public long[] categorySeries(short categoryId) {
+        return (categoryTotals != null && categoryId >= 0 && categoryId < categoryTotals.length) ? categoryTotals[categoryId] : null;
+    }
+
+    public long categoryTotal(short categoryId, int bucket) {
+        long[] series = categorySeries(categoryId);
+        return (series != null) ? series[bucket] : 0;
+    }
+
+    /**
+     * categorySeries()에 넘길 수 있는 카테고리 번호의 상한
+     */
+    public int categoryCapacity() {
+        return (categoryTotals != null) ? categoryTotals.length : 0;
+    }
+}
@@ -0,0 +1,220 @@
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 커넥션 풀의 물리 연결 1개에 딸린 PreparedStatement 캐시입니다. (ConnectionPool 내부용)
+ * 같은 연결에서 같은 SQL을 다시 prepare하면 이전에 만든 문장을 재사용하므로, 서버가 같은 SQL을 매번
+ * 파싱/준비하지 않습니다. DAO가 문장의 close()를 호출하면 실제로 닫지 않고 파라미터만 지운 뒤 돌려받습니다.
+ *
+ * - SQL(+ 생성 키 반환 여부)별로 최대 maxSize개를 LRU로 보관합니다. 밀려난 문장은 닫습니다.
+ * - 같은 SQL의 문장이 아직 사용 중이면 캐시하지 않는 새 문장을 만들어 줍니다.
+ * - setFetchSize / setMaxRows / setQueryTimeout은 반납 시 기본값으로 되돌리고,
+ *   그 밖의 문장 설정을 바꾼 문장은 반납 시 닫습니다.
+ */
+public class StatementCache {
+
+    /**
+     * 풀 전체의 문장 준비/재사용/실행 횟수 (prepare 대비 execute 비율 확인용)
+     */
+    public static final class Stats {
+        private final AtomicLong prepared = new AtomicLong(); // 실제로 연결에서 prepare한 횟수
+        private final AtomicLong reused = new AtomicLong();   // 캐시된 문장을 재사용한 횟수
+        private final AtomicLong executed = new AtomicLong(); // execute*() 호출 횟수 (배치는 1회)
+
+        public long getPrepareCount() { return prepared.get(); }
+        public long getReuseCount() { return reused.get(); }
+        public long getExecuteCount() { return executed.get(); }
+
+        @Override
+        public String toString() {
+            long p = prepared.get();
+            long e = executed.get();
+            return String.format("Statements: prepare %d, 재사용 %d, execute %d (prepare 1회당 execute %.1f회)",
+                p, reused.get(), e, p == 0 ? 0.0 : (double) e / p);
+        }
+    }
+
+    private final Connection physical;
+    private final Stats stats;
+    private final LinkedHashMap<String, CachedStatement> statements;
+
+    public StatementCache(Connection physical, int maxSize, Stats stats) {
+        this.physical = physical;
+        this.stats = stats;
+        this.statements = new LinkedHashMap<String, CachedStatement>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedStatement> eldest) {
+                if (size() <= maxSize) {
+                    return false;
+                }
+                eldest.getValue().evict();
+                return true;
+            }
+        };
+    }
+
+    /**
+     * 캐시된 문장을 빌려주거나 새로 prepare합니다.
+     * @param owner 문장을 빌려가는 풀 연결 (getConnection()이 물리 연결 대신 이 연결을 반환)
+     * @param autoGeneratedKeys Statement.RETURN_GENERATED_KEYS 또는 Statement.NO_GENERATED_KEYS
+     */
+    public synchronized PreparedStatement prepare(Connection owner, String sql, int autoGeneratedKeys) throws SQLException {
+        String key = (autoGeneratedKeys == Statement.RETURN_GENERATED_KEYS) ? "K:" + sql : "N:" + sql;
+        CachedStatement cached = statements.get(key);
+        if (cached != null && !cached.inUse) {
+            stats.reused.incrementAndGet();
+            return cached.checkOut(owner);
+        }
+
+        PreparedStatement statement = physical.prepareStatement(sql, autoGeneratedKeys);
+        stats.prepared.incrementAndGet();
+        CachedStatement created = new CachedStatement(key, statement, cached == null);
+        if (created.cacheable) {
+            statements.put(key, created);
+        }
+        return created.checkOut(owner);
+    }
+
+    /**
+     * 연결이 풀로 돌아올 때 호출합니다. 닫히지 않은 문장을 회수합니다.
+     */
+    public synchronized void releaseAll() {
+        List<CachedStatement> inUse = new ArrayList<>();
+        for (CachedStatement cached : statements.values()) {
+            if (cached.inUse) {
+                inUse.add(cached);
+            }
+        }
+        for (CachedStatement cached : inUse) {
+            release(cached);
+        }
+    }
+
+    public synchronized int size() {
+        return statements.size();
+    }
+
+    /**
+     * 빌려준 문장을 돌려받습니다. 다시 쓸 수 없는 문장은 닫고 캐시에서 제거합니다.
+     */
+    private synchronized void release(CachedStatement cached) {
+        cached.inUse = false;
+        cached.owner = null;
+        if (cached.cacheable && !cached.discard) {
+            try {
+                cached.statement.clearParameters();
+                cached.statement.clearBatch();
+                if (cached.dirty) {
+                    cached.statement.setFetchSize(0);
+                    cached.statement.setMaxRows(0);
+                    cached.statement.setQueryTimeout(0);
+                    cached.dirty = false;
+                }
+                return;
+            } catch (SQLException e) {
+                // 읽지 않은 스트리밍 결과가 남아 있는 등 재사용할 수 없는 상태 -> 닫음
+            }
+        }
+        if (cached.cacheable && statements.get(cached.key) == cached) {
+            statements.remove(cached.key);
+        }
+        closeQuietly(cached.statement);
+    }
+
+    private static void closeQuietly(Statement statement) {
+        try {
+            statement.close();
+        } catch (SQLException ignored) {
+        }
+    }
+
+    /**
+     * 캐시된 문장 1개. DAO에는 프록시를 빌려주고 close() 등을 가로챕니다.
+     */
+    private class CachedStatement implements InvocationHandler {
+        final String key;
+        final PreparedStatement statement;
+        final PreparedStatement proxy;
+        final boolean cacheable; // false면 사용 중인 같은 SQL 대신 만든 일회용 문장
+        boolean inUse;
+        boolean dirty;   // 반납 시 되돌릴 설정을 바꿈
+        boolean discard; // 반납 시 닫아야 함 (되돌릴 수 없는 설정 변경, 캐시에서 밀려남)
+        Connection owner;
+
+        CachedStatement(String key, PreparedStatement statement, boolean cacheable) {
+            this.key = key;
+            this.statement = statement;
+            this.cacheable = cacheable;
+            this.proxy = (PreparedStatement) Proxy.newProxyInstance(
+                PreparedStatement.class.getClassLoader(), new Class<?>[]{PreparedStatement.class}, this);
+        }
+
+        PreparedStatement checkOut(Connection owner) {
+            this.inUse = true;
+            this.owner = owner;
+            return proxy;
+        }
+
+        // LRU에서 밀려남: 사용 중이면 반납 시 닫고, 아니면 바로 닫음
+        void evict() {
+            if (inUse) {
+                discard = true;
+            } else {
+                closeQuietly(statement);
+            }
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (method.getDeclaringClass() == Object.class) {
+                if (name.equals("equals")) return proxy == args[0];
+                if (name.equals("hashCode")) return System.identityHashCode(proxy);
+                return "CachedStatement@" + Integer.toHexString(System.identityHashCode(proxy));
+            }
+            synchronized (StatementCache.this) {
+                if (name.equals("close")) {
+                    if (inUse) {
+                        release(this);
+                    }
+                    return null;
+                }
+                if (name.equals("isClosed") && !inUse) {
+                    return true;
+                }
+                if (!inUse) {
+                    throw new SQLException("이미 닫힌 문장입니다.");
+                }
+                if (name.equals("getConnection")) {
+                    return owner;
+                }
+            }
+
+            if (name.startsWith("execute")) {
+                stats.executed.incrementAndGet();
+            } else if (name.equals("setFetchSize") || name.equals("setMaxRows")
+                    || name.equals("setLargeMaxRows") || name.equals("setQueryTimeout")) {
+                dirty = true;
+            } else if (name.equals("setFetchDirection") || name.equals("setMaxFieldSize") || name.equals("setEscapeProcessing")
+                    || name.equals("setCursorName") || name.equals("setPoolable") || name.equals("closeOnCompletion")) {
+                discard = true;
+            }
+            try {
+                return method.invoke(statement, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
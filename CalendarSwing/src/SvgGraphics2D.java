@@ -0,0 +1,710 @@
+import java.awt.*;
+import java.awt.font.FontRenderContext;
+import java.awt.font.GlyphVector;
+import java.awt.font.TextLayout;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Arc2D;
+import java.awt.geom.Area;
+import java.awt.geom.Ellipse2D;
+import java.awt.geom.Line2D;
+import java.awt.geom.NoninvertibleTransformException;
+import java.awt.geom.Path2D;
+import java.awt.geom.PathIterator;
+import java.awt.geom.Rectangle2D;
+import java.awt.geom.RoundRectangle2D;
+import java.awt.image.BufferedImage;
+import java.awt.image.BufferedImageOp;
+import java.awt.image.ImageObserver;
+import java.awt.image.RenderedImage;
+import java.awt.image.renderable.RenderableImage;
+import java.text.AttributedCharacterIterator;
+import java.util.Map;
+
+/**
+ * 그리기 명령을 SVG 문서로 기록하는 Graphics2D입니다. (ChartReportRenderer의 SVG 출력용, 외부 라이브러리 없음)
+ * 도형 연산(선 / 사각형 / 타원 / 호 / 다각형 등)은 모두 draw(Shape) / fill(Shape)로 모아 현재 변환을 적용한 <path>로,
+ * 문자열은 <text>로 기록합니다. 이동 / 확대 / 회전 / 기울이기 변환과 클립을 지원합니다.
+ * 이미지 그리기와 copyArea는 벡터 문서에 옮길 수 없으므로 UnsupportedOperationException을 던지고,
+ * XOR 모드는 SVG로 표현할 수 없어 일반 그리기로 처리합니다.
+ *
+ * 한 문서를 create()로 만든 복사본끼리 공유하며, 모든 그리기가 끝난 뒤 toSvg()로 문서를 얻고
+ * 생성자로 만든 객체를 dispose()합니다. (dispose() 뒤에도 toSvg()는 사용할 수 있음)
+ */
+public class SvgGraphics2D extends Graphics2D {
+
+    /**
+     * 복사본끼리 공유하는 문서 본문
+     */
+    private static final class Document {
+        final int width;
+        final int height;
+        final StringBuilder defs = new StringBuilder();
+        final StringBuilder body = new StringBuilder();
+        // 글자 폭 계산용 (헤드리스에서도 동작, 문서마다 따로 두어 여러 스레드에서 동시에 렌더링 가능)
+        final Graphics2D metrics = new BufferedImage(1, 1, BufferedImage.TYPE_INT_RGB).createGraphics();
+        int nextClipId;
+
+        Document(int width, int height) {
+            this.width = width;
+            this.height = height;
+        }
+    }
+
+    private final Document document;
+    private final boolean root; // 생성자로 만든 객체 (dispose() 시 문서의 글자 폭 계산용 Graphics도 해제)
+    private AffineTransform transform;
+    private Shape clip;        // 장치 좌표 (null = 클립 없음)
+    private String clipRef;    // clip에 해당하는 clipPath id (null = 클립 없음)
+    private Color color;
+    private Paint paint;
+    private Color background;
+    private Font font;
+    private Stroke stroke;
+    private Composite composite;
+    private final RenderingHints hints;
+
+    public SvgGraphics2D(int width, int height) {
+        this.document = new Document(width, height);
+        this.root = true;
+        this.transform = new AffineTransform();
+        this.color = Color.BLACK;
+        this.paint = color;
+        this.background = Color.WHITE;
+        this.font = new Font(Font.SANS_SERIF, Font.PLAIN, 12);
+        this.stroke = new BasicStroke();
+        this.composite = AlphaComposite.SrcOver;
+        this.hints = new RenderingHints(null);
+    }
+
+    private SvgGraphics2D(SvgGraphics2D parent) {
+        this.document = parent.document;
+        this.root = false;
+        this.transform = new AffineTransform(parent.transform);
+        this.clip = parent.clip;
+        this.clipRef = parent.clipRef;
+        this.color = parent.color;
+        this.paint = parent.paint;
+        this.background = parent.background;
+        this.font = parent.font;
+        this.stroke = parent.stroke;
+        this.composite = parent.composite;
+        this.hints = (RenderingHints) parent.hints.clone();
+    }
+
+    /**
+     * 지금까지 그린 내용을 SVG 문서로 반환합니다.
+     */
+    public String toSvg() {
+        StringBuilder sb = new StringBuilder(document.body.length() + document.defs.length() + 256);
+        sb.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n")
+          .append("<svg xmlns=\"http://www.w3.org/2000/svg\" width=\"")
+          .append(document.width).append("\" height=\"").append(document.height)
+          .append("\" viewBox=\"0 0 ").append(document.width).append(' ').append(document.height).append("\">\n");
+        if (document.defs.length() > 0) {
+            sb.append("<defs>\n").append(document.defs).append("</defs>\n");
+        }
+        sb.append(document.body).append("</svg>\n");
+        return sb.toString();
+    }
+
+    // ---------------------- 도형 / 문자열 기록 ----------------------
+
+    @Override
+    public void draw(Shape shape) {
+        if (stroke instanceof BasicStroke) {
+            BasicStroke basic = (BasicStroke) stroke;
+            double scale = Math.sqrt(Math.abs(transform.getDeterminant()));
+            StringBuilder sb = beginPath(transform.createTransformedShape(shape));
+            sb.append(" fill=\"none\"");
+            appendColor(sb, "stroke", currentColor());
+            sb.append(" stroke-width=\"").append(number(basic.getLineWidth() * scale)).append('"');
+            if (basic.getEndCap() != BasicStroke.CAP_BUTT) {
+                sb.append(" stroke-linecap=\"").append(basic.getEndCap() == BasicStroke.CAP_ROUND ? "round" : "square").append('"');
+            }
+            if (basic.getLineJoin() != BasicStroke.JOIN_MITER) {
+                sb.append(" stroke-linejoin=\"").append(basic.getLineJoin() == BasicStroke.JOIN_ROUND ? "round" : "bevel").append('"');
+            }
+            endElement(sb);
+        } else {
+            fill(stroke.createStrokedShape(shape)); // 사용자 정의 선은 외곽선을 채워서 표현
+        }
+    }
+
+    @Override
+    public void fill(Shape shape) {
+        StringBuilder sb = beginPath(transform.createTransformedShape(shape));
+        appendColor(sb, "fill", currentColor());
+        endElement(sb);
+    }
+
+    @Override
+    public void drawString(String str, float x, float y) {
+        if (str == null || str.isEmpty()) {
+            return;
+        }
+        StringBuilder sb = document.body;
+        // transform 속성이 있는 요소는 clip-path도 함께 변환되므로, 장치 좌표 클립은 바깥 <g>에 적용
+        if (clipRef != null) {
+            sb.append("<g clip-path=\"url(#").append(clipRef).append(")\">");
+        }
+        sb.append("<text x=\"").append(number(x)).append("\" y=\"").append(number(y)).append('"');
+        if (!transform.isIdentity()) {
+            double[] m = new double[6];
+            transform.getMatrix(m);
+            sb.append(" transform=\"matrix(").append(number(m[0])).append(' ').append(number(m[1])).append(' ')
+              .append(number(m[2])).append(' ').append(number(m[3])).append(' ')
+              .append(number(m[4])).append(' ').append(number(m[5])).append(")\"");
+        }
+        sb.append(" font-family=\"");
+        escape(sb, font.getFamily());
+        sb.append("\" font-size=\"").append(number(font.getSize2D())).append('"');
+        if (font.isBold()) {
+            sb.append(" font-weight=\"bold\"");
+        }
+        if (font.isItalic()) {
+            sb.append(" font-style=\"italic\"");
+        }
+        appendColor(sb, "fill", currentColor());
+        sb.append(" xml:space=\"preserve\">");
+        escape(sb, str);
+        sb.append("</text>\n");
+        if (clipRef != null) {
+            sb.append("</g>\n");
+        }
+    }
+
+    @Override
+    public void drawString(String str, int x, int y) {
+        drawString(str, (float) x, (float) y);
+    }
+
+    @Override
+    public void drawGlyphVector(GlyphVector glyphs, float x, float y) {
+        fill(glyphs.getOutline(x, y)); // TextLayout으로 그리는 글자 (글자 모양을 도형으로 기록)
+    }
+
+    @Override
+    public void drawLine(int x1, int y1, int x2, int y2) {
+        draw(new Line2D.Float(x1 + 0.5f, y1 + 0.5f, x2 + 0.5f, y2 + 0.5f)); // 픽셀 중앙 (BufferedImage와 같은 위치)
+    }
+
+    @Override
+    public void drawRect(int x, int y, int width, int height) {
+        if (width >= 0 && height >= 0) {
+            draw(new Rectangle2D.Float(x + 0.5f, y + 0.5f, width, height));
+        }
+    }
+
+    @Override
+    public void fillRect(int x, int y, int width, int height) {
+        if (width > 0 && height > 0) {
+            fill(new Rectangle(x, y, width, height));
+        }
+    }
+
+    @Override
+    public void fillArc(int x, int y, int width, int height, int startAngle, int arcAngle) {
+        if (arcAngle != 0) {
+            fill(new Arc2D.Float(x, y, width, height, startAngle, arcAngle, Arc2D.PIE));
+        }
+    }
+
+    @Override
+    public void drawPolyline(int[] xPoints, int[] yPoints, int nPoints) {
+        if (nPoints < 2) {
+            return;
+        }
+        Path2D.Float path = new Path2D.Float(Path2D.WIND_NON_ZERO, nPoints);
+        path.moveTo(xPoints[0] + 0.5f, yPoints[0] + 0.5f);
+        for (int i = 1; i < nPoints; i++) {
+            path.lineTo(xPoints[i] + 0.5f, yPoints[i] + 0.5f);
+        }
+        draw(path);
+    }
+
+    private StringBuilder beginPath(Shape deviceShape) {
+        StringBuilder sb = document.body;
+        sb.append("<path d=\"");
+        appendPathData(sb, deviceShape);
+        sb.append('"');
+        return sb;
+    }
+
+    private void endElement(StringBuilder sb) {
+        if (clipRef != null) {
+            sb.append(" clip-path=\"url(#").append(clipRef).append(")\"");
+        }
+        sb.append("/>\n");
+    }
+
+    private static void appendPathData(StringBuilder sb, Shape shape) {
+        double[] c = new double[6];
+        PathIterator it = shape.getPathIterator(null);
+        boolean first = true;
+        while (!it.isDone()) {
+            if (!first) {
+                sb.append(' ');
+            }
+            first = false;
+            switch (it.currentSegment(c)) {
+                case PathIterator.SEG_MOVETO:
+                    sb.append('M').append(number(c[0])).append(' ').append(number(c[1]));
+                    break;
+                case PathIterator.SEG_LINETO:
+                    sb.append('L').append(number(c[0])).append(' ').append(number(c[1]));
+                    break;
+                case PathIterator.SEG_QUADTO:
+                    sb.append('Q').append(number(c[0])).append(' ').append(number(c[1])).append(' ')
+                      .append(number(c[2])).append(' ').append(number(c[3]));
+                    break;
+                case PathIterator.SEG_CUBICTO:
+                    sb.append('C').append(number(c[0])).append(' ').append(number(c[1])).append(' ')
+                      .append(number(c[2])).append(' ').append(number(c[3])).append(' ')
+                      .append(number(c[4])).append(' ').append(number(c[5]));
+                    break;
+                default:
+                    sb.append('Z');
+            }
+            it.next();
+        }
+    }
+
+    private Color currentColor() {
+        return (paint instanceof Color) ? (Color) paint : color;
+    }
+
+    private void appendColor(StringBuilder sb, String attribute, Color c) {
+        sb.append(' ').append(attribute).append("=\"rgb(").append(c.getRed()).append(',').append(c.getGreen())
+          .append(',').append(c.getBlue()).append(")\"");
+        float alpha = c.getAlpha() / 255f;
+        if (composite instanceof AlphaComposite) {
+            alpha *= ((AlphaComposite) composite).getAlpha();
+        }
+        if (alpha < 1f) {
+            sb.append(' ').append(attribute).append("-opacity=\"").append(number(alpha)).append('"');
+        }
+    }
+
+    private static String number(double value) {
+        long rounded = Math.round(value * 100);
+        if (rounded % 100 == 0) {
+            return Long.toString(rounded / 100);
+        }
+        return Double.toString(rounded / 100.0);
+    }
+
+    private static void escape(StringBuilder sb, String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char ch = text.charAt(i);
+            switch (ch) {
+                case '<': sb.append("&lt;"); break;
+                case '>': sb.append("&gt;"); break;
+                case '&': sb.append("&amp;"); break;
+                case '"': sb.append("&quot;"); break;
+                default:
+                    if (ch >= 0x20 || ch == '\t') {
+                        sb.append(ch);
+                    }
+            }
+        }
+    }
+
+    // ---------------------- 클립 ----------------------
+
+    @Override
+    public void clip(Shape shape) {
+        Shape device = transform.createTransformedShape(shape);
+        if (clip != null) {
+            Area area = new Area(clip);
+            area.intersect(new Area(device));
+            device = area;
+        }
+        setDeviceClip(device);
+    }
+
+    @Override
+    public void clipRect(int x, int y, int width, int height) {
+        clip(new Rectangle(x, y, width, height));
+    }
+
+    @Override
+    public void setClip(int x, int y, int width, int height) {
+        setClip(new Rectangle(x, y, width, height));
+    }
+
+    @Override
+    public void setClip(Shape shape) {
+        setDeviceClip(shape != null ? transform.createTransformedShape(shape) : null);
+    }
+
+    private void setDeviceClip(Shape device) {
+        clip = device;
+        if (device == null) {
+            clipRef = null;
+            return;
+        }
+        clipRef = "clip" + (document.nextClipId++);
+        StringBuilder defs = document.defs;
+        defs.append("<clipPath id=\"").append(clipRef).append("\"><path d=\"");
+        appendPathData(defs, device);
+        defs.append("\"/></clipPath>\n");
+    }
+
+    @Override
+    public Shape getClip() {
+        if (clip == null) {
+            return null;
+        }
+        try {
+            return transform.createInverse().createTransformedShape(clip);
+        } catch (NoninvertibleTransformException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public Rectangle getClipBounds() {
+        Shape userClip = getClip();
+        return (userClip != null) ? userClip.getBounds() : null;
+    }
+
+    // ---------------------- 상태 ----------------------
+
+    @Override
+    public Graphics create() {
+        return new SvgGraphics2D(this);
+    }
+
+    @Override
+    public void dispose() {
+        if (root) {
+            document.metrics.dispose();
+        }
+    }
+
+    @Override
+    public Color getColor() {
+        return color;
+    }
+
+    @Override
+    public void setColor(Color c) {
+        if (c != null) {
+            color = c;
+            paint = c;
+        }
+    }
+
+    @Override
+    public void setPaint(Paint p) {
+        if (p == null) {
+            return;
+        }
+        paint = p;
+        if (p instanceof Color) {
+            color = (Color) p;
+        }
+    }
+
+    @Override
+    public Paint getPaint() {
+        return paint;
+    }
+
+    @Override
+    public void setPaintMode() {
+        composite = AlphaComposite.SrcOver;
+    }
+
+    @Override
+    public Font getFont() {
+        return font;
+    }
+
+    @Override
+    public void setFont(Font f) {
+        if (f != null) {
+            font = f;
+        }
+    }
+
+    @Override
+    public FontMetrics getFontMetrics(Font f) {
+        return document.metrics.getFontMetrics(f);
+    }
+
+    @Override
+    public FontRenderContext getFontRenderContext() {
+        return document.metrics.getFontRenderContext();
+    }
+
+    @Override
+    public GraphicsConfiguration getDeviceConfiguration() {
+        return document.metrics.getDeviceConfiguration();
+    }
+
+    @Override
+    public void setComposite(Composite comp) {
+        if (comp != null) {
+            composite = comp;
+        }
+    }
+
+    @Override
+    public Composite getComposite() {
+        return composite;
+    }
+
+    @Override
+    public void setStroke(Stroke s) {
+        if (s != null) {
+            stroke = s;
+        }
+    }
+
+    @Override
+    public Stroke getStroke() {
+        return stroke;
+    }
+
+    @Override
+    public void setBackground(Color c) {
+        background = c;
+    }
+
+    @Override
+    public Color getBackground() {
+        return background;
+    }
+
+    @Override
+    public void setRenderingHint(RenderingHints.Key key, Object value) {
+        hints.put(key, value);
+    }
+
+    @Override
+    public Object getRenderingHint(RenderingHints.Key key) {
+        return hints.get(key);
+    }
+
+    @Override
+    public void setRenderingHints(Map<?, ?> newHints) {
+        hints.clear();
+        hints.putAll(newHints);
+    }
+
+    @Override
+    public void addRenderingHints(Map<?, ?> newHints) {
+        hints.putAll(newHints);
+    }
+
+    @Override
+    public RenderingHints getRenderingHints() {
+        return (RenderingHints) hints.clone();
+    }
+
+    @Override
+    public void translate(int x, int y) {
+        transform.translate(x, y);
+    }
+
+    @Override
+    public void translate(double tx, double ty) {
+        transform.translate(tx, ty);
+    }
+
+    @Override
+    public void scale(double sx, double sy) {
+        transform.scale(sx, sy);
+    }
+
+    @Override
+    public void transform(AffineTransform tx) {
+        transform.concatenate(tx);
+    }
+
+    @Override
+    public void setTransform(AffineTransform tx) {
+        transform = new AffineTransform(tx);
+    }
+
+    @Override
+    public AffineTransform getTransform() {
+        return new AffineTransform(transform);
+    }
+
+    @Override
+    public void rotate(double theta) {
+        transform.rotate(theta);
+    }
+
+    @Override
+    public void rotate(double theta, double x, double y) {
+        transform.rotate(theta, x, y);
+    }
+
+    @Override
+    public void shear(double shx, double shy) {
+        transform.shear(shx, shy);
+    }
+
+    @Override
+    public void setXORMode(Color c) {
+        setPaintMode(); // SVG에는 XOR 합성이 없으므로 일반 그리기로 처리
+    }
+
+    @Override
+    public boolean hit(Rectangle rect, Shape shape, boolean onStroke) {
+        Shape target = onStroke ? stroke.createStrokedShape(shape) : shape;
+        return transform.createTransformedShape(target).intersects(rect); // rect는 장치 좌표
+    }
+
+    // ---------------------- 그 밖의 도형 (draw(Shape) / fill(Shape)로 기록) ----------------------
+
+    @Override
+    public void drawString(AttributedCharacterIterator iterator, int x, int y) {
+        drawString(iterator, (float) x, (float) y);
+    }
+
+    @Override
+    public void drawString(AttributedCharacterIterator iterator, float x, float y) {
+        if (iterator.getEndIndex() > iterator.getBeginIndex()) {
+            new TextLayout(iterator, getFontRenderContext()).draw(this, x, y); // drawGlyphVector로 기록됨
+        }
+    }
+
+    @Override
+    public void clearRect(int x, int y, int width, int height) {
+        if (background == null) {
+            return;
+        }
+        Paint savedPaint = paint;
+        Color savedColor = color;
+        Composite savedComposite = composite;
+        paint = background;
+        composite = AlphaComposite.SrcOver;
+        fillRect(x, y, width, height);
+        paint = savedPaint;
+        color = savedColor;
+        composite = savedComposite;
+    }
+
+    @Override
+    public void drawRoundRect(int x, int y, int width, int height, int arcWidth, int arcHeight) {
+        if (width >= 0 && height >= 0) {
+            draw(new RoundRectangle2D.Float(x + 0.5f, y + 0.5f, width, height, arcWidth, arcHeight));
+        }
+    }
+
+    @Override
+    public void fillRoundRect(int x, int y, int width, int height, int arcWidth, int arcHeight) {
+        if (width > 0 && height > 0) {
+            fill(new RoundRectangle2D.Float(x, y, width, height, arcWidth, arcHeight));
+        }
+    }
+
+    @Override
+    public void drawOval(int x, int y, int width, int height) {
+        if (width >= 0 && height >= 0) {
+            draw(new Ellipse2D.Float(x + 0.5f, y + 0.5f, width, height));
+        }
+    }
+
+    @Override
+    public void fillOval(int x, int y, int width, int height) {
+        if (width > 0 && height > 0) {
+            fill(new Ellipse2D.Float(x, y, width, height));
+        }
+    }
+
+    @Override
+    public void drawArc(int x, int y, int width, int height, int startAngle, int arcAngle) {
+        if (arcAngle != 0) {
+            draw(new Arc2D.Float(x + 0.5f, y + 0.5f, width, height, startAngle, arcAngle, Arc2D.OPEN));
+        }
+    }
+
+    @Override
+    public void drawPolygon(int[] xPoints, int[] yPoints, int nPoints) {
+        if (nPoints < 2) {
+            return;
+        }
+        Path2D.Float path = new Path2D.Float(Path2D.WIND_EVEN_ODD, nPoints + 1);
+        path.moveTo(xPoints[0] + 0.5f, yPoints[0] + 0.5f);
+        for (int i = 1; i < nPoints; i++) {
+            path.lineTo(xPoints[i] + 0.5f, yPoints[i] + 0.5f);
+        }
+        path.closePath();
+        draw(path);
+    }
+
+    @Override
+    public void fillPolygon(int[] xPoints, int[] yPoints, int nPoints) {
+        if (nPoints > 2) {
+            fill(new Polygon(xPoints, yPoints, nPoints));
+        }
+    }
+
+    // ---------------------- 지원하지 않는 연산 (이미지는 벡터 문서에 옮기지 않음) ----------------------
+
+    private static UnsupportedOperationException unsupported(String operation) {
+        return new UnsupportedOperationException("SVG 출력에서 지원하지 않는 그리기 연산입니다: " + operation);
+    }
+
+    @Override
+    public boolean drawImage(Image img, AffineTransform xform, ImageObserver obs) {
+        throw unsupported("drawImage");
+    }
+
+    @Override
+    public void drawImage(BufferedImage img, BufferedImageOp op, int x, int y) {
+        throw unsupported("drawImage");
+    }
+
+    @Override
+    public boolean drawImage(Image img, int x, int y, ImageObserver observer) {
+        throw unsupported("drawImage");
+    }
+
+    @Override
+    public boolean drawImage(Image img, int x, int y, int width, int height, ImageObserver observer) {
+        throw unsupported("drawImage");
+    }
+
+    @Override
+    public boolean drawImage(Image img, int x, int y, Color bgcolor, ImageObserver observer) {
+        throw unsupported("drawImage");
+    }
+
+    @Override
+    public boolean drawImage(Image img, int x, int y, int width, int height, Color bgcolor, ImageObserver observer) {
+        throw unsupported("drawImage");
+    }
+
+    @Override
+    public boolean drawImage(Image img, int dx1, int dy1, int dx2, int dy2, int sx1, int sy1, int sx2, int sy2,
+                             ImageObserver observer) {
+        throw unsupported("drawImage");
+    }
+
+    @Override
+    public boolean drawImage(Image img, int dx1, int dy1, int dx2, int dy2, int sx1, int sy1, int sx2, int sy2,
+                             Color bgcolor, ImageObserver observer) {
+        throw unsupported("drawImage");
+    }
+
+    @Override
+    public void drawRenderedImage(RenderedImage img, AffineTransform xform) {
+        throw unsupported("drawRenderedImage");
+    }
+
+    @Override
+    public void drawRenderableImage(RenderableImage img, AffineTransform xform) {
+        throw unsupported("drawRenderableImage");
+    }
+
+    @Override
+    public void copyArea(int x, int y, int width, int height, int dx, int dy) {
+        throw unsupported("copyArea"); // 기록된 도형에서 픽셀을 읽을 수 없음
+    }
+}
@@ -3,12 +3,12 @@ public class Transaction {
     private int userId;        // FK - 사용자 ID
     private String date;       // 거래 날짜 ("yyyy-MM-dd")
     private String type;       // 유형 ("수입" 또는 "지출")
-    private double amount;     // 금액
+    private long amount;       // 금액 (Money 최소 단위, 1원 = Money.SCALE)
     private String category;   // 카테고리
     private String content;    // 상세 내용 (메모 기능 포함)
 
     // ✅ DB 저장 전: ID가 없는 생성자
-    public Transaction(int userId, String date, String type, double amount, String category, String content) {
+    public Transaction(int userId, String date, String type, long amount, String category, String content) {
         this.userId = userId;
         this.date = date;
         this.type = type;
@@ -18,7 +18,7 @@ public class Transaction {
     }
 
     // ✅ DB에서 불러올 때 사용: ID 포함 생성자
-    public Transaction(int transactionId, int userId, String date, String type, double amount, String category, String content) {
+    public Transaction(int transactionId, int userId, String date, String type, long amount, String category, String content) {
         this.transactionId = transactionId;
         this.userId = userId;
         this.date = date;
@@ -33,7 +33,7 @@ public class Transaction {
     public int getUserId() { return userId; }
     public String getDate() { return date; }
     public String getType() { return type; }
-    public double getAmount() { return amount; }
+    public long getAmount() { return amount; } // 최소 단위 (표시는 Money.format)
     public String getCategory() { return category; }
     public String getContent() { return content; }
 }
\ No newline at end of file
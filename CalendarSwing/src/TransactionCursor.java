@@ -0,0 +1,115 @@
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 구간의 거래 내역을 (날짜, ID) 순으로 한 페이지씩 읽는 전진 전용 커서입니다.
+ * 다음 페이지는 마지막으로 읽은 (날짜, ID) 다음부터 조회하므로(keyset pagination) OFFSET처럼 앞 페이지를
+ * 다시 훑지 않고, 메모리에는 한 페이지(pageSize건)만 올라갑니다. 여러 해의 내역도 일정한 힙으로 처리할 수 있습니다.
+ *
+ * 페이지마다 커넥션을 빌려 읽고 바로 반납하므로 close()할 자원이 없습니다.
+ * 페이지 사이에 추가된 거래는 아직 읽지 않은 위치라면 결과에 포함됩니다.
+ */
+public class TransactionCursor implements Iterator<Transaction> {
+
+    public static final int DEFAULT_PAGE_SIZE = 500;
+
+    private final LedgerStore store;
+    private final int userId;
+    private final LocalDate from;
+    private final LocalDate to;
+    private final TransactionFilter filter;
+    private final int pageSize;
+
+    private List<Transaction> page = Collections.emptyList();
+    private int index;
+    private LocalDate lastDate; // 마지막으로 조회한 행의 키 (첫 페이지 전에는 null)
+    private int lastId;
+    private boolean exhausted;
+    private boolean failed;
+
+    public TransactionCursor(LedgerStore store, int userId, LocalDate from, LocalDate to, TransactionFilter filter, int pageSize) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("pageSize는 1 이상이어야 합니다: " + pageSize);
+        }
+        this.store = store;
+        this.userId = userId;
+        this.from = from;
+        this.to = to;
+        this.filter = (filter != null) ? filter : TransactionFilter.ALL;
+        this.pageSize = pageSize;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (index >= page.size()) {
+            if (exhausted) {
+                return false;
+            }
+            fetchNextPage();
+        }
+        return true;
+    }
+
+    @Override
+    public Transaction next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return page.get(index++);
+    }
+
+    private void fetchNextPage() {
+        List<Transaction> next = store.findPage(userId, from, to, filter, lastDate, lastId, pageSize);
+        if (next == null) {
+            failed = true;
+            exhausted = true;
+            next = Collections.emptyList();
+        } else if (next.size() < pageSize) {
+            exhausted = true; // 마지막 페이지 (빈 페이지를 한 번 더 조회하지 않음)
+        }
+        if (!next.isEmpty()) {
+            Transaction last = next.get(next.size() - 1);
+            lastDate = LocalDate.parse(last.getDate());
+            lastId = last.getTransactionId();
+        }
+        page = next;
+        index = 0;
+    }
+
+    /**
+     * 조회 중 DB 오류가 있었으면 true (오류 이후의 행은 읽지 못함)
+     */
+    public boolean hasFailed() {
+        return failed;
+    }
+
+    /**
+     * 남은 거래를 Stream으로 반환합니다. (순차 처리 전용)
+     * Stream은 반환값으로 오류를 알릴 수 없으므로, DB 오류로 중간에 끊기면 IllegalStateException을 던집니다.
+     */
+    public Stream<Transaction> stream() {
+        Spliterator<Transaction> spliterator = new Spliterators.AbstractSpliterator<Transaction>(
+                Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+            @Override
+            public boolean tryAdvance(Consumer<? super Transaction> action) {
+                if (hasNext()) {
+                    action.accept(next());
+                    return true;
+                }
+                if (failed) {
+                    throw new IllegalStateException("거래 내역 조회 중 DB 오류가 발생하여 결과가 중간에 끊겼습니다.");
+                }
+                return false;
+            }
+        };
+        return StreamSupport.stream(spliterator, false);
+    }
+}
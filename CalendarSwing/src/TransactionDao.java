@@ -1,75 +1,201 @@
-import java.sql.Connection;
-import java.sql.PreparedStatement;
-import java.sql.ResultSet;
-import java.sql.SQLException;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 public class TransactionDao {
 
+    // 모든 TransactionDao 인스턴스(달력/분석/목표 화면)가 공유하는 월 단위 캐시
+    private static final MonthCache monthCache = new MonthCache(24);
+
+    // 실제 저장/조회를 담당하는 저장소 (설정에 따라 MySQL 또는 메모리)
+    private final LedgerStore store = DatabaseManager.store();
+
+    // 지연 저장 설정: -Dledger.writeBehind=true (저널 위치: -Dledger.writeBehind.journal, 기본값 ~/.calendarswing/write-behind.journal)
+    public static final String WRITE_BEHIND_PROPERTY = "ledger.writeBehind";
+    private static final String WRITE_BEHIND_JOURNAL_PROPERTY = "ledger.writeBehind.journal";
+    private static final int WRITE_BEHIND_MAX_BATCH = 200;      // 한 번의 DB 트랜잭션에 묶을 최대 거래 수
+    private static final long WRITE_BEHIND_LINGER_MS = 20;      // 묶음을 채우기 위해 기다리는 최대 시간
+    private static final long WRITE_BEHIND_SHUTDOWN_MS = 5000;  // 종료 시 남은 거래 저장을 기다리는 최대 시간
+
+    private static WriteBehindQueue writeBehind;
+    private static boolean writeBehindChecked = false;
+    private static volatile WriteBehindQueue.Listener writeBehindListener;
+
+    /**
+     * 공유 월 캐시를 반환합니다. (적중률 확인 등)
+     */
+    public static MonthCache getMonthCache() {
+        return monthCache;
+    }
+
+    /**
+     * 지연 저장 큐를 (설정되어 있으면 최초 1회 생성하여) 반환합니다. 사용하지 않으면 null
+     */
+    private static synchronized WriteBehindQueue writeBehind() {
+        if (!writeBehindChecked) {
+            writeBehindChecked = true;
+            if (Boolean.getBoolean(WRITE_BEHIND_PROPERTY)) {
+                Path journal = Paths.get(System.getProperty(WRITE_BEHIND_JOURNAL_PROPERTY,
+                    Paths.get(System.getProperty("user.home"), ".calendarswing", "write-behind.journal").toString()));
+                try {
+                    writeBehind = new WriteBehindQueue(DatabaseManager.store(), journal, WRITE_BEHIND_MAX_BATCH, WRITE_BEHIND_LINGER_MS);
+                    writeBehind.setListener(new WriteBehindQueue.Listener() {
+                        @Override
+                        public void onCommitted(List<WriteBehindQueue.Pending> committed, List<Integer> ids, int remaining) {
+                            applyCommitted(committed, ids);
+                            WriteBehindQueue.Listener l = writeBehindListener;
+                            if (l != null) {
+                                l.onCommitted(committed, ids, remaining);
+                            }
+                        }
+
+                        @Override
+                        public void onFailed(WriteBehindQueue.Pending deadLetter, int remaining, int attempt, String message) {
+                            if (deadLetter != null) {
+                                monthCache.patchRemove(-deadLetter.getSeq()); // 저장되지 않을 임시 행 제거
+                            }
+                            WriteBehindQueue.Listener l = writeBehindListener;
+                            if (l != null) {
+                                l.onFailed(deadLetter, remaining, attempt, message);
+                            }
+                        }
+                    });
+                    // 커넥션 풀이 닫히기 전에 남은 거래를 저장 (DatabaseManager의 종료 훅에서 순서대로 실행)
+                    WriteBehindQueue queue = writeBehind;
+                    DatabaseManager.addPreShutdownTask(() -> queue.shutdown(WRITE_BEHIND_SHUTDOWN_MS));
+                } catch (IOException e) {
+                    System.err.println("지연 저장 저널을 열 수 없어 바로 저장합니다: " + journal + " (" + e.getMessage() + ")");
+                }
+            }
+        }
+        return writeBehind;
+    }
+
+    /**
+     * 지연 저장을 사용 중인지 확인합니다.
+     */
+    public static boolean isWriteBehind() {
+        return writeBehind() != null;
+    }
+
+    /**
+     * 지연 저장 결과(저장 완료/실패 재시도)를 받을 화면 콜백을 등록합니다. (쓰기 스레드에서 호출됨)
+     */
+    public static void setWriteBehindListener(WriteBehindQueue.Listener listener) {
+        writeBehindListener = listener;
+    }
+
+    /**
+     * DB에 저장된 거래의 임시 행(ID = -seq)을 캐시에서 실제 ID의 행으로 바꿉니다.
+     */
+    private static void applyCommitted(List<WriteBehindQueue.Pending> committed, List<Integer> ids) {
+        for (int i = 0; i < committed.size(); i++) {
+            monthCache.patchRemove(-committed.get(i).getSeq());
+            monthCache.patchAdd(withId(committed.get(i).getTransaction(), ids.get(i)));
+        }
+    }
+
     /**
      * [이름 변경] 새로운 거래 내역을 DB에 저장합니다. (Create)
+     * 월별 집계(monthly_summary)도 같은 DB 트랜잭션에서 함께 갱신합니다.
+     * 지연 저장을 사용하면 저널에 기록한 뒤 임시 ID(음수)로 캐시에 바로 반영하고, DB 저장은 백그라운드에서 묶어서 합니다.
      */
     public boolean addTransaction(Transaction transaction) {
-        String sql = "INSERT INTO transactions (user_id, date, type, amount, category, content) VALUES (?, ?, ?, ?, ?, ?)";
-        
-        // 🚨 [수정] getConnection() -> connect()
-        try (Connection conn = DatabaseManager.connect(); 
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
-            
-            // 🚨 [수정] Transaction.java 파일에 맞게 getter 사용
-            pstmt.setInt(1, transaction.getUserId());
-            pstmt.setString(2, transaction.getDate());
-            pstmt.setString(3, transaction.getType());
-            pstmt.setDouble(4, transaction.getAmount());
-            pstmt.setString(5, transaction.getCategory());
-            pstmt.setString(6, transaction.getContent());
-            
-            pstmt.executeUpdate();
-            return true;
-            
-        } catch (SQLException e) {
-            System.err.println("DB 거래 저장 오류: " + e.getMessage());
-            return false;
+        return saveTransaction(transaction) != null;
+    }
+
+    /**
+     * [신규 추가] addTransaction()과 같지만 저장된 거래(생성된 ID 포함)를 반환합니다. (실패 시 null)
+     * 화면이 다시 조회하지 않고 이 거래를 스냅샷에 바로 반영할 때 사용합니다.
+     * 지연 저장이면 임시 ID(음수), 저장소가 ID를 돌려주지 않으면 ID 0인 거래를 반환합니다.
+     */
+    public Transaction saveTransaction(Transaction transaction) {
+        WriteBehindQueue queue = writeBehind();
+        if (queue != null) {
+            try {
+                WriteBehindQueue.Pending pending = queue.enqueue(transaction);
+                Transaction provisional = withId(transaction, -pending.getSeq());
+                monthCache.patchAdd(provisional);
+                return provisional;
+            } catch (IOException e) {
+                System.err.println("지연 저장 저널 기록 오류, 바로 저장합니다: " + e.getMessage());
+            }
+        }
+
+        int generatedId = store.insertTransaction(transaction);
+        if (generatedId < 0) {
+            return null;
+        }
+
+        // 캐시된 달이면 생성된 ID를 붙여 캐시에 바로 반영 (다시 조회하지 않음)
+        Transaction saved = withId(transaction, generatedId);
+        if (generatedId > 0) {
+            monthCache.patchAdd(saved);
+        } else {
+            invalidateMonthOf(transaction);
         }
+        return saved;
+    }
+
+    private static Transaction withId(Transaction t, int transactionId) {
+        return new Transaction(transactionId, t.getUserId(), t.getDate(),
+            t.getType(), t.getAmount(), t.getCategory(), t.getContent());
+    }
+
+    /**
+     * [신규 추가] 여러 거래 내역을 한 번의 DB 트랜잭션으로 일괄 저장합니다. (Bulk Create, 월별 집계 포함)
+     * @param transactions 저장할 거래 내역 리스트
+     * @return 저장 순서대로 생성된 거래 ID 리스트 (실패 시 전체 롤백 후 빈 리스트)
+     */
+    public List<Integer> addTransactions(List<Transaction> transactions) {
+        if (transactions.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<Integer> generatedIds = store.insertTransactions(transactions);
+
+        // 대량 저장은 행마다 패치하지 않고 해당 월 캐시를 무효화
+        if (!generatedIds.isEmpty()) {
+            for (Transaction transaction : transactions) {
+                invalidateMonthOf(transaction);
+            }
+        }
+        return generatedIds;
+    }
+
+    /**
+     * 거래 날짜("yyyy-MM-dd")가 속한 달의 캐시를 무효화합니다.
+     */
+    private static void invalidateMonthOf(Transaction transaction) {
+        String date = transaction.getDate();
+        monthCache.invalidate(transaction.getUserId(),
+            Integer.parseInt(date.substring(0, 4)), Integer.parseInt(date.substring(5, 7)));
     }
 
     /**
      * [신규 추가] 특정 사용자의 특정 날짜(YYYY-MM-DD)에 해당하는 모든 거래 내역을 조회합니다.
+     * 해당 월을 캐시(없으면 월 단위로 1회 조회)에서 찾아 날짜로 걸러내므로, 날짜 클릭마다 DB를 조회하지 않습니다.
      */
     public List<Transaction> getTransactionsByDate(int userId, String date) {
         List<Transaction> transactions = new ArrayList<>();
-        String sql = "SELECT id, user_id, date, type, amount, category, content "
-                   + "FROM transactions "
-                   + "WHERE user_id = ? AND date = ? "
-                   + "ORDER BY id ASC";
-
-        // 🚨 [수정] getConnection() -> connect()
-        try (Connection conn = DatabaseManager.connect();
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
-            
-            pstmt.setInt(1, userId);
-            pstmt.setString(2, date);
-            
-            try (ResultSet rs = pstmt.executeQuery()) {
-                while (rs.next()) {
-                    // 🚨 [수정] Transaction.java의 ID 포함 생성자에 맞게 수정
-                    Transaction transaction = new Transaction(
-                        rs.getInt("id"), // "id"가 DB 컬럼명이라고 가정
-                        rs.getInt("user_id"),
-                        rs.getString("date"),
-                        rs.getString("type"),
-                        rs.getDouble("amount"),
-                        rs.getString("category"),
-                        rs.getString("content")
-                    );
-                    transactions.add(transaction);
-                }
+        LocalDate day;
+        try {
+            day = LocalDate.parse(date);
+        } catch (Exception e) {
+            System.err.println("특정 날짜 거래 조회 오류: 날짜 형식이 올바르지 않습니다: " + date);
+            return transactions;
+        }
+
+        // 월 조회 결과는 (날짜, ID) 순이므로 걸러낸 결과는 기존과 같이 ID 오름차순입니다.
+        for (Transaction t : findByMonthAndUser(userId, day.getYear(), day.getMonthValue())) {
+            if (t.getDate().equals(date)) {
+                transactions.add(t);
             }
-        } catch (SQLException e) {
-            System.err.println("특정 날짜 거래 조회 중 DB 오류: " + e.getMessage());
         }
         return transactions;
     }
@@ -78,169 +204,202 @@ public class TransactionDao {
      * [신규 추가] 거래 ID를 기준으로 특정 거래 내역 1건을 삭제합니다. (Delete)
      */
     public boolean deleteTransactionById(int transactionId) {
-        // 🚨 [수정] DB의 PK 컬럼이 'transactionId'가 아닌 'id'일 수 있음
-        // 🚨 만약 DB 컬럼명이 'transactionId'가 맞다면 "id = ?" 를 "transactionId = ?"로 변경하세요.
-        String sql = "DELETE FROM transactions WHERE id = ?";
-        
-        // 🚨 [수정] getConnection() -> connect()
-        try (Connection conn = DatabaseManager.connect();
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
-            
-            pstmt.setInt(1, transactionId);
-            
-            int affectedRows = pstmt.executeUpdate();
-            return affectedRows > 0;
-            
-        } catch (SQLException e) {
-            System.err.println("DB 거래 삭제 오류: " + e.getMessage());
-            return false;
+        if (transactionId < 0) {
+            // 지연 저장 대기 중인 임시 ID: 아직 저장 전이면 큐에서 취소, 이미 저장되었으면 실제 ID로 삭제
+            WriteBehindQueue queue = writeBehind();
+            if (queue == null) {
+                return false;
+            }
+            if (queue.cancel(-transactionId)) {
+                monthCache.patchRemove(transactionId);
+                return true;
+            }
+            transactionId = queue.resolvedId(-transactionId);
+            if (transactionId < 0) {
+                return false; // 저장 중 (잠시 후 다시 시도)
+            }
+        }
+        boolean deleted = store.deleteTransaction(transactionId);
+        if (deleted) {
+            monthCache.patchRemove(transactionId);
         }
+        return deleted;
     }
 
     /**
      * [기존 유지] 특정 사용자의 특정 월에 해당하는 모든 거래 내역을 조회합니다. (Read)
+     * 공유 월 캐시를 먼저 확인하며, 반환된 리스트는 수정할 수 없습니다.
+     * 지연 저장 대기 중인 거래도 임시 ID(음수)로 포함합니다. (캐시에 없던 달에 방금 저장한 거래)
      */
     public List<Transaction> findByMonthAndUser(int userId, int year, int month) {
-        List<Transaction> transactions = new ArrayList<>();
-        String monthPattern = String.format("%d-%02d-%%", year, month); 
-        String sql = "SELECT id, user_id, date, type, amount, category, content "
-                   + "FROM transactions "
-                   + "WHERE user_id = ? AND date LIKE ? "
-                   + "ORDER BY date ASC";
-        
-        // 🚨 [수정] getConnection() -> connect()
-        try (Connection conn = DatabaseManager.connect();
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
-            
-            pstmt.setInt(1, userId);
-            pstmt.setString(2, monthPattern);
-            
-            try (ResultSet rs = pstmt.executeQuery()) {
-                while (rs.next()) {
-                    // 🚨 [수정] Transaction.java의 ID 포함 생성자에 맞게 수정
-                    Transaction transaction = new Transaction(
-                        rs.getInt("id"),
-                        rs.getInt("user_id"),
-                        rs.getString("date"),
-                        rs.getString("type"),
-                        rs.getDouble("amount"),
-                        rs.getString("category"),
-                        rs.getString("content")
-                    );
-                    transactions.add(transaction);
-                }
-            }
-        } catch (SQLException e) {
-            System.err.println("월별 거래 조회 중 DB 오류 발생: " + e.getMessage());
+        List<Transaction> cached = monthCache.get(userId, year, month);
+        if (cached != null) {
+            return cached;
         }
-        return transactions;
+        long loadVersion = monthCache.beginLoad();
+        List<Transaction> loaded = store.findMonth(userId, year, month);
+        if (loaded == null) {
+            return new ArrayList<>(); // DB 오류는 캐시하지 않음
+        }
+        return monthCache.put(userId, year, month, withPending(loaded, userId, year, month), loadVersion);
     }
 
     /**
-     * [기존 유지] 그래프 기능을 위한 메서드 1: 월별 총 수입/지출 합계 조회
-     */
-    public Map<String, Double> getMonthlySummary(int userId, int year, int month) {
-        Map<String, Double> summary = new HashMap<>();
-        summary.put("수입", 0.0);
-        summary.put("지출", 0.0);
-        
-        String monthPattern = String.format("%d-%02d-%%", year, month);
-        
-        String sql = "SELECT type, SUM(amount) as total_amount "
-                   + "FROM transactions "
-                   + "WHERE user_id = ? AND date LIKE ? "
-                   + "GROUP BY type";
-        
-        // 🚨 [수정] getConnection() -> connect()
-        try (Connection conn = DatabaseManager.connect();
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
-            
-            pstmt.setInt(1, userId);
-            pstmt.setString(2, monthPattern);
-            
-            try (ResultSet rs = pstmt.executeQuery()) {
-                while (rs.next()) {
-                    summary.put(rs.getString("type"), rs.getDouble("total_amount"));
+     * 저장소에서 읽은 한 달치 거래에 지연 저장 대기 중인 그 달의 거래를 임시 행으로 더합니다.
+     * 같은 날짜에서는 저장된 거래 뒤에 놓아 patchAdd()와 같은 (날짜, ID) 순서를 유지합니다.
+     * 저장 직후(조회와 완료 콜백 사이)에 겹친 임시 행은 완료 콜백(applyCommitted)이 캐시에서 지웁니다.
+     */
+    private static List<Transaction> withPending(List<Transaction> loaded, int userId, int year, int month) {
+        WriteBehindQueue queue = writeBehind();
+        if (queue == null) {
+            return loaded;
+        }
+        String monthPrefix = String.format("%04d-%02d-", year, month);
+        List<Transaction> merged = null;
+        for (WriteBehindQueue.Pending pending : queue.getPending()) {
+            Transaction t = pending.getTransaction();
+            if (t.getUserId() == userId && t.getDate().startsWith(monthPrefix)) {
+                if (merged == null) {
+                    merged = new ArrayList<>(loaded);
                 }
+                merged.add(withId(t, -pending.getSeq()));
             }
-        } catch (SQLException e) {
-            System.err.println("월별 요약 조회 중 DB 오류 발생: " + e.getMessage());
         }
-        
+        if (merged == null) {
+            return loaded;
+        }
+        merged.sort((a, b) -> a.getDate().compareTo(b.getDate())); // 안정 정렬: 같은 날짜 안의 순서 유지
+        return merged;
+    }
+
+    /**
+     * [신규 추가] 한 달치 거래 내역과 일별/유형별/카테고리별 합계를 한 번에 반환합니다.
+     * 월 조회 1회(캐시되어 있으면 0회) + 메모리 1회 스캔으로 만들어지므로,
+     * 달을 열 때 findByMonthAndUser / getMonthlySummary를 따로 부를 필요가 없습니다.
+     */
+    public MonthSnapshot getMonthSnapshot(int userId, int year, int month) {
+        return MonthSnapshot.of(year, month, findByMonthAndUser(userId, year, month));
+    }
+
+    /**
+     * [신규 추가] [from, to) 구간에서 조건에 맞는 거래를 (날짜, ID) 순으로 한 페이지씩 읽는 커서를 엽니다. (캐시하지 않음)
+     * 전체 내역을 List로 만들지 않으므로, 여러 해의 내역을 내보내거나 분석할 때도 한 페이지만큼의 메모리만 사용합니다.
+     */
+    public TransactionCursor openCursor(int userId, LocalDate from, LocalDate to, TransactionFilter filter) {
+        return new TransactionCursor(store, userId, from, to, filter, TransactionCursor.DEFAULT_PAGE_SIZE);
+    }
+
+    /**
+     * [신규 추가] 구간의 거래를 순서대로 하나씩 action에 전달합니다.
+     * @return 끝까지 읽었으면 true, 중간에 DB 오류가 있었으면 false
+     */
+    public boolean forEachTransaction(int userId, LocalDate from, LocalDate to, TransactionFilter filter, Consumer<Transaction> action) {
+        TransactionCursor cursor = openCursor(userId, from, to, filter);
+        while (cursor.hasNext()) {
+            action.accept(cursor.next());
+        }
+        return !cursor.hasFailed();
+    }
+
+    /**
+     * [신규 추가] 구간의 거래를 Stream으로 반환합니다. (DB 오류로 중간에 끊기면 IllegalStateException)
+     */
+    public Stream<Transaction> streamTransactions(int userId, LocalDate from, LocalDate to, TransactionFilter filter) {
+        return openCursor(userId, from, to, filter).stream();
+    }
+
+    /**
+     * [수정] 그래프/목표 기능을 위한 월별 합계 조회: 유형별 총액과 유형 x 카테고리별 합계를 한 번에 반환합니다.
+     * (기존 getCategorySummary / getTypeCategorySummary를 통합, 금액은 Money 최소 단위)
+     * 캐시된 달이면 메모리에서, 아니면 저장소의 월별 집계에서 1회 조회로 읽습니다. (원본 거래 행을 훑지 않음)
+     */
+    public LedgerTotals getMonthlySummary(int userId, int year, int month) {
+        List<Transaction> cached = monthCache.get(userId, year, month);
+        if (cached == null) {
+            return store.getTypeCategoryTotals(userId, year, month);
+        }
+
+        // 캐시된 달이면 메모리에서 합산
+        LedgerTotals summary = new LedgerTotals();
+        CategoryRegistry registry = CategoryRegistry.get();
+        for (Transaction t : cached) {
+            summary.add(CategoryRegistry.typeCode(t.getType()), registry.findId(t.getType(), t.getCategory()), t.getAmount());
+        }
         return summary;
     }
 
     /**
-     * [기존 유지] 그래프 기능을 위한 메서드 2: 월별 카테고리별 합계 조회
-     */
-    public Map<String, Double> getCategorySummary(int userId, int year, int month, String type) {
-        Map<String, Double> categorySummary = new HashMap<>();
-        String monthPattern = String.format("%d-%02d-%%", year, month);
-        
-        String sql = "SELECT category, SUM(amount) as total_amount "
-                   + "FROM transactions "
-                   + "WHERE user_id = ? AND date LIKE ? AND type = ? "
-                   + "GROUP BY category "
-                   + "ORDER BY total_amount DESC";
-        
-        // 🚨 [수정] getConnection() -> connect()
-        try (Connection conn = DatabaseManager.connect();
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
-            
-            pstmt.setInt(1, userId);
-            pstmt.setString(2, monthPattern);
-            pstmt.setString(3, type);
-            
-            try (ResultSet rs = pstmt.executeQuery()) {
-                while (rs.next()) {
-                    categorySummary.put(rs.getString("category"), rs.getDouble("total_amount"));
-                }
-            }
-        } catch (SQLException e) {
-            System.err.println("카테고리 요약 조회 중 DB 오류 발생: " + e.getMessage());
-        }
-        
-        return categorySummary;
-    }
-
-    /**
-     * [신규 추가] 그래프 기능을 위한 메서드 3: 연간 월별 수입/지출 합계 조회
-     * @return Map<String, double[]> : "수입", "지출" 키로 12개월치(0=1월, 11=12월) 배열 반환
-     */
-    public Map<String, double[]> getYearlySummary(int userId, int year) {
-        Map<String, double[]> yearlyData = new HashMap<>();
-        // 12개월(인덱스 0~11) 배열을 0.0으로 초기화
-        yearlyData.put("수입", new double[12]);
-        yearlyData.put("지출", new double[12]);
-
-        // YEAR()와 MONTH() 함수는 MySQL에서 작동합니다.
-        String sql = "SELECT MONTH(date) as month, type, SUM(amount) as total_amount "
-                   + "FROM transactions "
-                   + "WHERE user_id = ? AND YEAR(date) = ? "
-                   + "GROUP BY MONTH(date), type";
-                   
-        try (Connection conn = DatabaseManager.connect();
-             PreparedStatement pstmt = conn.prepareStatement(sql)) {
-            
-            pstmt.setInt(1, userId);
-            pstmt.setInt(2, year);
-            
-            try (ResultSet rs = pstmt.executeQuery()) {
-                while (rs.next()) {
-                    int month = rs.getInt("month"); // 1~12
-                    String type = rs.getString("type");
-                    double total = rs.getDouble("total_amount");
-
-                    if (yearlyData.containsKey(type)) {
-                        // 월(1~12)을 배열 인덱스(0~11)로 변환
-                        yearlyData.get(type)[month - 1] = total; 
-                    }
-                }
-            }
-        } catch (SQLException e) {
-            System.err.println("연간 요약 조회 중 DB 오류 발생: " + e.getMessage());
+     * [신규 추가] 임의 구간 [from, to)의 일/주/월/분기/연 단위 합계를 한 번의 집계 조회로 반환합니다.
+     * 월/분기/연 단위이고 구간이 매월 1일로 나뉘어 있으면 월별 집계(monthly_summary)에서, 아니면 거래 원본을
+     * 일별로 묶어 읽습니다. 기간 수와 관계없이 조회는 1회입니다. (캐시하지 않음, 오류 시 null)
+     * @param groupBy CATEGORY면 카테고리별 합계도 함께 계산
+     */
+    public RangeSummary getRangeSummary(int userId, LocalDate from, LocalDate to,
+                                        RangeSummary.Granularity granularity, RangeSummary.GroupBy groupBy) {
+        RangeSummary summary = new RangeSummary(from, to, granularity, groupBy);
+        boolean byCategory = groupBy == RangeSummary.GroupBy.CATEGORY;
+        boolean monthAligned = granularity.isMonthAligned() && from.getDayOfMonth() == 1 && to.getDayOfMonth() == 1;
+
+        boolean loaded = monthAligned
+            ? store.sumByMonth(userId, from, to, byCategory, summary::add)
+            : store.sumByDay(userId, from, to, byCategory, summary::add);
+        return loaded ? summary : null;
+    }
+
+    /**
+     * [신규 추가] 그래프 기능을 위한 메서드 3: 연간 월별 수입/지출 합계 조회 (Money 최소 단위)
+     * @return [유형 번호(CategoryRegistry.TYPE_INCOME / TYPE_EXPENSE)][월 - 1] 배열 (0=1월, 11=12월)
+     */
+    public long[][] getYearlySummary(int userId, int year) {
+        return store.getYearlyTotals(userId, year);
+    }
+
+    // --- [비동기 버전] EDT에서 DB를 기다리지 않도록 가상 스레드에서 실행 (결과는 DbExecutor.EDT로 받기) ---
+
+    public CompletableFuture<Boolean> addTransactionAsync(Transaction transaction) {
+        if (isWriteBehind()) {
+            return CompletableFuture.completedFuture(addTransaction(transaction)); // 저널 기록만 하므로 바로 완료
         }
-        
-        return yearlyData;
+        return DbExecutor.supply(() -> addTransaction(transaction));
+    }
+
+    public CompletableFuture<Transaction> saveTransactionAsync(Transaction transaction) {
+        if (isWriteBehind()) {
+            return CompletableFuture.completedFuture(saveTransaction(transaction));
+        }
+        return DbExecutor.supply(() -> saveTransaction(transaction));
+    }
+
+    public CompletableFuture<List<Integer>> addTransactionsAsync(List<Transaction> transactions) {
+        return DbExecutor.supply(() -> addTransactions(transactions));
+    }
+
+    public CompletableFuture<List<Transaction>> getTransactionsByDateAsync(int userId, String date) {
+        return DbExecutor.supply(() -> getTransactionsByDate(userId, date));
+    }
+
+    public CompletableFuture<Boolean> deleteTransactionByIdAsync(int transactionId) {
+        return DbExecutor.supply(() -> deleteTransactionById(transactionId));
+    }
+
+    public CompletableFuture<List<Transaction>> findByMonthAndUserAsync(int userId, int year, int month) {
+        return DbExecutor.supply(() -> findByMonthAndUser(userId, year, month));
+    }
+
+    public CompletableFuture<MonthSnapshot> getMonthSnapshotAsync(int userId, int year, int month) {
+        return DbExecutor.supply(() -> getMonthSnapshot(userId, year, month));
+    }
+
+    public CompletableFuture<LedgerTotals> getMonthlySummaryAsync(int userId, int year, int month) {
+        return DbExecutor.supply(() -> getMonthlySummary(userId, year, month));
+    }
+
+    public CompletableFuture<RangeSummary> getRangeSummaryAsync(int userId, LocalDate from, LocalDate to,
+                                                                RangeSummary.Granularity granularity, RangeSummary.GroupBy groupBy) {
+        return DbExecutor.supply(() -> getRangeSummary(userId, from, to, granularity, groupBy));
+    }
+
+    public CompletableFuture<long[][]> getYearlySummaryAsync(int userId, int year) {
+        return DbExecutor.supply(() -> getYearlySummary(userId, year));
     }
 }
\ No newline at end of file
@@ -0,0 +1,52 @@
+/**
+ * 거래 내역 조회 조건 (유형, 카테고리, 금액 범위). 불변 객체이며 with...()로 조건을 추가한 새 객체를 만듭니다.
+ * 예) TransactionFilter.ALL.withType("지출").withAmountBetween(Money.parseMinor("10000"), Long.MAX_VALUE)
+ */
+public final class TransactionFilter {
+
+    // 조건 없음 (모든 거래)
+    public static final TransactionFilter ALL = new TransactionFilter(null, null, Long.MIN_VALUE, Long.MAX_VALUE);
+
+    private final String type;      // "수입" / "지출", null = 전체
+    private final String category;  // 카테고리 이름, null = 전체
+    private final long minAmount;   // 최소 금액 (포함, Money 최소 단위)
+    private final long maxAmount;   // 최대 금액 (포함, Money 최소 단위)
+
+    private TransactionFilter(String type, String category, long minAmount, long maxAmount) {
+        this.type = type;
+        this.category = category;
+        this.minAmount = minAmount;
+        this.maxAmount = maxAmount;
+    }
+
+    public TransactionFilter withType(String type) {
+        return new TransactionFilter(type, category, minAmount, maxAmount);
+    }
+
+    public TransactionFilter withCategory(String category) {
+        return new TransactionFilter(type, category, minAmount, maxAmount);
+    }
+
+    public TransactionFilter withAmountBetween(long minAmount, long maxAmount) {
+        return new TransactionFilter(type, category, minAmount, maxAmount);
+    }
+
+    // Getter 메서드
+    public String getType() { return type; }
+    public String getCategory() { return category; }
+    public long getMinAmount() { return minAmount; }
+    public long getMaxAmount() { return maxAmount; }
+
+    public boolean hasAmountRange() {
+        return minAmount != Long.MIN_VALUE || maxAmount != Long.MAX_VALUE;
+    }
+
+    /**
+     * 거래가 조건에 맞는지 확인합니다. (메모리 저장소용, MySQL은 같은 조건을 WHERE 절로 처리)
+     */
+    public boolean matches(Transaction t) {
+        return (type == null || type.equals(t.getType()))
+            && (category == null || category.equals(t.getCategory()))
+            && t.getAmount() >= minAmount && t.getAmount() <= maxAmount;
+    }
+}
@@ -0,0 +1,300 @@
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.awt.event.MouseWheelEvent;
+import java.text.NumberFormat;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 여러 해에 걸친 일별 수입/지출(+ 지출 상위 카테고리) 추이를 보여주는 선 그래프 패널입니다.
+ * 데이터는 TransactionDao.getRangeSummary(DAY) 한 번의 집계 조회 결과를 그대로 사용합니다.
+ *
+ * 10년치 일별 데이터(계열당 3,600여 점)를 그대로 그리지 않고, 보이는 구간만 LTTB로 화면 너비(픽셀 수)만큼의
+ * 점으로 줄여 그립니다. 줄인 결과는 보이는 구간 / 너비가 바뀔 때만 다시 계산합니다.
+ * - 마우스 휠: 커서 위치를 기준으로 확대/축소
+ * - 드래그: 좌우 이동
+ * - 더블클릭: 전체 구간 보기
+ */
+public class TrendChartPanel extends CachedChartPanel {
+
+    private static final int LEFT = 80;
+    private static final int RIGHT = 20;
+    private static final int TOP = 50;
+    private static final int BOTTOM = 40;
+    private static final int MIN_SPAN = 7;            // 최대로 확대했을 때 보이는 일 수
+    private static final int MAX_CATEGORY_SERIES = 3; // 함께 그리는 지출 상위 카테고리 수
+    private static final Color GRID_COLOR = new Color(230, 230, 230);
+    private static final Color[] CATEGORY_COLORS = {
+        Color.decode("#3CB371"), Color.decode("#FFA500"), Color.decode("#9370DB")
+    };
+    private static final Stroke TYPE_STROKE = new BasicStroke(1.5f);
+    private static final Stroke CATEGORY_STROKE = new BasicStroke(1f);
+
+    private final RangeSummary summary;
+    private final int total;              // 전체 일 수
+    private final long[][] series;        // [계열][일] (Money 최소 단위)
+    private final String[] names;
+    private final Color[] colors;
+
+    // 보이는 구간 [viewStart, viewEnd)
+    private int viewStart;
+    private int viewEnd;
+
+    // 보이는 구간을 줄인 결과 (구간 / 그래프 너비가 같으면 재사용)
+    private int sampledStart = -1;
+    private int sampledEnd = -1;
+    private int sampledWidth = -1;
+    private long visibleMax;
+    private final int[] counts;
+    private int[][] sampled = new int[0][]; // [계열][점] 원본 일 번호
+
+    private int dragX;
+    private int dragStart;
+
+    public TrendChartPanel(String title, RangeSummary summary) {
+        this.summary = summary;
+        this.total = summary.bucketCount();
+        setBorder(BorderFactory.createTitledBorder(title));
+
+        List<long[]> seriesList = new ArrayList<>();
+        List<String> nameList = new ArrayList<>();
+        List<Color> colorList = new ArrayList<>();
+        seriesList.add(summary.typeSeries(CategoryRegistry.TYPE_INCOME));
+        nameList.add("수입");
+        colorList.add(Color.BLUE);
+        seriesList.add(summary.typeSeries(CategoryRegistry.TYPE_EXPENSE));
+        nameList.add("지출");
+        colorList.add(Color.RED);
+        for (short categoryId : topExpenseCategories(summary)) {
+            seriesList.add(summary.categorySeries(categoryId));
+            nameList.add(CategoryRegistry.get().displayName(categoryId));
+            colorList.add(CATEGORY_COLORS[colorList.size() - 2]);
+        }
+        this.series = seriesList.toArray(new long[0][]);
+        this.names = nameList.toArray(new String[0]);
+        this.colors = colorList.toArray(new Color[0]);
+        this.counts = new int[series.length];
+
+        this.viewStart = 0;
+        this.viewEnd = total;
+
+        MouseAdapter mouse = new MouseAdapter() {
+            @Override
+            public void mousePressed(MouseEvent e) {
+                dragX = e.getX();
+                dragStart = viewStart;
+            }
+
+            @Override
+            public void mouseDragged(MouseEvent e) {
+                int plotWidth = getWidth() - LEFT - RIGHT;
+                if (plotWidth <= 0) {
+                    return;
+                }
+                int span = viewEnd - viewStart;
+                int shift = (int) Math.round((double) (dragX - e.getX()) * span / plotWidth);
+                setView(dragStart + shift, span);
+            }
+
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                if (e.getClickCount() == 2) {
+                    setView(0, total);
+                }
+            }
+
+            @Override
+            public void mouseWheelMoved(MouseWheelEvent e) {
+                zoom(e.getX(), e.getPreciseWheelRotation());
+            }
+        };
+        addMouseListener(mouse);
+        addMouseMotionListener(mouse);
+        addMouseWheelListener(mouse);
+    }
+
+    /**
+     * 지출 합계가 큰 카테고리 번호 (카테고리별로 묶은 합계가 아니면 없음)
+     */
+    private static List<Short> topExpenseCategories(RangeSummary summary) {
+        List<Short> top = new ArrayList<>();
+        List<Long> topTotals = new ArrayList<>();
+        CategoryRegistry registry = CategoryRegistry.get();
+        for (int id = 0; id < summary.categoryCapacity(); id++) {
+            long[] values = summary.categorySeries((short) id);
+            if (values == null || registry.typeOf((short) id) != CategoryRegistry.TYPE_EXPENSE) {
+                continue;
+            }
+            long sum = 0;
+            for (long value : values) {
+                sum += value;
+            }
+            int position = 0;
+            while (position < top.size() && topTotals.get(position) >= sum) {
+                position++;
+            }
+            if (sum > 0 && position < MAX_CATEGORY_SERIES) {
+                top.add(position, (short) id);
+                topTotals.add(position, sum);
+                if (top.size() > MAX_CATEGORY_SERIES) {
+                    top.remove(MAX_CATEGORY_SERIES);
+                    topTotals.remove(MAX_CATEGORY_SERIES);
+                }
+            }
+        }
+        return top;
+    }
+
+    /**
+     * 커서 위치를 기준으로 확대(rotation < 0) / 축소(rotation > 0)합니다.
+     */
+    private void zoom(int mouseX, double rotation) {
+        int plotWidth = getWidth() - LEFT - RIGHT;
+        if (plotWidth <= 0 || rotation == 0) {
+            return;
+        }
+        int span = viewEnd - viewStart;
+        double anchorRatio = Math.min(1, Math.max(0, (double) (mouseX - LEFT) / plotWidth));
+        double anchor = viewStart + anchorRatio * span;
+        int newSpan = (int) Math.round(span * Math.pow(1.25, rotation));
+        newSpan = Math.max(Math.min(MIN_SPAN, total), Math.min(total, newSpan));
+        setView((int) Math.round(anchor - anchorRatio * newSpan), newSpan);
+    }
+
+    /**
+     * 보이는 구간을 바꿉니다. (전체 범위 안으로 맞춤, 바뀌었을 때만 다시 그림)
+     */
+    private void setView(int start, int span) {
+        start = Math.max(0, Math.min(total - span, start));
+        if (start == viewStart && start + span == viewEnd) {
+            return;
+        }
+        viewStart = start;
+        viewEnd = start + span;
+        invalidateChart();
+    }
+
+    /**
+     * 보이는 구간의 각 계열을 LTTB로 plotWidth개 정도의 점으로 줄이고, Y축 최대값을 구합니다.
+     */
+    private void resample(int plotWidth) {
+        if (viewStart == sampledStart && viewEnd == sampledEnd && plotWidth == sampledWidth) {
+            return;
+        }
+        int threshold = Math.max(3, plotWidth);
+        int capacity = Math.min(viewEnd - viewStart, threshold);
+        if (sampled.length != series.length || sampled.length == 0 || sampled[0].length < capacity) {
+            sampled = new int[series.length][capacity];
+        }
+        long max = 0;
+        for (int s = 0; s < series.length; s++) {
+            long[] values = series[s];
+            for (int i = viewStart; i < viewEnd; i++) {
+                max = Math.max(max, values[i]);
+            }
+            counts[s] = Lttb.downsample(values, viewStart, viewEnd, threshold, sampled[s]);
+        }
+        visibleMax = max;
+        sampledStart = viewStart;
+        sampledEnd = viewEnd;
+        sampledWidth = plotWidth;
+    }
+
+    @Override
+    protected void paintChart(Graphics2D g2d, int width, int height) {
+        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        int plotWidth = width - LEFT - RIGHT;
+        int plotHeight = height - TOP - BOTTOM;
+        if (total == 0 || plotWidth <= 10 || plotHeight <= 10) {
+            return;
+        }
+        resample(plotWidth);
+
+        int x0 = LEFT;
+        int y0 = TOP + plotHeight; // Y=0 (바닥) 지점
+        double maxWon = Math.max(1, niceCeiling(Money.toWon(visibleMax)));
+
+        // 1. Y축 눈금 (보이는 구간의 최대값 기준 5칸)
+        NumberFormat nf = NumberFormat.getNumberInstance(Locale.KOREA);
+        FontMetrics metrics = g2d.getFontMetrics();
+        for (int i = 0; i <= 5; i++) {
+            int y = y0 - i * plotHeight / 5;
+            g2d.setColor(GRID_COLOR);
+            g2d.drawLine(x0, y, x0 + plotWidth, y);
+            g2d.setColor(Color.BLACK);
+            String label = nf.format(maxWon * i / 5);
+            g2d.drawString(label, x0 - 8 - metrics.stringWidth(label), y + metrics.getAscent() / 2);
+        }
+
+        // 2. X축 날짜 눈금 (약 100픽셀마다, 짧은 구간이면 일 단위까지 표시)
+        int span = viewEnd - viewStart;
+        int tickCount = Math.max(1, plotWidth / 100);
+        boolean showDay = span <= 120;
+        for (int i = 0; i <= tickCount; i++) {
+            int day = viewStart + (int) ((long) (span - 1) * i / tickCount);
+            int x = xOf(day, x0, plotWidth);
+            g2d.setColor(GRID_COLOR);
+            g2d.drawLine(x, TOP, x, y0);
+            g2d.setColor(Color.BLACK);
+            LocalDate date = summary.bucketStart(day);
+            String label = showDay ? date.toString() : date.toString().substring(0, 7);
+            int labelWidth = metrics.stringWidth(label);
+            int labelX = Math.min(width - RIGHT / 2 - labelWidth, x - labelWidth / 2); // 마지막 레이블이 잘리지 않게
+            g2d.drawString(label, labelX, y0 + 18);
+        }
+        g2d.setColor(Color.LIGHT_GRAY);
+        g2d.drawLine(x0, y0, x0 + plotWidth, y0);
+        g2d.drawLine(x0, y0, x0, TOP);
+
+        // 3. 계열 (카테고리 먼저, 수입/지출을 위에)
+        int[] xs = new int[sampled.length == 0 ? 0 : sampled[0].length];
+        int[] ys = new int[xs.length];
+        for (int s = series.length - 1; s >= 0; s--) {
+            int[] indices = sampled[s];
+            for (int i = 0; i < counts[s]; i++) {
+                xs[i] = xOf(indices[i], x0, plotWidth);
+                ys[i] = y0 - (int) (Money.toWon(series[s][indices[i]]) / maxWon * plotHeight);
+            }
+            g2d.setColor(colors[s]);
+            g2d.setStroke(s < 2 ? TYPE_STROKE : CATEGORY_STROKE);
+            g2d.drawPolyline(xs, ys, counts[s]);
+        }
+        g2d.setStroke(new BasicStroke());
+
+        // 4. 범례와 보이는 범위
+        int legendX = x0;
+        for (int s = 0; s < series.length; s++) {
+            g2d.setColor(colors[s]);
+            g2d.fillRect(legendX, TOP - 30, 10, 10);
+            g2d.setColor(Color.BLACK);
+            g2d.drawString(names[s], legendX + 14, TOP - 20);
+            legendX += 24 + metrics.stringWidth(names[s]);
+        }
+        String range = summary.bucketStart(viewStart) + " ~ " + summary.bucketStart(viewEnd - 1)
+            + "  (휠: 확대/축소, 드래그: 이동, 더블클릭: 전체)";
+        g2d.setColor(Color.GRAY);
+        g2d.drawString(range, x0 + plotWidth - metrics.stringWidth(range), TOP - 20);
+    }
+
+    private int xOf(int day, int x0, int plotWidth) {
+        int span = viewEnd - viewStart;
+        return (span <= 1) ? x0 : x0 + (int) ((long) (day - viewStart) * plotWidth / (span - 1));
+    }
+
+    /**
+     * 1, 2, 5 x 10^n 중 value 이상인 가장 작은 값 (Y축 최대값을 보기 좋게)
+     */
+    private static double niceCeiling(double value) {
+        if (value <= 0) {
+            return 0;
+        }
+        double magnitude = Math.pow(10, Math.floor(Math.log10(value)));
+        double fraction = value / magnitude;
+        double nice = (fraction <= 1) ? 1 : (fraction <= 2) ? 2 : (fraction <= 5) ? 5 : 10;
+        return nice * magnitude;
+    }
+}
@@ -0,0 +1,551 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 거래 추가를 지연 저장(write-behind)하는 큐입니다. (TransactionDao, -Dledger.writeBehind=true 일 때 사용)
+ *
+ * enqueue()는 거래를 로컬 저널 파일(추가 전용)에 한 줄 기록하고 메모리 큐에 넣은 뒤 바로 반환하므로,
+ * 화면은 DB INSERT를 기다리지 않습니다. 백그라운드 쓰기 스레드가 큐에 모인 거래를 최대 maxBatch건씩
+ * 묶어 저널을 fsync한 뒤 LedgerStore.insertTransactions()로 한 번의 DB 트랜잭션에 저장합니다. (group commit)
+ *
+ * - 저장에 실패하면 거래를 버리지 않고 큐 앞에 둔 채 점점 긴 간격으로 재시도합니다.
+ *   실패한 묶음은 1건씩 나누어 재시도하여, 문제가 있는 거래가 다른 거래를 막는 시간을 줄입니다.
+ * - 1건만 저장해도 MAX_SINGLE_ATTEMPTS번 실패하는데 저장소에는 접근할 수 있으면(일시 장애가 아님) 그 거래를
+ *   실패 저널(저널 경로 + ".failed", 같은 형식)로 옮기고 Listener.onFailed로 알린 뒤 나머지 거래를 계속 저장합니다.
+ * - 저장된 거래는 저널에 완료 표시를 남기고, 큐가 비면 저널을 비웁니다.
+ * - 앱이 저장 전에 종료되면 다음 시작 시 저널에서 남은 거래를 다시 큐에 넣습니다.
+ *   (DB 저장 직후 완료 표시 전에 종료된 경우에는 같은 거래가 한 번 더 저장될 수 있음)
+ */
+public class WriteBehindQueue {
+
+    /**
+     * 저장 결과를 받는 콜백 (쓰기 스레드에서 호출됨, 화면 갱신은 EDT로 넘겨야 함)
+     */
+    public interface Listener {
+        /** 거래들이 DB에 저장됨 (committed와 ids는 같은 순서) */
+        void onCommitted(List<Pending> committed, List<Integer> ids, int remaining);
+
+        /**
+         * 저장 실패. deadLetter가 null이면 큐에 남아 재시도 예정,
+         * null이 아니면 그 거래를 큐에서 빼고 실패 저널로 옮겼음 (다시 저장하지 않음)
+         */
+        void onFailed(Pending deadLetter, int remaining, int attempt, String message);
+    }
+
+    /**
+     * 저장 대기 중인 거래 1건. seq는 큐 안에서의 일련번호입니다. (임시 ID = -seq)
+     */
+    public static final class Pending {
+        final int seq;
+        final Transaction transaction;
+        boolean inFlight; // 쓰기 스레드가 저장 중 (취소 불가)
+        int failures;     // 1건만 저장하다 실패한 횟수 (쓰기 스레드만 사용)
+
+        Pending(int seq, Transaction transaction) {
+            this.seq = seq;
+            this.transaction = transaction;
+        }
+
+        public int getSeq() { return seq; }
+        public Transaction getTransaction() { return transaction; }
+    }
+
+    private static final long MIN_RETRY_MILLIS = 500;
+    private static final long MAX_RETRY_MILLIS = 30000;
+    private static final int MAX_SINGLE_ATTEMPTS = 3;  // 이만큼 실패한 거래는 실패 저널로 옮김 (저장소 장애가 아닐 때)
+    private static final int RESOLVED_HISTORY = 1000; // 임시 ID -> 실제 ID 기록 보관 수
+
+    private final LedgerStore store;
+    private final int maxBatch;
+    private final long lingerMillis;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition drained = lock.newCondition();
+    private final ArrayDeque<Pending> queue = new ArrayDeque<>();
+    private final Map<Integer, Integer> resolved = new LinkedHashMap<Integer, Integer>() { // seq -> 실제 거래 ID
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, Integer> eldest) {
+            return size() > RESOLVED_HISTORY;
+        }
+    };
+    private final FileChannel journal;
+    private final Path deadLetterPath;
+    private int nextSeq = 1;
+    private volatile Listener listener;
+    private volatile boolean running = true;
+    private final Thread writer;
+
+    /**
+     * 저널을 열고(남은 거래가 있으면 다시 큐에 넣음) 쓰기 스레드를 시작합니다.
+     * @param lingerMillis 첫 거래가 들어온 뒤 묶음을 채우기 위해 기다리는 최대 시간
+     */
+    public WriteBehindQueue(LedgerStore store, Path journalPath, int maxBatch, long lingerMillis) throws IOException {
+        this.store = store;
+        this.maxBatch = maxBatch;
+        this.lingerMillis = lingerMillis;
+        this.deadLetterPath = journalPath.resolveSibling(journalPath.getFileName() + ".failed");
+
+        if (journalPath.getParent() != null) {
+            Files.createDirectories(journalPath.getParent());
+        }
+        List<Transaction> recovered = readJournal(journalPath);
+        StringBuilder compacted = new StringBuilder(recovered.size() * 96);
+        for (Transaction t : recovered) {
+            Pending pending = new Pending(nextSeq++, t);
+            queue.addLast(pending);
+            compacted.append(formatLine(pending));
+        }
+        if (Files.exists(journalPath)) {
+            replaceJournal(journalPath, compacted);
+        }
+        this.journal = FileChannel.open(journalPath,
+            StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        if (!recovered.isEmpty()) {
+            System.err.println("[WriteBehind] 저장되지 않은 거래 " + recovered.size() + "건을 저널에서 복구했습니다.");
+        }
+
+        this.writer = new Thread(this::writeLoop, "write-behind-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    public void setListener(Listener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * 거래를 저널에 기록하고 큐에 넣습니다. (DB 저장은 쓰기 스레드가 나중에 수행)
+     * @return 대기 항목 (임시 ID = -seq)
+     * @throws IOException 저널 기록 실패 (이 경우 큐에 넣지 않음)
+     */
+    public Pending enqueue(Transaction transaction) throws IOException {
+        lock.lock();
+        try {
+            if (!running) {
+                throw new IOException("지연 저장 큐가 이미 종료되었습니다.");
+            }
+            Pending pending = append(transaction);
+            queue.addLast(pending);
+            notEmpty.signal();
+            return pending;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 아직 저장을 시작하지 않은 거래를 큐에서 뺍니다.
+     * @return 취소했으면 true (저장 중이거나 이미 저장되었으면 false)
+     */
+    public boolean cancel(int seq) {
+        lock.lock();
+        try {
+            Iterator<Pending> it = queue.iterator();
+            while (it.hasNext()) {
+                Pending pending = it.next();
+                if (pending.seq == seq) {
+                    if (pending.inFlight) {
+                        return false;
+                    }
+                    it.remove();
+                    markDone(List.of(pending));
+                    return true;
+                }
+            }
+            return false;
+        } catch (IOException e) {
+            System.err.println("[WriteBehind] 저널 기록 오류: " + e.getMessage());
+            return true; // 큐에서는 빠짐 (다음 시작 시 복구되면 다시 저장될 수 있음)
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 저장이 끝난 대기 항목의 실제 거래 ID (모르면 -1)
+     */
+    public int resolvedId(int seq) {
+        lock.lock();
+        try {
+            Integer id = resolved.get(seq);
+            return (id != null) ? id : -1;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 아직 DB 저장이 끝나지 않은 대기 항목 목록 (큐 순서, 저장 중인 항목 포함, 복사본)
+     */
+    public List<Pending> getPending() {
+        lock.lock();
+        try {
+            return new ArrayList<>(queue);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getPendingCount() {
+        lock.lock();
+        try {
+            return queue.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 큐가 빌 때까지 최대 timeoutMillis 동안 기다립니다. (앱 종료 시 등)
+     * @return 모두 저장되었으면 true
+     */
+    public boolean flush(long timeoutMillis) {
+        lock.lock();
+        try {
+            long remaining = TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+            while (!queue.isEmpty() && remaining > 0) {
+                notEmpty.signal();
+                remaining = drained.awaitNanos(remaining);
+            }
+            return queue.isEmpty();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return queue.isEmpty();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 쓰기 스레드를 멈추고 저널을 닫습니다. 저장하지 못한 거래는 저널에 남아 다음 시작 시 복구됩니다.
+     */
+    public void shutdown(long flushTimeoutMillis) {
+        flush(flushTimeoutMillis);
+        lock.lock();
+        try {
+            running = false;
+            notEmpty.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        writer.interrupt();
+        try {
+            writer.join(flushTimeoutMillis);
+            journal.close();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            System.err.println("[WriteBehind] 저널 닫기 오류: " + e.getMessage());
+        }
+    }
+
+    // --- 쓰기 스레드 ---
+
+    private void writeLoop() {
+        int attempt = 0;
+        while (running) {
+            List<Pending> batch;
+            try {
+                batch = takeBatch(attempt == 0 ? maxBatch : 1);
+            } catch (InterruptedException e) {
+                return;
+            }
+            if (batch.isEmpty()) {
+                continue;
+            }
+
+            List<Transaction> transactions = new ArrayList<>(batch.size());
+            for (Pending pending : batch) {
+                transactions.add(pending.transaction);
+            }
+            List<Integer> ids;
+            try {
+                lock.lock();
+                try {
+                    journal.force(false); // DB에 쓰기 전에 저널을 디스크에 (묶음당 1회)
+                } finally {
+                    lock.unlock();
+                }
+                ids = store.insertTransactions(transactions);
+            } catch (IOException | RuntimeException e) {
+                System.err.println("[WriteBehind] 저장 중 오류: " + e.getMessage());
+                ids = List.of();
+            }
+
+            if (ids.size() == batch.size()) {
+                attempt = 0;
+                int remaining = complete(batch, ids);
+                Listener l = listener;
+                if (l != null) {
+                    l.onCommitted(batch, ids, remaining);
+                }
+                continue;
+            }
+
+            attempt++;
+            Pending poison = batch.get(0);
+            if (batch.size() == 1 && ++poison.failures >= MAX_SINGLE_ATTEMPTS && store.isAvailable()) {
+                // 저장소는 정상인데 이 거래만 계속 실패 -> 실패 저널로 옮기고 나머지 거래를 계속 저장
+                int remaining = deadLetter(poison);
+                if (remaining >= 0) {
+                    attempt = 0;
+                    String message = "거래 1건을 " + poison.failures + "회 저장하지 못해 실패 저널로 옮겼습니다: "
+                        + deadLetterPath + " (대기 " + remaining + "건)";
+                    System.err.println("[WriteBehind] " + message);
+                    Listener l = listener;
+                    if (l != null) {
+                        l.onFailed(poison, remaining, poison.failures, message);
+                    }
+                    continue;
+                }
+            }
+            int remaining = release(batch);
+            String message = "거래 " + batch.size() + "건 저장 실패 (재시도 " + attempt + "회째, 대기 " + remaining + "건)";
+            System.err.println("[WriteBehind] " + message);
+            Listener l = listener;
+            if (l != null) {
+                l.onFailed(null, remaining, attempt, message);
+            }
+            try {
+                Thread.sleep(Math.min(MAX_RETRY_MILLIS, MIN_RETRY_MILLIS << Math.min(attempt - 1, 16)));
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 큐 앞에서 최대 limit건을 꺼내 저장 중으로 표시합니다. (첫 건이 들어온 뒤 lingerMillis까지 더 모음)
+     */
+    private List<Pending> takeBatch(int limit) throws InterruptedException {
+        lock.lock();
+        try {
+            while (queue.isEmpty() && running) {
+                notEmpty.await();
+            }
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(lingerMillis);
+            long wait;
+            while (queue.size() < limit && running && (wait = deadline - System.nanoTime()) > 0) {
+                notEmpty.awaitNanos(wait);
+            }
+            List<Pending> batch = new ArrayList<>(Math.min(limit, queue.size()));
+            for (Pending pending : queue) {
+                if (batch.size() == limit) {
+                    break;
+                }
+                pending.inFlight = true;
+                batch.add(pending);
+            }
+            return batch;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 저장된 묶음을 큐에서 빼고 완료 표시를 기록합니다.
+     * @return 남은 대기 건수
+     */
+    private int complete(List<Pending> batch, List<Integer> ids) {
+        lock.lock();
+        try {
+            for (int i = 0; i < batch.size(); i++) {
+                queue.remove(batch.get(i));
+                resolved.put(batch.get(i).seq, ids.get(i));
+            }
+            try {
+                markDone(batch);
+            } catch (IOException e) {
+                System.err.println("[WriteBehind] 저널 기록 오류: " + e.getMessage());
+            }
+            if (queue.isEmpty()) {
+                drained.signalAll();
+            }
+            return queue.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 계속 저장에 실패하는 거래를 실패 저널에 기록(fsync)하고 큐에서 뺍니다.
+     * @return 남은 대기 건수 (실패 저널에 쓰지 못하면 -1, 이때는 큐에 남겨 재시도)
+     */
+    private int deadLetter(Pending pending) {
+        lock.lock();
+        try {
+            try (FileChannel failed = FileChannel.open(deadLetterPath,
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+                writeFully(failed, formatLine(pending));
+                failed.force(false);
+            } catch (IOException e) {
+                System.err.println("[WriteBehind] 실패 저널 기록 오류: " + e.getMessage());
+                return -1;
+            }
+            queue.remove(pending);
+            try {
+                markDone(List.of(pending));
+            } catch (IOException e) {
+                System.err.println("[WriteBehind] 저널 기록 오류: " + e.getMessage());
+            }
+            if (queue.isEmpty()) {
+                drained.signalAll();
+            }
+            return queue.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 저장에 실패한 묶음을 다시 대기 상태로 돌립니다.
+     */
+    private int release(List<Pending> batch) {
+        lock.lock();
+        try {
+            for (Pending pending : batch) {
+                pending.inFlight = false;
+            }
+            return queue.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // --- 저널 (lock을 잡은 상태에서만 호출) ---
+    // 형식: 추가 "A<TAB>seq<TAB>userId<TAB>date<TAB>type<TAB>amount<TAB>category<TAB>content", 완료/취소 "D<TAB>seq"
+
+    private Pending append(Transaction t) throws IOException {
+        Pending pending = new Pending(nextSeq++, t);
+        write(formatLine(pending));
+        return pending;
+    }
+
+    private static StringBuilder formatLine(Pending pending) {
+        Transaction t = pending.transaction;
+        StringBuilder line = new StringBuilder(96);
+        line.append('A').append('\t').append(pending.seq)
+            .append('\t').append(t.getUserId())
+            .append('\t').append(t.getDate())
+            .append('\t').append(escape(t.getType()))
+            .append('\t').append(t.getAmount())
+            .append('\t').append(escape(t.getCategory()))
+            .append('\t').append(escape(t.getContent()))
+            .append('\n');
+        return line;
+    }
+
+    private void markDone(List<Pending> done) throws IOException {
+        if (queue.isEmpty()) {
+            journal.truncate(0); // 모두 저장됨 -> 저널 비우기
+            return;
+        }
+        StringBuilder lines = new StringBuilder(done.size() * 12);
+        for (Pending pending : done) {
+            lines.append('D').append('\t').append(pending.seq).append('\n');
+        }
+        write(lines);
+    }
+
+    private void write(CharSequence text) throws IOException {
+        writeFully(journal, text);
+    }
+
+    private static void writeFully(FileChannel channel, CharSequence text) throws IOException {
+        ByteBuffer buffer = StandardCharsets.UTF_8.encode(text.toString());
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    /**
+     * 저널을 남은 거래만 담은 내용으로 바꿉니다. (시작 시 복구 후 1회)
+     * 임시 파일에 쓰고 fsync한 뒤 원자적으로 교체하므로, 도중에 종료되어도 기존 저널 또는 새 저널 중 하나가 온전히 남습니다.
+     */
+    private static void replaceJournal(Path path, CharSequence content) throws IOException {
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileChannel out = FileChannel.open(temp,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            writeFully(out, content);
+            out.force(true);
+        }
+        Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * 저널에서 완료 표시가 없는 거래를 기록 순서대로 읽습니다. (깨진 줄은 건너뜀)
+     */
+    private static List<Transaction> readJournal(Path path) throws IOException {
+        if (!Files.exists(path)) {
+            return new ArrayList<>();
+        }
+        TreeMap<Integer, Transaction> pending = new TreeMap<>();
+        for (String line : Files.readAllLines(path, StandardCharsets.UTF_8)) {
+            String[] f = line.split("\t", -1);
+            try {
+                if (f.length == 8 && f[0].equals("A")) {
+                    pending.put(Integer.parseInt(f[1]), new Transaction(Integer.parseInt(f[2]), f[3],
+                        unescape(f[4]), Long.parseLong(f[5]), unescape(f[6]), unescape(f[7])));
+                } else if (f.length == 2 && f[0].equals("D")) {
+                    pending.remove(Integer.parseInt(f[1]));
+                }
+            } catch (NumberFormatException e) {
+                System.err.println("[WriteBehind] 저널의 잘못된 줄을 건너뜁니다: " + line);
+            }
+        }
+        return new ArrayList<>(pending.values());
+    }
+
+    // 탭/줄바꿈/역슬래시를 이스케이프 (null은 "\0")
+    private static String escape(String s) {
+        if (s == null) {
+            return "\\0";
+        }
+        StringBuilder sb = new StringBuilder(s.length());
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            switch (c) {
+                case '\\': sb.append("\\\\"); break;
+                case '\t': sb.append("\\t"); break;
+                case '\n': sb.append("\\n"); break;
+                case '\r': sb.append("\\r"); break;
+                default: sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    private static String unescape(String s) {
+        if (s.equals("\\0")) {
+            return null;
+        }
+        StringBuilder sb = new StringBuilder(s.length());
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c == '\\' && i + 1 < s.length()) {
+                char next = s.charAt(++i);
+                sb.append(next == 't' ? '\t' : next == 'n' ? '\n' : next == 'r' ? '\r' : next);
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+}
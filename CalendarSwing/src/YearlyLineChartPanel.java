@@ -1,55 +1,73 @@
 import javax.swing.*;
 import javax.swing.border.TitledBorder;
 import java.awt.*;
-import java.util.Map;
 import java.util.Locale;
 import java.text.NumberFormat;
 
 /**
  * [수정된 클래스] 1년치 수입/지출 추이를 보여주는 선 그래프 패널
  * (50만원 단위 Y축 눈금 추가)
+ * 최대값 / 눈금 레이블은 생성 시 한 번만 계산하고, 그림은 CachedChartPanel의 이미지에 캐시됩니다.
  */
-public class YearlyLineChartPanel extends JPanel {
-    private final String title;
-    private final Map<String, double[]> data; // "수입" / "지출" 키로 12개월치 배열
-    private final NumberFormat nf = NumberFormat.getNumberInstance(Locale.KOREA);
+public class YearlyLineChartPanel extends CachedChartPanel {
+    private static final Color TICK_COLOR = new Color(230, 230, 230); // 기존 LIGHT_GRAY보다 연하게
+    private static final Stroke LINE_STROKE = new BasicStroke(2);
+    private static final double TICK_AMOUNT = 500000; // 50만원
+    private static final String[] MONTH_LABELS = new String[12];
 
-    public YearlyLineChartPanel(String title, Map<String, double[]> data) {
-        this.title = title;
-        this.data = data;
-        setBorder(BorderFactory.createTitledBorder(title));
+    static {
+        for (int i = 0; i < 12; i++) {
+            MONTH_LABELS[i] = (i + 1) + "월";
+        }
     }
 
-    @Override
-    protected void paintComponent(Graphics g) {
-        super.paintComponent(g);
-        Graphics2D g2d = (Graphics2D) g;
-        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+    private final String title;
+    // 좌표 계산용으로만 원 단위 double로 변환 (합계 자체는 정확한 정수)
+    private final double[] incomes = new double[12];
+    private final double[] expenses = new double[12];
+    private final double maxAmount;      // 50만의 배수로 올린 Y축 최대값 (0이면 데이터 없음)
+    private final String[] tickLabels;   // Y축 눈금 레이블 (500,000, 1,000,000 ...)
 
-        double[] incomes = data.getOrDefault("수입", new double[12]);
-        double[] expenses = data.getOrDefault("지출", new double[12]);
+    public YearlyLineChartPanel(String title, long[][] data) { // data: [유형 번호][월 - 1] 12개월치 합계 (Money 최소 단위)
+        this.title = title;
+        setBorder(BorderFactory.createTitledBorder(title));
 
         // 1. 최대값 찾기 (Y축 스케일용)
-        double maxAmount = 0;
+        double max = 0;
         for (int i = 0; i < 12; i++) {
-            maxAmount = Math.max(maxAmount, incomes[i]);
-            maxAmount = Math.max(maxAmount, expenses[i]);
+            incomes[i] = Money.toWon(data[CategoryRegistry.TYPE_INCOME][i]);
+            expenses[i] = Money.toWon(data[CategoryRegistry.TYPE_EXPENSE][i]);
+            max = Math.max(max, incomes[i]);
+            max = Math.max(max, expenses[i]);
         }
 
         // 🚨 [수정] 최대값을 50만의 배수로 올림 (그래프가 꽉 차게)
-        if (maxAmount > 0) {
-            maxAmount = Math.ceil(maxAmount / 500000) * 500000;
+        if (max > 0) {
+            max = Math.ceil(max / TICK_AMOUNT) * TICK_AMOUNT;
+        }
+        this.maxAmount = max;
+
+        NumberFormat nf = NumberFormat.getNumberInstance(Locale.KOREA);
+        int tickCount = (max > 0) ? (int) (max / TICK_AMOUNT) : 0;
+        this.tickLabels = new String[tickCount];
+        for (int i = 0; i < tickCount; i++) {
+            tickLabels[i] = nf.format(TICK_AMOUNT * (i + 1));
         }
+    }
+
+    @Override
+    protected void paintChart(Graphics2D g2d, int width, int height) {
+        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
 
         if (maxAmount <= 0) {
-            g.drawString("연간 데이터가 없습니다.", getWidth() / 2 - 50, getHeight() / 2);
+            g2d.drawString("연간 데이터가 없습니다.", width / 2 - 50, height / 2);
             return;
         }
 
         // 2. 차트 영역 및 패딩 설정
         int padding = 50;
-        int chartWidth = getWidth() - 2 * padding;
-        int chartHeight = getHeight() - 2 * padding;
+        int chartWidth = width - 2 * padding;
+        int chartHeight = height - 2 * padding;
         int x0 = padding;
         int y0 = padding + chartHeight; // Y=0 (바닥) 지점
 
@@ -61,7 +79,7 @@ public class YearlyLineChartPanel extends JPanel {
         g2d.setColor(Color.BLACK);
         for (int i = 0; i < 12; i++) {
             int x = x0 + (i * chartWidth) / 11; // 11개 구간
-            g2d.drawString((i + 1) + "월", x - 10, y0 + 20);
+            g2d.drawString(MONTH_LABELS[i], x - 10, y0 + 20);
             g2d.setColor(Color.LIGHT_GRAY);
             g2d.drawLine(x, y0, x, padding); // 월별 세로선
             g2d.setColor(Color.BLACK);
@@ -71,18 +89,17 @@ public class YearlyLineChartPanel extends JPanel {
         g2d.setColor(Color.BLACK);
         g2d.drawString("0", x0 - padding + 5, y0); // 0원
         
-        double tickAmount = 500000; // 50만원
-        
-        for (double currentTick = tickAmount; currentTick <= maxAmount; currentTick += tickAmount) {
+        for (int i = 0; i < tickLabels.length; i++) {
+            double currentTick = TICK_AMOUNT * (i + 1);
             int y = y0 - (int) ((currentTick / maxAmount) * chartHeight);
             
             // Y축 레이블 (500,000, 1,000,000 ...)
             g2d.setColor(Color.BLACK);
             // y좌표에 +5를 하여 선에 겹치지 않게 살짝 아래로 내림
-            g2d.drawString(nf.format(currentTick), x0 - padding + 5, y + 5); 
+            g2d.drawString(tickLabels[i], x0 - padding + 5, y + 5); 
 
             // Y축 눈금선 (가로선)
-            g2d.setColor(new Color(230, 230, 230)); // 기존 LIGHT_GRAY보다 연하게
+            g2d.setColor(TICK_COLOR);
             g2d.drawLine(x0, y, x0 + chartWidth, y);
         }
         
@@ -92,7 +109,7 @@ public class YearlyLineChartPanel extends JPanel {
 
         // 6. 데이터 포인트 그리기 (수입 - 파란색)
         g2d.setColor(Color.BLUE);
-        g2d.setStroke(new BasicStroke(2)); // 선 굵기
+        g2d.setStroke(LINE_STROKE); // 선 굵기
         int[] incomeXPoints = new int[12];
         int[] incomeYPoints = new int[12];
         for (int i = 0; i < 12; i++) {
@@ -113,10 +130,10 @@ public class YearlyLineChartPanel extends JPanel {
         
         // 8. 범례
         g2d.setColor(Color.BLUE);
-        g2d.fillRect(getWidth() - padding - 60, padding, 10, 10);
-        g2d.drawString("수입", getWidth() - padding - 45, padding + 10);
+        g2d.fillRect(width - padding - 60, padding, 10, 10);
+        g2d.drawString("수입", width - padding - 45, padding + 10);
         g2d.setColor(Color.RED);
-        g2d.fillRect(getWidth() - padding - 60, padding + 20, 10, 10);
-        g2d.drawString("지출", getWidth() - padding - 45, padding + 30);
+        g2d.fillRect(width - padding - 60, padding + 20, 10, 10);
+        g2d.drawString("지출", width - padding - 45, padding + 30);
     }
 }
\ No newline at end of file
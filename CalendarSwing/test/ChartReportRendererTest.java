@@ -0,0 +1,110 @@
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.Rectangle;
+import java.awt.font.TextAttribute;
+import java.io.ByteArrayInputStream;
+import java.text.AttributedString;
+import java.nio.charset.StandardCharsets;
+import javax.xml.parsers.DocumentBuilderFactory;
+import org.w3c.dom.Document;
+
+/**
+ * 분석 차트 3종을 화면 없이 SvgGraphics2D로 그려 SVG 문서가 올바른 XML인지 확인합니다. (외부 DB 불필요)
+ * 실행: java -cp bin ChartReportRendererTest (test 폴더는 Eclipse 소스 폴더)
+ *
+ * 차트나 TitledBorder가 SvgGraphics2D에서 지원하지 않는 연산을 쓰면 UnsupportedOperationException으로 실패합니다.
+ */
+public class ChartReportRendererTest {
+
+    public static void main(String[] args) throws Exception {
+        System.setProperty("java.awt.headless", "true");
+        System.setProperty(DatabaseManager.STORE_PROPERTY, "memory");
+
+        CategoryRegistry registry = CategoryRegistry.get();
+        LedgerTotals totals = new LedgerTotals();
+        totals.add(CategoryRegistry.TYPE_INCOME, registry.idOf("수입", "급여"), Money.parseMinor("3,000,000"));
+        totals.add(CategoryRegistry.TYPE_EXPENSE, registry.idOf("지출", "식비"), Money.parseMinor("420,000"));
+        totals.add(CategoryRegistry.TYPE_EXPENSE, registry.idOf("지출", "교통"), Money.parseMinor("85,500.5"));
+        totals.add(CategoryRegistry.TYPE_EXPENSE, CategoryRegistry.NO_CATEGORY, Money.parseMinor("12,000"));
+        long income = totals.typeTotal(CategoryRegistry.TYPE_INCOME);
+        long expense = totals.typeTotal(CategoryRegistry.TYPE_EXPENSE);
+
+        long[][] yearly = new long[2][12];
+        for (int month = 0; month < 12; month++) {
+            yearly[CategoryRegistry.TYPE_INCOME][month] = Money.parseMinor("3000000") + month * 10000L * Money.SCALE;
+            yearly[CategoryRegistry.TYPE_EXPENSE][month] = Money.parseMinor("500000") * (month % 4 + 1);
+        }
+
+        check(render("expense_pie", AnalysisView.createExpensePieChart(totals, expense)));
+        check(render("income_expense_bar", AnalysisView.createIncomeExpenseBarChart(income, expense)));
+        check(render("yearly_line", AnalysisView.createYearlyChart(2024, yearly)));
+        // 데이터가 없는 달 (안내 문구만 그림)
+        check(render("empty_pie", AnalysisView.createExpensePieChart(new LedgerTotals(), 0)));
+        checkShapes();
+
+        System.out.println("ChartReportRendererTest 통과");
+    }
+
+    private static Document render(String name, CachedChartPanel chart) throws Exception {
+        SvgGraphics2D svg = new SvgGraphics2D(ChartReportRenderer.DEFAULT_WIDTH, ChartReportRenderer.DEFAULT_HEIGHT);
+        try {
+            chart.renderTo(svg, ChartReportRenderer.DEFAULT_WIDTH, ChartReportRenderer.DEFAULT_HEIGHT);
+        } finally {
+            svg.dispose();
+        }
+        byte[] bytes = svg.toSvg().getBytes(StandardCharsets.UTF_8);
+        try {
+            return DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(new ByteArrayInputStream(bytes));
+        } catch (Exception e) {
+            throw new AssertionError(name + ": SVG를 XML로 읽을 수 없습니다: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 차트가 아직 쓰지 않는 Graphics2D 도형 / 변환 연산도 예외 없이 SVG로 기록되는지 확인합니다.
+     */
+    private static void checkShapes() throws Exception {
+        SvgGraphics2D svg = new SvgGraphics2D(200, 100);
+        try {
+            svg.setBackground(Color.WHITE);
+            svg.clearRect(0, 0, 200, 100);
+            svg.setColor(Color.BLUE);
+            svg.drawOval(10, 10, 30, 20);
+            svg.fillOval(50, 10, 30, 20);
+            svg.drawRoundRect(10, 40, 30, 20, 6, 6);
+            svg.fillRoundRect(50, 40, 30, 20, 6, 6);
+            svg.drawArc(90, 10, 30, 30, 0, 120);
+            svg.drawPolygon(new int[] {130, 150, 140}, new int[] {10, 10, 30}, 3);
+            svg.fillPolygon(new int[] {160, 180, 170}, new int[] {10, 10, 30}, 3);
+            if (!svg.hit(new Rectangle(12, 72, 2, 2), new Rectangle(10, 70, 10, 10), false)
+                    || svg.hit(new Rectangle(190, 5, 2, 2), new Rectangle(10, 70, 10, 10), false)) {
+                throw new AssertionError("hit() 결과가 올바르지 않습니다.");
+            }
+            svg.rotate(Math.PI / 12, 100, 80);
+            svg.shear(0.1, 0);
+            AttributedString text = new AttributedString("회전 글자");
+            text.addAttribute(TextAttribute.FONT, new Font(Font.SANS_SERIF, Font.PLAIN, 12));
+            svg.drawString(text.getIterator(), 90, 80);
+            svg.setXORMode(Color.WHITE);
+            svg.fillRect(10, 70, 10, 10);
+        } finally {
+            svg.dispose();
+        }
+        Document document = DocumentBuilderFactory.newInstance().newDocumentBuilder()
+            .parse(new ByteArrayInputStream(svg.toSvg().getBytes(StandardCharsets.UTF_8)));
+        int paths = document.getElementsByTagName("path").getLength();
+        if (paths < 10) {
+            throw new AssertionError("도형이 모두 기록되지 않았습니다: path " + paths + "개");
+        }
+    }
+
+    private static void check(Document document) {
+        String root = document.getDocumentElement().getTagName();
+        if (!root.equals("svg")) {
+            throw new AssertionError("루트 요소가 svg가 아닙니다: " + root);
+        }
+        if (document.getElementsByTagName("path").getLength() == 0 || document.getElementsByTagName("text").getLength() == 0) {
+            throw new AssertionError("차트 도형 또는 문자열이 기록되지 않았습니다.");
+        }
+    }
+}
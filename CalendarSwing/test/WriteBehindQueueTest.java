@@ -0,0 +1,74 @@
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * WriteBehindQueue 저널 복구 테스트 (메모리 저장소 사용, 외부 DB 불필요)
+ * 실행: java -cp bin WriteBehindQueueTest (test 폴더는 Eclipse 소스 폴더)
+ *
+ * 저장소가 받아 주지 않는 거래(poison row)가 섞인 저널을 복구했을 때
+ * - 나머지 거래는 모두 저장되고
+ * - 그 거래는 실패 저널로 옮겨져 Listener.onFailed로 알려지며
+ * - 원래 저널은 비워지는지 확인합니다.
+ */
+public class WriteBehindQueueTest {
+
+    public static void main(String[] args) throws Exception {
+        System.setProperty(DatabaseManager.STORE_PROPERTY, "memory");
+        Path dir = Files.createTempDirectory("write-behind-test");
+        Path journal = dir.resolve("write-behind.journal");
+        Path failedJournal = dir.resolve("write-behind.journal.failed");
+
+        // 1: 정상, 2: 알 수 없는 유형 (저장소가 거부), 3: 정상, 4: 저장 완료 표시됨
+        Files.write(journal, List.of(
+            "A\t1\t1\t2024-03-01\t지출\t500000\t식비\t점심",
+            "A\t2\t1\t2024-03-02\t이체\t100000\t\\0\t잘못된 유형",
+            "A\t3\t1\t2024-03-03\t수입\t3000000\t급여\t\\0",
+            "A\t4\t1\t2024-03-04\t지출\t20000\t교통\t버스",
+            "D\t4"), StandardCharsets.UTF_8);
+
+        LedgerStore store = DatabaseManager.store();
+        List<Integer> committedIds = new ArrayList<>();
+        List<WriteBehindQueue.Pending> deadLetters = new ArrayList<>();
+        WriteBehindQueue queue = new WriteBehindQueue(store, journal, 200, 5);
+        queue.setListener(new WriteBehindQueue.Listener() {
+            @Override
+            public synchronized void onCommitted(List<WriteBehindQueue.Pending> committed, List<Integer> ids, int remaining) {
+                committedIds.addAll(ids);
+            }
+
+            @Override
+            public synchronized void onFailed(WriteBehindQueue.Pending deadLetter, int remaining, int attempt, String message) {
+                if (deadLetter != null) {
+                    deadLetters.add(deadLetter);
+                }
+            }
+        });
+
+        check(queue.flush(60000), "복구한 거래가 모두 처리되어야 함 (대기 " + queue.getPendingCount() + "건)");
+        queue.shutdown(1000);
+
+        check(committedIds.size() == 2, "정상 거래 2건 저장: " + committedIds);
+        List<Transaction> march = store.findMonth(1, 2024, 3);
+        check(march.size() == 2, "3월 거래 2건: " + march.size());
+        check(march.get(0).getContent().equals("점심") && march.get(1).getType().equals("수입"), "저장된 거래 내용");
+
+        check(deadLetters.size() == 1, "실패 거래 1건 알림: " + deadLetters.size());
+        check(deadLetters.get(0).getTransaction().getType().equals("이체"), "실패 거래는 2번 거래");
+
+        List<String> failed = Files.readAllLines(failedJournal, StandardCharsets.UTF_8);
+        check(failed.size() == 1 && failed.get(0).contains("\t이체\t") && failed.get(0).endsWith("잘못된 유형"),
+            "실패 저널에 2번 거래 기록: " + failed);
+        check(Files.size(journal) == 0, "저널 비워짐: " + Files.readAllLines(journal, StandardCharsets.UTF_8));
+
+        System.out.println("WriteBehindQueueTest 통과");
+    }
+
+    private static void check(boolean condition, String message) {
+        if (!condition) {
+            throw new AssertionError(message);
+        }
+    }
+}